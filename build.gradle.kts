@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,21 +24,47 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.caffeine)
+    implementation(libs.jackson.dataformat.cbor)
+    implementation(libs.jackson.dataformat.smile)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     testImplementation(libs.spring.boot.starter.test)
 }
 
 // about source and compilation
+// -PvirtualThreads 지정 시 Java 21 툴체인으로 빌드/실행 (가상 스레드 모드, application-virtual.yml 참고)
+val virtualThreads = providers.gradleProperty("virtualThreads").isPresent
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    if (virtualThreads) {
+        toolchain {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        }
+    } else {
+        sourceCompatibility = JavaVersion.VERSION_17
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark (./gradlew jmh, src/jmh/java)
+// -Pjmh.includes=<정규식> 으로 특정 벤치마크만, -Pjmh.profilers=gc 로 할당량(B/op) 측정
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+    providers.gradleProperty("jmh.profilers").orNull?.let { profilers.set(it.split(",")) }
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -48,5 +75,24 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("perf")
+    }
+}
+// 처리량 비교 등 오래 걸리는 성능 테스트 (./gradlew perfTest)
+tasks.register<Test>("perfTest") {
+    description = "Runs throughput/load comparison tests tagged with 'perf'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("perf")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    // 가상 스레드 모드에서 캐리어 스레드 고정(pinning)이 발생하면 스택을 출력
+    if (virtualThreads) {
+        jvmArgs("-Djdk.tracePinnedThreads=short")
+    }
 }
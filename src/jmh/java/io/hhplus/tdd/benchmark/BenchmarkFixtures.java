@@ -0,0 +1,119 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.service.DailyPointAccumulator;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.cache.UserPointCache;
+import io.hhplus.tdd.infrastructure.cache.UserPointCacheProperties;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.GroupCommitPointHistoryWriter;
+import io.hhplus.tdd.infrastructure.database.GroupCommitProperties;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointStore;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.executor.PointExecutorProperties;
+import io.hhplus.tdd.infrastructure.executor.PointTaskExecutor;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.lock.CoalescingProperties;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import io.hhplus.tdd.infrastructure.lock.OptimisticRetryPolicy;
+import io.hhplus.tdd.infrastructure.lock.UserLockManager;
+import io.hhplus.tdd.infrastructure.lock.UserRequestCoalescer;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.hhplus.tdd.infrastructure.time.CachedKSTTimeProvider;
+import io.hhplus.tdd.infrastructure.time.ITimeProvider;
+import io.hhplus.tdd.infrastructure.wal.WalProperties;
+import io.hhplus.tdd.infrastructure.wal.WriteAheadLog;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크 공용 구성
+ * 테이블의 지연 시뮬레이션을 끈 상태(LatencyModel.zero())로 서비스/테이블을 구성하여
+ * 코드 자체의 처리 비용만 측정할 수 있도록 함
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new AssertionError("인스턴스 생성 불가");
+    }
+
+    static UserPointTable userPointTable() {
+        return userPointTable(new ConcurrentMapUserPointStore());
+    }
+
+    static UserPointTable userPointTable(UserPointStore store) {
+        return new UserPointTable(LatencyModel.zero(), store);
+    }
+
+    static PointHistoryTable pointHistoryTable() {
+        return pointHistoryTable(new InMemoryPointHistoryStore());
+    }
+
+    static PointHistoryTable pointHistoryTable(PointHistoryStore store) {
+        return new PointHistoryTable(LatencyModel.zero(), store);
+    }
+
+    // 기본 설정(잔액 캐시 사용, 그룹 커밋/WAL 미사용)의 포인트 서비스
+    static PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        return pointService(userPointTable, pointHistoryTable, ConcurrencyProperties.Mode.PESSIMISTIC);
+    }
+
+    // 동시성 제어 방식(PESSIMISTIC / OPTIMISTIC)을 지정한 포인트 서비스 (잔액 캐시 사용, 그룹 커밋/WAL 미사용)
+    static PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                     ConcurrencyProperties.Mode mode) {
+        ConcurrencyProperties concurrency = concurrencyProperties(mode, 0);
+        return pointService(userPointTable, pointHistoryTable, new CachedKSTTimeProvider(), true,
+                concurrency, new ShardedCommandProcessor(concurrency), false);
+    }
+
+    // 요청 결합 사용 여부를 지정한 포인트 서비스 (비관적 락, 잔액 캐시 사용, 그룹 커밋/WAL 미사용)
+    static PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, boolean coalescing) {
+        ConcurrencyProperties concurrency = concurrencyProperties(ConcurrencyProperties.Mode.PESSIMISTIC, 0);
+        return pointService(userPointTable, pointHistoryTable, new CachedKSTTimeProvider(), true,
+                concurrency, new ShardedCommandProcessor(concurrency), coalescing);
+    }
+
+    // 시간 제공자/잔액 캐시 사용 여부를 지정한 포인트 서비스 (비관적 락, 그룹 커밋/WAL 미사용)
+    static PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                     ITimeProvider timeProvider, boolean cacheEnabled) {
+        ConcurrencyProperties concurrency = concurrencyProperties(ConcurrencyProperties.Mode.PESSIMISTIC, 0);
+        return pointService(userPointTable, pointHistoryTable, timeProvider, cacheEnabled,
+                concurrency, new ShardedCommandProcessor(concurrency), false);
+    }
+
+    // SHARDED 모드의 포인트 서비스 (샤드 처리기의 시작/종료는 호출자가 관리)
+    static PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                     ShardedCommandProcessor processor) {
+        return pointService(userPointTable, pointHistoryTable, new CachedKSTTimeProvider(), true,
+                concurrencyProperties(ConcurrencyProperties.Mode.SHARDED, processor.shardCount()), processor, false);
+    }
+
+    static ConcurrencyProperties concurrencyProperties(ConcurrencyProperties.Mode mode, int shards) {
+        return new ConcurrencyProperties(mode, 10, Duration.ofMillis(1), Duration.ofMillis(50), shards, 1024);
+    }
+
+    private static PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                             ITimeProvider timeProvider, boolean cacheEnabled,
+                                             ConcurrencyProperties concurrency, ShardedCommandProcessor processor,
+                                             boolean coalescing) {
+        UserLockManager userLockManager = new UserLockManager();
+        return new PointService(
+                userPointTable,
+                pointHistoryTable,
+                timeProvider,
+                userLockManager,
+                new DailyPointAccumulator(),
+                new GroupCommitPointHistoryWriter(pointHistoryTable, new GroupCommitProperties(false, 256, Duration.ofMillis(5))),
+                new UserPointCache(new UserPointCacheProperties(cacheEnabled, 10_000)),
+                new PointTaskExecutor(new PointExecutorProperties(16, 64, 1000, Duration.ofSeconds(60), false)),
+                new WriteAheadLog(userPointTable, pointHistoryTable, new WalProperties(false, "data/wal", Duration.ZERO, Duration.ofMinutes(5))),
+                new OptimisticRetryPolicy(concurrency),
+                processor,
+                new UserRequestCoalescer(new CoalescingProperties(coalescing, 256), userLockManager),
+                PointMetrics.noop()
+        );
+    }
+}
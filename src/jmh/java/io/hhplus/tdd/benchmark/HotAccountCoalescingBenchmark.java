@@ -0,0 +1,71 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핫 계정 요청 결합(point.coalescing) 벤치마크
+ * 소수 계정에 동시 사용 요청을 몰아, 요청마다 잔액 조회/저장 왕복을 지불하는 경우와 결합하여 한 번에 지불하는 경우를 비교
+ * - 다른 벤치마크와 달리 테이블 지연을 고정 1ms 로 두어 왕복 비용이 드러나도록 함
+ * - users : 요청이 몰리는 계정 수 (1: 단일 프로모션 지갑)
+ * - coalescing : false(요청마다 사용자 락 구간에서 개별 처리) / true(락을 기다리는 동안 쌓인 요청을 한 번에 처리)
+ * 정책 제약:
+ * - 결합 시 처리량이 크게 늘어 일일 사용 한도(10,000,000)에 닿지 않도록 측정 반복(iteration)을 1초로 줄이고,
+ *   반복마다 테이블/서비스를 새로 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HotAccountCoalescingBenchmark {
+
+    private static final Duration TABLE_LATENCY = Duration.ofMillis(1);
+
+    @Param({"1", "16"})
+    int users;
+
+    @Param({"false", "true"})
+    boolean coalescing;
+
+    private PointService pointService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        LatencyModel latency = LatencyModel.fixed(TABLE_LATENCY);
+        UserPointTable userPointTable = new UserPointTable(latency, new ConcurrentMapUserPointStore());
+        for (long id = 1; id <= users; id++) {
+            userPointTable.insertOrUpdate(id, PointPolicy.MAX_POINT_BALANCE);
+        }
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(latency, new InMemoryPointHistoryStore());
+        pointService = BenchmarkFixtures.pointService(userPointTable, pointHistoryTable, coalescing);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UserPoint use_hotAccount() {
+        return pointService.use(ThreadLocalRandom.current().nextLong(users) + 1, PointPolicy.MIN_USE_AMOUNT);
+    }
+}
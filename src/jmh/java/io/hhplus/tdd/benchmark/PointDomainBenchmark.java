@@ -0,0 +1,76 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.vo.ChargeAmount;
+import io.hhplus.tdd.domain.point.vo.Point;
+import io.hhplus.tdd.domain.point.vo.UseAmount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 도메인(VO) 연산 벤치마크
+ * - Point.charge / Point.use
+ * - ChargeAmount.validated / UseAmount.validated
+ * VO 는 불변 객체이므로 스레드 간 공유 상태가 없어, 단일/멀티 스레드 결과 차이는 할당/GC 비용 차이를 의미
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointDomainBenchmark {
+
+    // 상수 폴딩을 막기 위해 필드로 보관
+    private long amount = 10_000L;
+    private Point point;
+    private ChargeAmount chargeAmount;
+    private UseAmount useAmount;
+
+    @Setup
+    public void setUp() {
+        point = Point.of(1_000_000L);
+        chargeAmount = ChargeAmount.validated(amount);
+        useAmount = UseAmount.validated(amount);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Point pointCharge() {
+        return point.charge(chargeAmount);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Point pointUse() {
+        return point.use(useAmount);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ChargeAmount chargeAmountValidated() {
+        return ChargeAmount.validated(amount);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UseAmount useAmountValidated() {
+        return UseAmount.validated(amount);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Point pointCharge_multiThread() {
+        return point.charge(chargeAmount);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Point pointUse_multiThread() {
+        return point.use(useAmount);
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.domain.point.policy.PointRules;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.domain.point.vo.ChargeAmount;
+import io.hhplus.tdd.domain.point.vo.Point;
+import io.hhplus.tdd.domain.point.vo.UseAmount;
+import io.hhplus.tdd.infrastructure.database.MappedPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.OpenAddressingUserPointStore;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.time.CachedKSTTimeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 할당 없는 충전/사용 경로(chargeFast/useFast) 벤치마크
+ * 같은 구성(OPEN_ADDRESSING 잔액 저장 + MAPPED 이력 저장, 캐시/그룹 커밋/WAL 미사용)에서
+ * 기존 객체 경로(charge/use)와 할당 없는 경로를 비교
+ * - 할당량은 -prof gc 의 gc.alloc.rate.norm(B/op)으로 확인
+ *   ./gradlew jmh -Pjmh.includes=PointFastPath -Pjmh.profilers=gc
+ * - KSTTimeProvider 는 호출마다 날짜 객체를 만들므로, 하루 구간을 캐시하는 CachedKSTTimeProvider 를 사용
+ * - 측정 전 모든 사용자를 한 번씩 충전/사용하여 일일 누적 금액/이력 인덱스의 최초 적재 비용을 제외
+ * - 규칙 비교 : PointRules(long 연산) / VO(ChargeAmount, UseAmount, Point) 체인
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointFastPathBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+        @Param({"100000"})
+        int users;
+
+        Path directory;
+        MappedPointHistoryStore historyStore;
+        PointService pointService;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("fast-path");
+            historyStore = MappedPointHistoryStore.open(directory, 1 << 20);
+            UserPointTable userPointTable = BenchmarkFixtures.userPointTable(new OpenAddressingUserPointStore(users, 64));
+            for (long id = 1; id <= users; id++) {
+                userPointTable.insertOrUpdate(id, PointPolicy.MAX_POINT_BALANCE / 2);
+            }
+            pointService = BenchmarkFixtures.pointService(userPointTable,
+                    BenchmarkFixtures.pointHistoryTable(historyStore), new CachedKSTTimeProvider(), false);
+            for (long id = 1; id <= users; id++) {
+                pointService.chargeFast(id, PointPolicy.MIN_CHARGE_AMOUNT);
+                pointService.useFast(id, PointPolicy.MIN_USE_AMOUNT);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            historyStore.close();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RulesState {
+        // 상수 폴딩을 막기 위해 필드로 보관
+        long balance = 1_000_000L;
+        long amount = 10_000L;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint charge(ServiceState state) {
+        return state.pointService.charge(nextUser(state.users), PointPolicy.MIN_CHARGE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long chargeFast(ServiceState state) {
+        return state.pointService.chargeFast(nextUser(state.users), PointPolicy.MIN_CHARGE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint use(ServiceState state) {
+        return state.pointService.use(nextUser(state.users), PointPolicy.MIN_USE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long useFast(ServiceState state) {
+        return state.pointService.useFast(nextUser(state.users), PointPolicy.MIN_USE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long chargeFast_multiThread(ServiceState state) {
+        return state.pointService.chargeFast(nextUser(state.users), PointPolicy.MIN_CHARGE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long rulesCharge(RulesState state) {
+        return PointRules.charge(state.balance, state.amount, 0L);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long voCharge(RulesState state) {
+        return Point.of(state.balance).charge(ChargeAmount.validated(state.amount)).value();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long rulesUse(RulesState state) {
+        return PointRules.use(state.balance, state.amount, 0L);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long voUse(RulesState state) {
+        return Point.of(state.balance).use(UseAmount.validated(state.amount)).value();
+    }
+
+    private static long nextUser(int users) {
+        return ThreadLocalRandom.current().nextLong(users) + 1;
+    }
+}
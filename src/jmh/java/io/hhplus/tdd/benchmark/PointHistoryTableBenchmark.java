@@ -0,0 +1,107 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.MappedPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PendingPointHistory;
+import io.hhplus.tdd.infrastructure.database.PointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * PointHistoryTable.selectAllByUserId 벤치마크
+ * 전체 이력 수(rows)를 늘려가며 한 사용자의 이력 조회 비용을 측정
+ * - 이력은 USERS 명에게 고르게 분산 (사용자당 rows / USERS 건)
+ * - 사용자 인덱스를 사용하므로 조회 비용은 전체 이력 수가 아닌 사용자 이력 수에 비례해야 함
+ * - store : MEMORY(힙 청크 리스트) / MAPPED(메모리 맵 컬럼 파일) 저장 구조 비교
+ *   (힙 사용량 비교는 -prof gc 또는 실행 중 힙 덤프로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryTableBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    @Param({"MEMORY", "MAPPED"})
+    String store;
+
+    private Path directory;
+    private PointHistoryStore pointHistoryStore;
+    private PointHistoryTable pointHistoryTable;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("MAPPED".equals(store)) {
+            directory = Files.createTempDirectory("history-store");
+            pointHistoryStore = MappedPointHistoryStore.open(directory, 1 << 20);
+        } else {
+            pointHistoryStore = new InMemoryPointHistoryStore();
+        }
+        pointHistoryTable = BenchmarkFixtures.pointHistoryTable(pointHistoryStore);
+        List<PendingPointHistory> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            batch.add(new PendingPointHistory(i % USERS + 1, 1_000L, type, i));
+            if (batch.size() == INSERT_BATCH) {
+                pointHistoryTable.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            pointHistoryTable.insertAll(batch);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (pointHistoryStore instanceof MappedPointHistoryStore mapped) {
+            mapped.close();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PointHistory> selectAllByUserId_singleThread() {
+        return pointHistoryTable.selectAllByUserId(nextUser());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<PointHistory> selectAllByUserId_multiThread() {
+        return pointHistoryTable.selectAllByUserId(nextUser());
+    }
+
+    private static long nextUser() {
+        return ThreadLocalRandom.current().nextLong(USERS) + 1;
+    }
+}
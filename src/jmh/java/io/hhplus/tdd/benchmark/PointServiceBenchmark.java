@@ -0,0 +1,101 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 충전/사용 벤치마크 (테이블 지연 없음)
+ * 측정 프로필:
+ * - 단일 스레드 (@Threads(1)) / 멀티 스레드 (@Threads(8))
+ * - users : 요청이 분산되는 사용자 수 (작을수록 같은 사용자 락에 대한 경합이 커짐)
+ * - mode : PESSIMISTIC(사용자 락) / OPTIMISTIC(버전 비교 후 저장, 충돌 시 재시도) 동시성 제어 비교
+ * 정책 제약:
+ * - 일일 충전 한도(3,000,000)로 인해 소수 계정에 충전을 집중시키면 측정 도중 한도 초과가 발생하므로
+ *   충전은 100,000명에 분산시켜 측정하고, 핫 계정 경합은 사용(use) 벤치마크로 측정
+ * - 측정 반복(iteration)마다 테이블/서비스를 새로 구성하여 이력 누적과 일일 한도의 영향을 제거
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ChargeState {
+        @Param({"100000"})
+        int users;
+
+        @Param({"PESSIMISTIC", "OPTIMISTIC"})
+        ConcurrencyProperties.Mode mode;
+
+        PointService pointService;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            pointService = BenchmarkFixtures.pointService(BenchmarkFixtures.userPointTable(), BenchmarkFixtures.pointHistoryTable(), mode);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UseState {
+        // 256: 소수 핫 계정에 집중 / 100000: 분산
+        @Param({"256", "100000"})
+        int users;
+
+        @Param({"PESSIMISTIC", "OPTIMISTIC"})
+        ConcurrencyProperties.Mode mode;
+
+        PointService pointService;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            UserPointTable userPointTable = BenchmarkFixtures.userPointTable();
+            for (long id = 1; id <= users; id++) {
+                userPointTable.insertOrUpdate(id, PointPolicy.MAX_POINT_BALANCE);
+            }
+            pointService = BenchmarkFixtures.pointService(userPointTable, BenchmarkFixtures.pointHistoryTable(), mode);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint charge_singleThread(ChargeState state) {
+        return state.pointService.charge(nextUser(state.users), PointPolicy.MIN_CHARGE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint charge_multiThread(ChargeState state) {
+        return state.pointService.charge(nextUser(state.users), PointPolicy.MIN_CHARGE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint use_singleThread(UseState state) {
+        return state.pointService.use(nextUser(state.users), PointPolicy.MIN_USE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint use_multiThread(UseState state) {
+        return state.pointService.use(nextUser(state.users), PointPolicy.MIN_USE_AMOUNT);
+    }
+
+    private static long nextUser(int users) {
+        return ThreadLocalRandom.current().nextLong(users) + 1;
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샤드 단일 작성자 처리(SHARDED) 처리량 벤치마크 (테이블 지연 없음)
+ * 샤드 수를 늘려가며 충전 처리량이 코어 수까지 늘어나는지 확인
+ * - shards : 샤드(처리 스레드) 수 - 측정 머신의 코어 수보다 크게 잡으면 처리량이 더 늘지 않아야 함
+ * - charge_multiThread : 8개 스레드가 동기 API 로 요청 (요청 스레드당 처리 중인 명령 1개)
+ * - chargeAsync_pipelined : 비동기 API 로 64건씩 넣고 한 번에 기다림 (샤드 링 버퍼를 채워 샤드 스레드만의 처리량 측정)
+ * 측정 반복(iteration)마다 처리기/테이블을 새로 구성하여 이력 누적과 일일 한도의 영향을 제거
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShardedCommandProcessorBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int PIPELINE = 64;
+
+    @Param({"1", "2", "4", "8"})
+    int shards;
+
+    private ShardedCommandProcessor processor;
+    private PointService pointService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        processor = new ShardedCommandProcessor(
+                BenchmarkFixtures.concurrencyProperties(ConcurrencyProperties.Mode.SHARDED, shards));
+        processor.start();
+        pointService = BenchmarkFixtures.pointService(BenchmarkFixtures.userPointTable(), BenchmarkFixtures.pointHistoryTable(), processor);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        processor.stop();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint charge_multiThread() {
+        return pointService.charge(nextUser(), PointPolicy.MIN_CHARGE_AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(2)
+    @OperationsPerInvocation(PIPELINE)
+    public Object chargeAsync_pipelined() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[PIPELINE];
+        for (int i = 0; i < PIPELINE; i++) {
+            futures[i] = pointService.chargeAsync(nextUser(), PointPolicy.MIN_CHARGE_AMOUNT);
+        }
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    private static long nextUser() {
+        return ThreadLocalRandom.current().nextLong(USERS) + 1;
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.infrastructure.time.CachedKSTTimeProvider;
+import io.hhplus.tdd.infrastructure.time.ITimeProvider;
+import io.hhplus.tdd.infrastructure.time.KSTTimeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 제공자 벤치마크
+ * PointService 가 충전/사용마다 호출하는 하루 구간 조회(오늘 시작 + 내일 시작)와 dayIndex 를 비교
+ * - KST    : 호출마다 LocalDate/ZonedDateTime 계산 (KSTTimeProvider)
+ * - CACHED : 캐시한 하루 구간을 volatile 읽기로 반환 (CachedKSTTimeProvider)
+ * 할당량 차이는 -Pjmh.profilers=gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeProviderBenchmark {
+
+    @Param({"KST", "CACHED"})
+    String provider;
+
+    private ITimeProvider timeProvider;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        timeProvider = provider.equals("KST") ? new KSTTimeProvider() : new CachedKSTTimeProvider();
+        now = timeProvider.getCurrentTimeMillis();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long dayWindow() {
+        return timeProvider.getStartOfTomorrowMillis() - timeProvider.getStartOfTodayMillis();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long dayWindow_multiThread() {
+        return timeProvider.getStartOfTomorrowMillis() - timeProvider.getStartOfTodayMillis();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long dayIndex() {
+        return timeProvider.dayIndex(now);
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.hhplus.tdd.domain.point.dto.BulkPointRequest;
+import io.hhplus.tdd.domain.point.dto.ChargeRequest;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 API 전송 형식 벤치마크 (WireFormatConfig)
+ * 같은 DTO 를 JSON / Smile / CBOR 로 직렬화/역직렬화하는 비용을 비교
+ * - write : 응답 본문 (UserPoint, 이력 목록 100건)
+ * - read  : 요청 본문 (ChargeRequest, 일괄 요청 100건)
+ * HTTP 컨버터와 같이 요청마다 ObjectMapper 로 바이트 배열을 읽고 씀
+ * 본문 크기는 setUp 에서 형식별로 출력, 할당량 차이는 -Pjmh.profilers=gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class WireFormatBenchmark {
+
+    private static final int BATCH = 100;
+    private static final TypeReference<List<PointHistory>> HISTORY_LIST = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    String format;
+
+    private ObjectMapper objectMapper;
+    private UserPoint userPoint;
+    private List<PointHistory> histories;
+    private byte[] chargeRequestBytes;
+    private byte[] historiesBytes;
+    private byte[] bulkRequestBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper(factory(format));
+        long now = System.currentTimeMillis();
+        userPoint = new UserPoint(1L, 1_234_567L, now);
+        histories = new ArrayList<>(BATCH);
+        List<PointOperation> operations = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            histories.add(new PointHistory(i + 1, 1L, 1_000L + i, type, now + i));
+            operations.add(new PointOperation(i + 1, 1_000L + i));
+        }
+        chargeRequestBytes = objectMapper.writeValueAsBytes(new ChargeRequest(10_000L));
+        historiesBytes = objectMapper.writeValueAsBytes(histories);
+        bulkRequestBytes = objectMapper.writeValueAsBytes(new BulkPointRequest(operations));
+        System.out.printf("%n[%s] UserPoint %dB, ChargeRequest %dB, 이력 %d건 %dB, 일괄 요청 %d건 %dB%n",
+                format, objectMapper.writeValueAsBytes(userPoint).length, chargeRequestBytes.length,
+                BATCH, historiesBytes.length, BATCH, bulkRequestBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeUserPoint() throws IOException {
+        return objectMapper.writeValueAsBytes(userPoint);
+    }
+
+    @Benchmark
+    public ChargeRequest readChargeRequest() throws IOException {
+        return objectMapper.readValue(chargeRequestBytes, ChargeRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeHistories() throws IOException {
+        return objectMapper.writeValueAsBytes(histories);
+    }
+
+    @Benchmark
+    public List<PointHistory> readHistories() throws IOException {
+        return objectMapper.readValue(historiesBytes, HISTORY_LIST);
+    }
+
+    @Benchmark
+    public BulkPointRequest readBulkRequest() throws IOException {
+        return objectMapper.readValue(bulkRequestBytes, BulkPointRequest.class);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "SMILE" -> new SmileFactory();
+            case "CBOR" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 운영용 전체 사용자 이력 내보내기 설정 (AdminPointController)
+ * 전체 사용자의 이력을 읽는 무거운 작업이므로 기본값은 비활성이며, 정산 배치만 접근하는 환경에서 켬
+ * @param enabled 내보내기 API 사용 여부 (false 이면 API 를 등록하지 않음 → 404)
+ * @param maxWindow 한 번에 요청할 수 있는 최대 시간 범위 (to - from)
+ */
+@ConfigurationProperties(prefix = "point.admin.export")
+public record AdminExportProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1d") Duration maxWindow
+) {
+    public AdminExportProperties {
+        if (maxWindow.isNegative() || maxWindow.isZero()) {
+            throw new IllegalArgumentException("이력 내보내기 최대 조회 범위는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.api.exception.ErrorResponse;
+import io.hhplus.tdd.api.interceptor.RateLimitInterceptor;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 충전/사용 API 속도 제한 구성 (point.rate-limit 설정)
+ * API 별로 인터셉터를 등록하여 같은 사용자의 충전/사용이 각자의 버킷과 사용자 전체 버킷을 함께 사용하도록 함
+ */
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final UserRateLimiter rateLimiter;
+    private final byte[] rejectedBody;
+
+    public RateLimitConfig(UserRateLimiter rateLimiter, ObjectMapper objectMapper) throws JsonProcessingException {
+        this.rateLimiter = rateLimiter;
+        this.rejectedBody = objectMapper.writeValueAsBytes(new ErrorResponse("429", ApiErrorMessages.RATE_LIMITED));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!rateLimiter.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, TransactionType.CHARGE, rejectedBody))
+                .addPathPatterns("/point/{id}/charge");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, TransactionType.USE, rejectedBody))
+                .addPathPatterns("/point/{id}/use");
+    }
+}
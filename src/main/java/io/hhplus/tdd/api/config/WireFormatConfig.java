@@ -0,0 +1,31 @@
+package io.hhplus.tdd.api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 포인트 API 바이너리 전송 형식 구성
+ * JSON 외에 CBOR(application/cbor), Smile(application/x-jackson-smile) 요청/응답을 지원
+ * - 형식은 Accept(응답) / Content-Type(요청) 헤더로 선택하며, 헤더가 없으면 JSON
+ * - 필드 이름/구조는 JSON 과 같고 인코딩만 바이너리이므로 DTO 변경 없이 사용 (숫자는 가변 길이 정수로 기록)
+ * - Spring Boot 가 설정(spring.jackson.*)을 반영한 Jackson2ObjectMapperBuilder 로 만들어 JSON 과 같은 직렬화 규칙을 사용
+ *   (등록한 컨버터는 Spring MVC 기본 CBOR/Smile 컨버터를 대체)
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.api.config.AdminExportProperties;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.stream.Stream;
+
+/**
+ * 운영/정산용 포인트 API
+ * 사용자 단위 API(PointController)와 분리하여 전체 사용자를 대상으로 하는 작업만 제공
+ * - point.admin.export.enabled=true 일 때만 등록 (기본 비활성, 비활성이면 404)
+ */
+@RestController
+@ConditionalOnProperty(prefix = "point.admin.export", name = "enabled", havingValue = "true")
+@RequestMapping("/admin/point")
+@RequiredArgsConstructor
+public class AdminPointController {
+
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final AdminExportProperties exportProperties;
+
+    /**
+     * 전체 사용자의 포인트 이력을 시간 범위로 NDJSON(한 줄에 이력 하나) 내보내기 (정산 배치용)
+     * - from, to : updateMillis 기준 [from, to) 범위 (필수, 최대 point.admin.export.max-window)
+     * - 사용자별로는 (updateMillis, id) 순이며, 사용자 간 순서는 보장하지 않음
+     * - 저장 구조에서 한 행씩 읽어 바로 응답에 쓰므로 이력 수와 무관하게 메모리 사용량이 일정
+     */
+    @GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @RequestParam long from,
+            @RequestParam long to
+    ) {
+        if (from >= to) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_RANGE_INVALID);
+        }
+        // from < to 이므로 차이는 항상 양수 (long 범위를 넘는 경우도 부호 없는 값으로는 정확)
+        if (Long.compareUnsigned(to - from, exportProperties.maxWindow().toMillis()) > 0) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_EXPORT_RANGE_TOO_LONG);
+        }
+        Stream<PointHistory> histories = pointService.exportAllHistory(from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(PointHistoryNdjson.body(objectMapper, histories));
+    }
+}
@@ -1,72 +1,167 @@
 package io.hhplus.tdd.api.controller;
 
+import io.hhplus.tdd.domain.point.dto.BulkPointRequest;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointSummary;
 import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
 import io.hhplus.tdd.domain.point.service.PointService;
 import io.hhplus.tdd.domain.point.model.UserPoint;
 import io.hhplus.tdd.domain.point.dto.ChargeRequest;
 import io.hhplus.tdd.domain.point.dto.UsePointRequest;
 import io.hhplus.tdd.common.error.ApiErrorMessages;
 import io.hhplus.tdd.common.utils.AssertUtil;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+/**
+ * 포인트 API
+ * 포인트 조회/충전/사용은 PointService 의 비동기 API 결과(CompletableFuture)를 그대로 반환하여
+ * 테이블 지연 동안 요청 스레드(Tomcat)를 반납하고, Future 가 완료되면 Spring MVC 가 응답을 이어서 작성
+ */
 @RestController
 @RequestMapping("/point")
 @RequiredArgsConstructor
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public UserPoint point(
+    public CompletableFuture<UserPoint> point(
             @PathVariable long id
     ) {
         AssertUtil.requirePositive(id, ApiErrorMessages.USER_ID_NEGATIVE);
-        return new UserPoint(0, 0, 0);
+        return pointService.pointAsync(id);
     }
 
     /**
-     * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * 특정 유저의 포인트 충전/이용 내역을 페이지 단위로 조회
+     * - type : CHARGE / USE 필터 (생략 시 전체)
+     * - from, to : updateMillis 기준 [from, to) 조회 범위 (생략 시 전체 기간)
+     * - cursor : 이전 응답의 nextCursor (생략 시 처음부터)
+     * - limit : 페이지 크기 (기본 100, 최대 1,000)
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
+    public PointHistoryPage history(
+            @PathVariable long id,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        AssertUtil.requirePositive(id, ApiErrorMessages.USER_ID_NEGATIVE);
+        return pointService.history(id, PointHistoryQuery.of(type, from, to, cursor, limit));
+    }
+
+    /**
+     * 특정 유저의 포인트 이력 전체를 NDJSON(한 줄에 이력 하나)으로 내보내기
+     * - type : CHARGE / USE 필터 (생략 시 전체)
+     * - from, to : updateMillis 기준 [from, to) 범위 (생략 시 전체 기간)
+     * - 이력 목록을 만들지 않고 저장 구조에서 한 행씩 읽어 바로 응답에 쓰므로 이력 수와 무관하게 메모리 사용량이 일정
+     *   (응답은 chunked 로 전송되며, 검증 실패는 응답을 쓰기 전에 예외로 처리)
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable long id,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        AssertUtil.requirePositive(id, ApiErrorMessages.USER_ID_NEGATIVE);
+        Stream<PointHistory> histories = pointService.exportHistory(id, type,
+                from == null ? Long.MIN_VALUE : from, to == null ? Long.MAX_VALUE : to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(PointHistoryNdjson.body(objectMapper, histories));
+    }
+
+    /**
+     * 특정 유저의 포인트 이력 요약 조회
+     * - 누적 충전/사용 금액, 마지막 이력 시각, 일별/월별(한국 시간 기준) 충전/사용 합계
+     * - 이력 저장 시점에 누적된 값을 반환하므로 전체 이력을 조회하지 않음
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
             @PathVariable long id
     ) {
         AssertUtil.requirePositive(id, ApiErrorMessages.USER_ID_NEGATIVE);
-        return List.of();
+        return pointService.summary(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더를 보내면 같은 키의 재시도는 다시 충전하지 않고 첫 요청의 결과를 반환 (IdempotencyStore)
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
             @PathVariable long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             //@RequestBody long amount
             @RequestBody ChargeRequest request // 기본 검증을 위한 DTO 사용
     ) {
         AssertUtil.requirePositive(id, ApiErrorMessages.USER_ID_NEGATIVE);
-        return pointService.charge(id, request.amount());
+        return idempotencyStore.execute(idempotencyKey, id, TransactionType.CHARGE, request.amount(),
+                () -> pointService.chargeAsync(id, request.amount()));
 
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더를 보내면 같은 키의 재시도는 다시 사용하지 않고 첫 요청의 결과를 반환 (IdempotencyStore)
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<UserPoint> use(
             @PathVariable long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             // @RequestBody long amount
             @RequestBody UsePointRequest request // 기본 검증을 위한 DTO 사용
     ) {
         AssertUtil.requirePositive(id, ApiErrorMessages.USER_ID_NEGATIVE);
-        return pointService.use(id, request.amount());
+        return idempotencyStore.execute(idempotencyKey, id, TransactionType.USE, request.amount(),
+                () -> pointService.useAsync(id, request.amount()));
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전 (야간 적립 배치 등)
+     * - 같은 유저의 항목은 요청 순서대로 적용되며, 항목별 성공/실패 결과를 요청 순서대로 반환
+     * - 한 번에 최대 10,000건 (BulkPointRequest.MAX_OPERATIONS)
+     */
+    @PostMapping("bulk/charge")
+    public List<PointOperationResult> chargeAll(
+            @RequestBody BulkPointRequest request
+    ) {
+        return pointService.chargeAll(request.operations());
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 사용
+     * - 같은 유저의 항목은 요청 순서대로 적용되며, 항목별 성공/실패 결과를 요청 순서대로 반환
+     */
+    @PostMapping("bulk/use")
+    public List<PointOperationResult> useAll(
+            @RequestBody BulkPointRequest request
+    ) {
+        return pointService.useAll(request.operations());
     }
 }
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 이력 스트림을 NDJSON(한 줄에 이력 하나) 응답 본문으로 쓰는 도구
+ * - 행마다 flush 하지 않고 응답 버퍼가 찰 때마다 전송하며, 각 줄은 개행으로 끝남
+ * - 스트림은 forEach 로 밀어 넣는 방식으로 소비하여 전체 사용자 스트림(flatMap)도 사용자 단위로 버퍼링하지 않음
+ *   (iterator 로 당겨 읽으면 flatMap 의 내부 스트림이 통째로 버퍼에 쌓임)
+ * - 응답을 다 쓰거나 쓰기에 실패하면 스트림을 닫음
+ */
+final class PointHistoryNdjson {
+
+    private PointHistoryNdjson() {
+        throw new AssertionError("인스턴스 생성 불가");
+    }
+
+    static StreamingResponseBody body(ObjectMapper objectMapper, Stream<PointHistory> histories) {
+        ObjectWriter rowWriter = objectMapper.writerFor(PointHistory.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        return out -> {
+            try (histories; JsonGenerator generator = objectMapper.createGenerator(out)) {
+                histories.forEach(history -> {
+                    try {
+                        rowWriter.writeValue(generator, history);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
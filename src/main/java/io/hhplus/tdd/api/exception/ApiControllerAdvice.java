@@ -1,14 +1,36 @@
 package io.hhplus.tdd.api.exception;
 
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyKeyReusedException;
+import io.hhplus.tdd.infrastructure.lock.OptimisticConflictException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
     }
+
+    // 비동기 실행기(PointTaskExecutor)가 가득 차 요청을 거절한 경우
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    // 낙관적 갱신이 최대 시도 횟수 안에 성공하지 못한 경우 (같은 사용자에 대한 요청 경합)
+    @ExceptionHandler(value = OptimisticConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticConflict(OptimisticConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    // 이미 사용한 멱등 키로 다른 충전/사용 요청을 보낸 경우
+    @ExceptionHandler(value = IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
 }
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.api.interceptor;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 API 속도 제한 인터셉터 (컨트롤러/PointService 호출 전에 실행)
+ * 경로의 사용자 ID 로 UserRateLimiter 의 토큰을 획득하고, 실패하면 429 로 바로 응답
+ * - 거절 응답 본문은 미리 직렬화한 바이트를 그대로 쓰고, Retry-After(초)에 다시 시도할 수 있는 시각을 알려줌
+ * - 사용자 ID 가 숫자가 아니거나 양수가 아니면 제한하지 않고 컨트롤러 검증에 맡김
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final UserRateLimiter rateLimiter;
+    private final TransactionType type;
+    private final byte[] rejectedBody;
+
+    public RateLimitInterceptor(UserRateLimiter rateLimiter, TransactionType type, byte[] rejectedBody) {
+        this.rateLimiter = rateLimiter;
+        this.type = type;
+        this.rejectedBody = rejectedBody;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        long userId = userIdOf(request);
+        if (userId <= 0) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(userId, type);
+        if (waitNanos == 0) {
+            return true;
+        }
+        response.setStatus(TOO_MANY_REQUESTS);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, divideCeil(waitNanos, TimeUnit.SECONDS.toNanos(1)))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+        return false;
+    }
+
+    // 경로 변수 {id} (숫자가 아니면 0)
+    @SuppressWarnings("unchecked")
+    private static long userIdOf(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.get("id");
+        if (id == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long divideCeil(long value, long divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
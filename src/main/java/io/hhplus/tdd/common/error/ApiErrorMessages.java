@@ -4,6 +4,14 @@ package io.hhplus.tdd.common.error;
 public class ApiErrorMessages {
     public static final String AMOUNT_NEGATIVE = "포인트는 음수가 될 수 없습니다.";
     public static final String USER_ID_NEGATIVE = "사용자 ID는 음수가 될 수 없습니다.";
+    public static final String HISTORY_LIMIT_OUT_OF_RANGE = "이력 조회 개수가 허용 범위를 벗어났습니다.";
+    public static final String HISTORY_RANGE_INVALID = "이력 조회 시작 시각은 종료 시각보다 이전이어야 합니다.";
+    public static final String HISTORY_EXPORT_RANGE_TOO_LONG = "한 번에 내보낼 수 있는 이력 조회 범위를 넘었습니다.";
+    public static final String HISTORY_CURSOR_INVALID = "이력 조회 커서 형식이 올바르지 않습니다.";
+    public static final String BULK_SIZE_OUT_OF_RANGE = "일괄 요청 항목 수가 허용 범위를 벗어났습니다.";
+    public static final String IDEMPOTENCY_KEY_INVALID = "멱등 키 형식이 올바르지 않습니다.";
+    public static final String IDEMPOTENCY_KEY_REUSED = "같은 멱등 키로 다른 요청을 보낼 수 없습니다.";
+    public static final String RATE_LIMITED = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
     private ApiErrorMessages() {
         throw new AssertionError("인스턴스 생성 불가");
     }
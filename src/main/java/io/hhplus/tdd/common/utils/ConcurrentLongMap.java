@@ -0,0 +1,326 @@
+package io.hhplus.tdd.common.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * long 키 전용 동시성 해시 맵
+ * Map&lt;Long, V&gt; 는 조회할 때마다 키를 Long 으로 박싱하므로, 할당 없는 경로(PointService.chargeFast 등)에서 사용하는 사용자별 상태는 이 맵에 보관
+ * - 개방 주소법(선형 탐사) : 키는 long[], 값은 Object[] 에 같은 위치로 저장 (엔트리 노드 없음)
+ * - 키 해시의 상위 비트로 세그먼트를 나누고, 세그먼트마다 StampedLock 으로 보호
+ *   → 조회는 낙관적 읽기(잠금/할당 없음) 후 검증, 저장/삭제/확장은 세그먼트 쓰기 락
+ * - 삭제는 뒤따르는 엔트리를 당겨 채우는 방식(backward shift)으로 처리하여 삭제 표시(tombstone)를 남기지 않음
+ * 키로 Long.MIN_VALUE 는 사용할 수 없음 (빈 슬롯 표시)
+ */
+public final class ConcurrentLongMap<V> {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_SEGMENTS = 64;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int segments) {
+        if (Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException("세그먼트 수는 2의 거듭제곱이어야 합니다.");
+        }
+        this.segments = new Segment[segments];
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(segments);
+        this.segmentMask = segments - 1;
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    public V get(long key) {
+        long hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            V value = segment.table.get(hash, key);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return segment.table.get(hash, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 값 저장 후 이전 값 반환 (없었으면 null)
+    public V put(long key, V value) {
+        requireKey(key);
+        long hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.put(hash, key, value);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // 키가 없을 때만 factory 로 만든 값을 저장 (factory 는 세그먼트 쓰기 락 안에서 호출되므로 가벼워야 함)
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        requireKey(key);
+        long hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            V value = segment.table.get(hash, key);
+            if (value == null) {
+                value = factory.apply(key);
+                segment.put(hash, key, value);
+            }
+            return value;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // 현재 값이 expected(동일 객체, null 이면 없음)일 때만 value 로 교체 (성공 시 true)
+    public boolean replace(long key, V expected, V value) {
+        requireKey(key);
+        long hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            if (segment.table.get(hash, key) != expected) {
+                return false;
+            }
+            segment.put(hash, key, value);
+            return true;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // 키 삭제 후 이전 값 반환 (없었으면 null)
+    public V remove(long key) {
+        long hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.remove(hash, key);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    // 조건에 맞는 값을 모두 삭제하고 삭제한 수 반환 (세그먼트 쓰기 락 안에서 판단하므로 판단과 삭제 사이에 값이 바뀌지 않음)
+    public int removeIf(Predicate<? super V> filter) {
+        int removed = 0;
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                removed += segment.removeIf(filter);
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.size;
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    // 전체 값 순회 (세그먼트 단위로 복사한 뒤 락 밖에서 action 실행)
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            for (Object value : segment.copyValues()) {
+                if (value != null) {
+                    action.accept((V) value);
+                }
+            }
+        }
+    }
+
+    // 전체 값 스트림 (forEachValue 와 같이 세그먼트 단위로 복사하되, 스트림이 해당 세그먼트에 도달했을 때 복사)
+    @SuppressWarnings("unchecked")
+    public Stream<V> values() {
+        return Stream.of(segments)
+                .flatMap(segment -> Stream.of(segment.copyValues()))
+                .filter(value -> value != null)
+                .map(value -> (V) value);
+    }
+
+//  ================================================================
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> segmentShift) & segmentMask];
+    }
+
+    private static void requireKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 키입니다.");
+        }
+    }
+
+    // 연속된 키가 한 곳에 몰리지 않도록 섞은 해시 (상위 비트: 세그먼트, 하위 비트: 슬롯)
+    private static long hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * 세그먼트 하나
+     * table 은 쓰기 락 안에서만 교체/수정되며, 낙관적 읽기는 StampedLock.validate 로 겹침 여부를 확인
+     */
+    private static final class Segment<V> {
+
+        private final StampedLock lock = new StampedLock();
+        private Table<V> table = new Table<>(MIN_SEGMENT_CAPACITY);
+        private int size;
+
+        V put(long hash, long key, V value) {
+            int slot = table.find(hash, key);
+            if (table.keys[slot] == key) {
+                V previous = table.valueAt(slot);
+                table.values[slot] = value;
+                return previous;
+            }
+            if ((size + 1) * 4L > table.keys.length * 3L) {
+                table = table.grow();
+                slot = table.find(hash, key);
+            }
+            table.keys[slot] = key;
+            table.values[slot] = value;
+            size++;
+            return null;
+        }
+
+        // 값 배열 복사본 (빈 슬롯은 null)
+        Object[] copyValues() {
+            long stamp = lock.readLock();
+            try {
+                return table.values.clone();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        V remove(long hash, long key) {
+            int slot = table.find(hash, key);
+            if (table.keys[slot] != key) {
+                return null;
+            }
+            V previous = table.valueAt(slot);
+            table.removeAt(slot);
+            size--;
+            return previous;
+        }
+
+        int removeIf(Predicate<? super V> filter) {
+            int removed = 0;
+            int slot = 0;
+            while (slot < table.keys.length) {
+                if (table.keys[slot] != EMPTY && filter.test(table.valueAt(slot))) {
+                    // 뒤따르는 엔트리가 이 슬롯으로 당겨질 수 있으므로 같은 슬롯을 다시 확인
+                    table.removeAt(slot);
+                    removed++;
+                } else {
+                    slot++;
+                }
+            }
+            size -= removed;
+            return removed;
+        }
+    }
+
+    /**
+     * 키/값 배열 묶음 (확장 시 통째로 교체되어 낙관적 읽기가 항상 길이가 같은 두 배열을 읽도록 함)
+     */
+    private static final class Table<V> {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        V get(long hash, long key) {
+            int slot = find(hash, key);
+            return keys[slot] == key ? valueAt(slot) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        V valueAt(int slot) {
+            return (V) values[slot];
+        }
+
+        // key 가 있는 슬롯 또는 key 를 넣을 빈 슬롯 (선형 탐사)
+        int find(long hash, long key) {
+            int slot = (int) hash & mask;
+            while (keys[slot] != key && keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        Table<V> grow() {
+            Table<V> grown = new Table<>(keys.length * 2);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) {
+                    int target = grown.find(hash(keys[slot]), keys[slot]);
+                    grown.keys[target] = keys[slot];
+                    grown.values[target] = values[slot];
+                }
+            }
+            return grown;
+        }
+
+        // 슬롯을 비우고, 탐사 경로가 끊기지 않도록 뒤따르는 엔트리를 앞으로 당김
+        void removeAt(int slot) {
+            int gap = slot;
+            int next = (slot + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int home = (int) hash(keys[next]) & mask;
+                // next 의 원래 위치(home)가 (gap, next] 구간 밖이면 gap 으로 옮길 수 있음
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = EMPTY;
+            values[gap] = null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+
+import java.util.List;
+
+/**
+ * 클라이언트로부터 전달받은 일괄 충전/사용 요청 데이터
+ * 서비스 계층 진입 전 기본 검증 수행 (항목 수 범위 검증)
+ * @param operations 요청 항목 (같은 사용자의 항목은 요청 순서대로 적용)
+ */
+public record BulkPointRequest(List<PointOperation> operations) {
+
+    // 한 번에 요청할 수 있는 최대 항목 수
+    public static final int MAX_OPERATIONS = 10_000;
+
+    public BulkPointRequest {
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException(ApiErrorMessages.BULK_SIZE_OUT_OF_RANGE);
+        }
+        operations = List.copyOf(operations);
+    }
+}
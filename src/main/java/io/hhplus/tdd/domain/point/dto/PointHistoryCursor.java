@@ -0,0 +1,40 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+
+/**
+ * 포인트 이력 페이지 조회용 커서
+ * 마지막으로 조회한 이력의 (updateMillis, id)를 담아 다음 페이지를 그 직후부터 조회하도록 함
+ * 문자열 형식: "{updateMillis}-{id}"
+ * @param updateMillis 마지막으로 조회한 이력의 시각
+ * @param id 마지막으로 조회한 이력의 ID
+ */
+public record PointHistoryCursor(long updateMillis, long id) {
+
+    private static final char SEPARATOR = '-';
+
+    public static PointHistoryCursor of(PointHistory last) {
+        return new PointHistoryCursor(last.updateMillis(), last.id());
+    }
+
+    // 문자열 커서 해석 (잘못된 형식이면 예외)
+    public static PointHistoryCursor parse(String cursor) {
+        int separator = cursor.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator == cursor.length() - 1) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_CURSOR_INVALID);
+        }
+        try {
+            return new PointHistoryCursor(
+                    Long.parseLong(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1))
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        return updateMillis + String.valueOf(SEPARATOR) + id;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 페이지 조회 결과
+ * @param items 조회된 이력 (updateMillis, id 오름차순)
+ * @param nextCursor 다음 페이지 조회용 커서 (더 이상 조회할 이력이 없으면 null)
+ */
+public record PointHistoryPage(
+        List<PointHistory> items,
+        String nextCursor
+) {
+}
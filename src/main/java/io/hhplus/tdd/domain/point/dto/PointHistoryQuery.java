@@ -0,0 +1,42 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+/**
+ * 포인트 이력 조회 조건
+ * - type : 트랜잭션 종류 필터 (null 이면 전체)
+ * - [fromMillis, toMillis) : updateMillis 조회 범위
+ * - cursor : 이전 페이지의 마지막 이력 (null 이면 처음부터)
+ * - limit : 한 페이지에 담을 최대 이력 수
+ */
+public record PointHistoryQuery(
+        TransactionType type,
+        long fromMillis,
+        long toMillis,
+        PointHistoryCursor cursor,
+        int limit
+) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1_000;
+
+    public PointHistoryQuery {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_LIMIT_OUT_OF_RANGE);
+        }
+        if (fromMillis >= toMillis) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_RANGE_INVALID);
+        }
+    }
+
+    // 요청 파라미터로부터 조회 조건 생성 (누락된 값은 기본값 사용)
+    public static PointHistoryQuery of(TransactionType type, Long fromMillis, Long toMillis, String cursor, Integer limit) {
+        return new PointHistoryQuery(
+                type,
+                fromMillis == null ? Long.MIN_VALUE : fromMillis,
+                toMillis == null ? Long.MAX_VALUE : toMillis,
+                cursor == null || cursor.isBlank() ? null : PointHistoryCursor.parse(cursor),
+                limit == null ? DEFAULT_LIMIT : limit
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.domain.point.dto;
+
+/**
+ * 일괄 충전/사용 요청의 개별 항목
+ * 항목별 검증(사용자 ID, 금액 정책, 잔액, 일일 한도)은 서비스 계층에서 항목 단위로 수행하고 결과로 반환
+ * @param userId 사용자 ID
+ * @param amount 충전/사용 금액
+ */
+public record PointOperation(long userId, long amount) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.domain.point.dto;
+
+/**
+ * 일괄 충전/사용의 항목별 처리 결과
+ * @param index 요청 항목의 순번 (0부터 시작)
+ * @param userId 사용자 ID
+ * @param amount 충전/사용 금액
+ * @param success 성공 여부
+ * @param balance 해당 항목 적용 직후 잔액 (실패 시 null)
+ * @param errorMessage 실패 사유 (성공 시 null)
+ */
+public record PointOperationResult(
+        int index,
+        long userId,
+        long amount,
+        boolean success,
+        Long balance,
+        String errorMessage
+) {
+    public static PointOperationResult success(int index, PointOperation operation, long balance) {
+        return new PointOperationResult(index, operation.userId(), operation.amount(), true, balance, null);
+    }
+
+    public static PointOperationResult failure(int index, PointOperation operation, String errorMessage) {
+        return new PointOperationResult(index, operation.userId(), operation.amount(), false, null, errorMessage);
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.domain.point.dto;
+
+import java.util.List;
+
+/**
+ * 사용자별 포인트 이력 요약 (이력 저장 시점에 누적되므로 전체 이력을 조회/집계하지 않고 반환)
+ * @param userId 사용자 ID
+ * @param totalCharged 누적 충전 금액
+ * @param totalUsed 누적 사용 금액
+ * @param lastActivityMillis 마지막 이력 시각 (이력이 없으면 0)
+ * @param daily 일별 충전/사용 합계 (날짜 오름차순, period: yyyy-MM-dd)
+ * @param monthly 월별 충전/사용 합계 (월 오름차순, period: yyyy-MM)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long lastActivityMillis,
+        List<PeriodTotal> daily,
+        List<PeriodTotal> monthly
+) {
+
+    // 이력이 없는 사용자의 요약
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0, 0, 0, List.of(), List.of());
+    }
+
+    /**
+     * 기간(일/월)별 합계
+     * @param period 기간 (한국 시간 기준 yyyy-MM-dd 또는 yyyy-MM)
+     * @param charged 기간 내 충전 금액 합계
+     * @param used 기간 내 사용 금액 합계
+     */
+    public record PeriodTotal(
+            String period,
+            long charged,
+            long used
+    ) {
+    }
+}
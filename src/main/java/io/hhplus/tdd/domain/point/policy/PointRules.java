@@ -0,0 +1,79 @@
+package io.hhplus.tdd.domain.point.policy;
+
+import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+
+/**
+ * 포인트 충전/사용 규칙 (primitive long 기반)
+ * VO(ChargeAmount, UseAmount, Point)가 검증에 사용하는 규칙을 객체 생성 없이 long 값으로 적용
+ * - VO 는 이 함수들에 검증을 위임하므로 VO 경로와 할당 없는 경로(PointService.chargeFast/useFast)의 규칙이 항상 같음
+ * - charge / use 는 서비스의 단건 충전/사용과 같은 순서로 검증 (금액 → 잔액 → 일일 한도 → 최대 잔액/잔액 부족)
+ */
+public final class PointRules {
+
+    private PointRules() {
+        throw new AssertionError("인스턴스 생성 불가");
+    }
+
+    // 충전 금액 검증 (최소/최대 충전 금액)
+    public static long requireChargeAmount(long amount) {
+        if (amount < PointPolicy.MIN_CHARGE_AMOUNT)
+            throw new IllegalArgumentException(DomainErrorMessages.MIN_CHARGE);
+        if (amount > PointPolicy.MAX_CHARGE_AMOUNT)
+            throw new IllegalArgumentException(DomainErrorMessages.MAX_CHARGE);
+        return amount;
+    }
+
+    // 사용 금액 검증 (최소 사용 금액 / 단일 거래 최대 사용 금액)
+    public static long requireUseAmount(long amount) {
+        if (amount < PointPolicy.MIN_USE_AMOUNT)
+            throw new IllegalArgumentException(DomainErrorMessages.MIN_USE);
+        if (amount > PointPolicy.MAX_USE_AMOUNT_PER_TRANSACTION)
+            throw new IllegalArgumentException(DomainErrorMessages.MAX_USE);
+        return amount;
+    }
+
+    // 잔액 검증 (음수 불가)
+    public static long requireBalance(long balance) {
+        if (balance < 0) {
+            throw new IllegalArgumentException(DomainErrorMessages.MIN_POINT);
+        }
+        return balance;
+    }
+
+    // 충전 후 잔액 (최대 잔액 초과 불가)
+    public static long chargedBalance(long balance, long amount) {
+        if (balance + amount > PointPolicy.MAX_POINT_BALANCE) {
+            throw new IllegalArgumentException(DomainErrorMessages.MAX_CHARGE);
+        }
+        return balance + amount;
+    }
+
+    // 사용 후 잔액 (잔액 부족 불가)
+    public static long usedBalance(long balance, long amount) {
+        if (balance < amount) {
+            throw new IllegalArgumentException(DomainErrorMessages.INSUFFICIENT_BALANCE);
+        }
+        return balance - amount;
+    }
+
+    // 충전 1건 적용 - todayCharged: 오늘 누적 충전 금액
+    public static long charge(long balance, long amount, long todayCharged) {
+        requireChargeAmount(amount);
+        requireBalance(balance);
+        if (todayCharged + amount > PointPolicy.DAILY_CHARGE_LIMIT) {
+            throw new IllegalArgumentException(ServiceErrorMessages.DAILY_CHARGE_LIMIT);
+        }
+        return chargedBalance(balance, amount);
+    }
+
+    // 사용 1건 적용 - todayUsed: 오늘 누적 사용 금액
+    public static long use(long balance, long amount, long todayUsed) {
+        requireUseAmount(amount);
+        requireBalance(balance);
+        if (todayUsed + amount > PointPolicy.MAX_USE_AMOUNT_PER_DAY) {
+            throw new IllegalArgumentException(ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY);
+        }
+        return usedBalance(balance, amount);
+    }
+}
@@ -0,0 +1,181 @@
+package io.hhplus.tdd.domain.point.service;
+
+import io.hhplus.tdd.common.utils.ConcurrentLongMap;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 일일 충전/사용 누적 금액 집계기
+ * 일일 한도(DAILY_CHARGE_LIMIT, MAX_USE_AMOUNT_PER_DAY) 검증 시
+ * 매 요청마다 전체 이력을 조회/순회하지 않도록 사용자별 "오늘" 누적 금액을 유지
+ * 동작 방식:
+ * 1. 사용자 항목이 없거나 날짜가 바뀐 경우(기준 시각 불일치)에만 이력을 한 번 조회하여 초기화
+ * 2. 이후에는 이력 저장 시점에 add()로 누적 금액을 증가시키므로 한도 검증은 O(1)
+ * 3. 날짜 기준은 호출자가 전달한 ITimeProvider의 하루 시작 시각을 그대로 사용 (자정이 지나면 자동으로 새 날짜로 전환)
+ * 4. 누적 항목은 제자리 갱신하므로 add() 는 객체를 새로 만들지 않음
+ * 5. 낙관적 모드(사용자 락 없음)에서는 tryReserve 로 한도 검증과 누적을 원자적으로 먼저 수행하고,
+ *    잔액 저장에 실패하면 release 로 되돌림 (저장 중인 요청의 금액도 한도에 포함되므로 한도를 넘지 않음)
+ * 6. 날짜가 바뀐 뒤 처음 초기화하는 요청이 지난 날짜의 항목을 모두 제거 (하루에 한 번, 요청이 없는 사용자 항목이 계속 쌓이지 않도록 함)
+ * 주의:
+ * - todayTotal/add 는 이력 저장과 누적 금액 갱신이 함께 반영되도록 사용자 락을 보유한 상태(또는 사용자의 샤드 스레드)에서 호출해야 함
+ */
+@Component
+public class DailyPointAccumulator {
+
+    // loadedTodayTotal 에서 오늘 항목이 아직 없음을 나타내는 값
+    public static final long NOT_LOADED = -1L;
+
+    // 사용자 ID → 오늘 누적 금액 (조회 시 키 박싱이 없도록 long 키 맵 사용)
+    private final ConcurrentLongMap<DailyTotals> totals = new ConcurrentLongMap<>();
+
+    // 지난 날짜 항목을 마지막으로 제거한 기준 시각 (하루 시작 시각)
+    private final AtomicLong evictedBefore = new AtomicLong(Long.MIN_VALUE);
+
+    // 오늘 누적 금액 조회 (항목이 없거나 날짜가 바뀐 경우 이력으로부터 한 번만 초기화)
+    public long todayTotal(long userId, TransactionType type, long startOfToday, long startOfTomorrow,
+                           Supplier<List<PointHistory>> historyLoader) {
+        DailyTotals current = totals.get(userId);
+        if (current == null || current.dayStart != startOfToday) {
+            evictPreviousDays(startOfToday);
+            current = DailyTotals.from(historyLoader.get(), startOfToday, startOfTomorrow);
+            totals.put(userId, current);
+        }
+        return current.amountOf(type);
+    }
+
+    // 이미 집계된 오늘 누적 금액만 조회 (항목이 없거나 날짜가 바뀌었으면 NOT_LOADED, 이력 로더 람다 생성을 피하는 경로용)
+    public long loadedTodayTotal(long userId, TransactionType type, long startOfToday) {
+        DailyTotals current = totals.get(userId);
+        return current == null || current.dayStart != startOfToday ? NOT_LOADED : current.amountOf(type);
+    }
+
+    // 낙관적 모드 - 오늘 누적 금액 + amount 가 limit 이하일 때만 누적하고 true 반환 (사용자 락 없이 호출 가능)
+    // 오늘 항목이 없으면 이력으로 초기화하되, 그 사이 다른 요청이 먼저 만든 항목이 있으면 그 항목을 사용
+    public boolean tryReserve(long userId, TransactionType type, long amount, long limit,
+                              long startOfToday, long startOfTomorrow, Supplier<List<PointHistory>> historyLoader) {
+        DailyTotals current = totals.get(userId);
+        while (current == null || current.dayStart != startOfToday) {
+            evictPreviousDays(startOfToday);
+            DailyTotals loaded = DailyTotals.from(historyLoader.get(), startOfToday, startOfTomorrow);
+            if (totals.replace(userId, current, loaded)) {
+                current = loaded;
+            } else {
+                current = totals.get(userId);
+            }
+        }
+        return current.tryAdd(type, amount, limit);
+    }
+
+    // 낙관적 모드 - 잔액 저장에 실패한 요청의 누적 금액을 되돌림
+    public void release(long userId, TransactionType type, long amount, long startOfToday) {
+        add(userId, type, -amount, startOfToday);
+    }
+
+    // 이력 저장 후 오늘 누적 금액 증가
+    // 기준 날짜가 이미 바뀐 항목은 갱신하지 않음 (다음 조회 시 새 날짜 기준으로 다시 초기화됨)
+    public void add(long userId, TransactionType type, long amount, long startOfToday) {
+        DailyTotals current = totals.get(userId);
+        if (current != null && current.dayStart == startOfToday) {
+            current.add(type, amount);
+        }
+    }
+
+    // 사용자의 누적 항목 제거
+    public void evict(long userId) {
+        totals.remove(userId);
+    }
+
+    // 보관 중인 사용자 항목 수
+    public int size() {
+        return totals.size();
+    }
+
+//  ================================================================
+
+    // 날짜가 바뀐 뒤 처음 호출될 때만 startOfToday 이전 날짜의 항목을 제거 (같은 날짜의 이후 호출은 비교 한 번)
+    // 제거는 세그먼트 락 안에서 dayStart 로 판단하므로 다른 요청이 이미 오늘 기준으로 교체한 항목은 남음
+    private void evictPreviousDays(long startOfToday) {
+        long previous = evictedBefore.get();
+        if (startOfToday > previous && evictedBefore.compareAndSet(previous, startOfToday)) {
+            totals.removeIf(daily -> daily.dayStart < startOfToday);
+        }
+    }
+
+    /**
+     * 특정 날짜의 누적 금액 (dayStart: 기준 날짜의 시작 시각(ms), charged/used: 충전/사용 누적 금액)
+     * 낙관적 모드에서는 사용자 락 없이 갱신되므로 누적 금액은 VarHandle 의 원자적 연산으로만 변경
+     */
+    static final class DailyTotals {
+
+        private static final VarHandle CHARGED;
+        private static final VarHandle USED;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                CHARGED = lookup.findVarHandle(DailyTotals.class, "charged", long.class);
+                USED = lookup.findVarHandle(DailyTotals.class, "used", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final long dayStart;
+        private volatile long charged;
+        private volatile long used;
+
+        DailyTotals(long dayStart, long charged, long used) {
+            this.dayStart = dayStart;
+            this.charged = charged;
+            this.used = used;
+        }
+
+        static DailyTotals from(List<PointHistory> histories, long start, long end) {
+            long charged = 0;
+            long used = 0;
+            for (PointHistory history : histories) {
+                if (history.updateMillis() < start || history.updateMillis() >= end) {
+                    continue;
+                }
+                if (history.type() == TransactionType.CHARGE) {
+                    charged += history.amount();
+                } else {
+                    used += history.amount();
+                }
+            }
+            return new DailyTotals(start, charged, used);
+        }
+
+        long amountOf(TransactionType type) {
+            return type == TransactionType.CHARGE ? charged : used;
+        }
+
+        void add(TransactionType type, long amount) {
+            handleOf(type).getAndAdd(this, amount);
+        }
+
+        // 누적 후 금액이 limit 이하일 때만 누적 (다른 요청과 동시에 호출되어도 limit 을 넘지 않음)
+        boolean tryAdd(TransactionType type, long amount, long limit) {
+            VarHandle handle = handleOf(type);
+            long total;
+            do {
+                total = (long) handle.getVolatile(this);
+                if (total + amount > limit) {
+                    return false;
+                }
+            } while (!handle.compareAndSet(this, total, total + amount));
+            return true;
+        }
+
+        private static VarHandle handleOf(TransactionType type) {
+            return type == TransactionType.CHARGE ? CHARGED : USED;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package io.hhplus.tdd.domain.point.service;
 
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.dto.PointSummary;
 import io.hhplus.tdd.infrastructure.time.ITimeProvider;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
@@ -8,13 +13,34 @@ import io.hhplus.tdd.domain.point.vo.UseAmount;
 import io.hhplus.tdd.domain.point.vo.ChargeAmount;
 import io.hhplus.tdd.domain.point.vo.Point;
 import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.domain.point.policy.PointRules;
 import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.infrastructure.cache.UserPointCache;
+import io.hhplus.tdd.infrastructure.database.GroupCommitPointHistoryWriter;
+import io.hhplus.tdd.infrastructure.database.PendingPointHistory;
 import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
 import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.database.VersionedUserPoint;
+import io.hhplus.tdd.infrastructure.executor.PointTaskExecutor;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.lock.OptimisticConflictException;
+import io.hhplus.tdd.infrastructure.lock.OptimisticRetryPolicy;
+import io.hhplus.tdd.infrastructure.lock.UserLockManager;
+import io.hhplus.tdd.infrastructure.lock.UserRequestCoalescer;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.hhplus.tdd.infrastructure.wal.WriteAheadLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 
 /**
@@ -35,6 +61,57 @@ import java.util.List;
  *    - VO: 도메인 규칙 (도메인 유효성) 검증
  * 또한 테스트 가능한 구조를 위해 시간 의존 로직은 `ITimeProvider` 인터페이스로 추상화하고,
  * 실제 환경에서는 `KSTTimeProvider`를 사용하여 한국 표준시에 맞는 일일 기준 처리가 가능하도록 구현하였습니다.
+ * (스프링 환경에서는 하루 구간을 캐시하여 요청마다 날짜를 다시 계산하지 않는 `CachedKSTTimeProvider`를 주입)
+ * 4. 동시성 제어
+ *    - 충전/사용은 잔액 조회 후 갱신하는 구조이므로 `UserLockManager`로 사용자 단위 직렬화를 보장합니다.
+ *    - 전역 락이 아닌 사용자별(스트라이프) 공정 락을 사용하여 서로 다른 사용자는 병렬로 처리됩니다.
+ * 5. 잔액 캐시
+ *    - 잔액 조회는 `UserPointCache`를 거쳐 캐시에 없을 때만 테이블을 조회하고,
+ *      잔액 저장 직후 캐시를 갱신하여 쓰기 이후 이전 잔액이 조회되지 않도록 합니다.
+ * 6. 비동기 API
+ *    - `chargeAsync`, `useAsync`, `pointAsync`는 동기 API와 같은 로직을 `PointTaskExecutor`(크기 제한 스레드 풀)에서 실행하고
+ *      `CompletableFuture`를 반환하여, 테이블 지연 동안 요청 스레드가 점유되지 않도록 합니다.
+ *    - 검증/정책 위반 예외는 Future 의 예외로 전달되며, 실행기가 가득 찬 경우 RejectedExecutionException 으로 즉시 거절됩니다.
+ * 7. 일괄 충전/사용
+ *    - `chargeAll`, `useAll`은 요청 항목을 사용자별로 묶어 사용자 락을 한 번만 획득하고, 해당 사용자의 항목을 요청 순서대로 적용합니다.
+ *    - 항목마다 단건 API와 같은 사용자 ID/VO/정책 검증을 수행하여 실패한 항목만 제외하고,
+ *      성공한 항목은 잔액 저장 1회와 이력 일괄 저장(insertAll) 1회로 반영합니다.
+ * 8. 영속화 (WAL)
+ *    - `WriteAheadLog` 사용 시 잔액 갱신과 이력을 하나의 레코드로 먼저 기록하고, fsync 가 끝난 뒤에 테이블/캐시에 반영합니다.
+ *      (이력 ID 는 기록 전에 발급받으며, 기록에 실패하면 잔액/이력/캐시/일일 누적 금액이 모두 바뀌지 않은 채 예외로 응답)
+ *    - 같은 사용자의 레코드 순서가 반영 순서와 같도록 사용자 락 구간 안에서 기록합니다.
+ *    - 기록부터 테이블 반영까지를 `beginMutation`/`endMutation`으로 묶어, 스냅샷이 반영되지 않은 기록을 포함하지 않도록 합니다.
+ *    - WAL 사용 시 이력은 그룹 커밋을 거치지 않고 레코드와 같은 ID 로 바로 저장합니다.
+ * 9. 할당 없는 충전/사용 경로
+ *    - `chargeFast`, `useFast`는 VO 대신 같은 규칙의 `PointRules`를 long 값에 직접 적용하고 갱신된 잔액만 반환합니다.
+ *    - 잔액/이력 저장 구조가 primitive 기반(OPEN_ADDRESSING, MAPPED)이고 캐시/그룹 커밋/WAL 을 사용하지 않으면
+ *      성공 경로에서 객체를 만들지 않습니다. (부가 기능 사용 시에는 해당 기능에 필요한 객체만 생성)
+ * 10. 낙관적 동시성 제어 (point.concurrency.mode=OPTIMISTIC)
+ *    - 사용자 락 없이 버전과 함께 조회한 잔액으로 계산하고, `compareAndSet`으로 그 사이 다른 저장이 없었을 때만 저장합니다.
+ *    - 충돌하면 `OptimisticRetryPolicy`의 백오프 후 조회부터 다시 시도하며, 최대 시도 횟수를 넘기면 409 로 실패합니다.
+ *    - 일일 한도는 누적 금액을 먼저 예약(tryReserve)하고 저장 실패 시 되돌려, 동시에 처리 중인 요청을 합쳐도 한도를 넘지 않습니다.
+ *    - 저장 순서와 캐시 반영 순서가 어긋날 수 있으므로 저장 후 캐시는 갱신 대신 제거합니다.
+ *    - 모든 잔액 저장 경로(단건/일괄/할당 없는 경로)가 같은 방식을 사용하며,
+ *      WAL 사용 시에는 사용자별 기록 순서를 보장하기 위해 사용자 락 경로를 그대로 사용합니다.
+ * 11. 샤드 단일 작성자 처리 (point.concurrency.mode=SHARDED)
+ *    - 잔액을 바꾸는 명령(단건/일괄/할당 없는 경로)을 `ShardedCommandProcessor`의 샤드(userId % shards) 스레드에서 실행합니다.
+ *    - 같은 사용자의 명령은 항상 같은 스레드에서 도착 순서대로 처리되므로 사용자 락을 사용하지 않습니다.
+ *    - `chargeAsync`, `useAsync`는 샤드가 돌려준 Future 를 그대로 반환하고, 동기 API 는 그 결과를 기다립니다.
+ * 12. 핫 계정 요청 결합 (point.coalescing.enabled=true, PESSIMISTIC 모드)
+ *    - 단건 충전/사용 요청을 `UserRequestCoalescer`의 대기열에 넣고, 사용자 락을 획득한 스레드가 쌓인 같은 사용자의 요청을 모아 처리합니다.
+ *    - 모은 요청은 일괄 처리(7번)와 같은 로직으로 요청 순서대로 검증하여 잔액 저장 1회와 이력 일괄 저장 1회로 반영하고,
+ *      요청마다 단건 API 와 같은 결과(적용 직후 잔액) 또는 같은 검증 예외를 돌려줍니다.
+ * 13. 지표 (Micrometer)
+ *    - `charge`, `use`, `point`, `history`, `summary`의 처리 시간과 검증/정책 위반 거절 사유를 `PointMetrics`에 기록합니다.
+ *      (샤드 처리기로 바로 넘기는 SHARDED 모드의 비동기 API 는 Future 완료 시점에 기록)
+ *    - 할당 없는 경로(`chargeFast`, `useFast`)는 서비스 지표를 기록하지 않고 테이블 호출 시간만 기록됩니다.
+ * 14. 이력 요약 (`summary`)
+ *    - `PointHistoryTable`이 이력을 저장/복구할 때마다 사용자별 요약(누적 충전/사용, 일별/월별 합계, 마지막 이력 시각)을 함께 갱신합니다.
+ *    - 요약 조회는 전체 이력을 읽어 합산하지 않고 누적된 값을 반환합니다.
+ * 15. 이력 내보내기 (`exportHistory`, `exportAllHistory`)
+ *    - 조건 검증(사용자 존재, 조회 범위)은 호출 시점에 끝내고, 이력은 저장 구조의 스냅샷을 따라 읽는 지연 스트림으로 반환합니다.
+ *    - 결과 목록을 만들지 않으므로 응답을 쓰는 쪽이 행 단위로 소비하면 이력 수와 무관하게 메모리 사용량이 일정합니다.
+ *    - 전체 사용자 내보내기(정산용)는 사용자별로만 (updateMillis, id) 순서를 보장합니다.
  */
 
 @Service
@@ -44,8 +121,205 @@ public class PointService {
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
     private final ITimeProvider timeProvider;
+    private final UserLockManager userLockManager;
+    private final DailyPointAccumulator dailyPointAccumulator;
+    private final GroupCommitPointHistoryWriter historyWriter;
+    private final UserPointCache userPointCache;
+    private final PointTaskExecutor pointTaskExecutor;
+    private final WriteAheadLog writeAheadLog;
+    private final OptimisticRetryPolicy optimisticRetryPolicy;
+    private final ShardedCommandProcessor shardedCommandProcessor;
+    private final UserRequestCoalescer userRequestCoalescer;
+    private final PointMetrics pointMetrics;
+
+    // 결합된 요청을 처리하는 함수 (같은 객체로 넣은 연속 요청끼리 묶이므로 유형별로 하나씩 보관)
+    private final UserRequestCoalescer.Combiner<PointOperation, UserPoint> chargeCombiner =
+            (id, operations) -> applyCoalesced(id, operations, TransactionType.CHARGE);
+    private final UserRequestCoalescer.Combiner<PointOperation, UserPoint> useCombiner =
+            (id, operations) -> applyCoalesced(id, operations, TransactionType.USE);
 
     public UserPoint charge(long id, long amount) {
+        long startNanos = System.nanoTime();
+        try {
+            return chargeByMode(id, amount);
+        } catch (IllegalArgumentException | OptimisticConflictException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.CHARGE, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.CHARGE, startNanos);
+        }
+    }
+
+    public UserPoint use(long id, long amount) {
+        long startNanos = System.nanoTime();
+        try {
+            return useByMode(id, amount);
+        } catch (IllegalArgumentException | OptimisticConflictException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.USE, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.USE, startNanos);
+        }
+    }
+
+    public UserPoint point(long id) {
+        long startNanos = System.nanoTime();
+        try {
+            return findUserPointOrThrow(id);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.POINT, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.POINT, startNanos);
+        }
+    }
+
+    // 할당 없는 충전 - charge 와 같은 규칙으로 검증하고 갱신된 잔액만 반환
+    public long chargeFast(long id, long amount) {
+        if (isOptimistic()) {
+            return applyOptimistic(id, amount, TransactionType.CHARGE).point();
+        }
+        return applyFast(id, amount, TransactionType.CHARGE);
+    }
+
+    // 할당 없는 사용 - use 와 같은 규칙으로 검증하고 갱신된 잔액만 반환
+    public long useFast(long id, long amount) {
+        if (isOptimistic()) {
+            return applyOptimistic(id, amount, TransactionType.USE).point();
+        }
+        return applyFast(id, amount, TransactionType.USE);
+    }
+
+    public CompletableFuture<UserPoint> chargeAsync(long id, long amount) {
+        if (shardedCommandProcessor.isEnabled()) {
+            long startNanos = System.nanoTime();
+            return recorded(PointMetrics.Operation.CHARGE, startNanos, shardedCommandProcessor.submit(id, () -> chargeWithLock(id, amount)));
+        }
+        return CompletableFuture.supplyAsync(() -> charge(id, amount), pointTaskExecutor);
+    }
+
+    public CompletableFuture<UserPoint> useAsync(long id, long amount) {
+        if (shardedCommandProcessor.isEnabled()) {
+            long startNanos = System.nanoTime();
+            return recorded(PointMetrics.Operation.USE, startNanos, shardedCommandProcessor.submit(id, () -> useWithLock(id, amount)));
+        }
+        return CompletableFuture.supplyAsync(() -> use(id, amount), pointTaskExecutor);
+    }
+
+    public CompletableFuture<UserPoint> pointAsync(long id) {
+        return CompletableFuture.supplyAsync(() -> point(id), pointTaskExecutor);
+    }
+
+    // 여러 사용자의 포인트 일괄 충전 (항목별 결과를 요청 순서대로 반환)
+    public List<PointOperationResult> chargeAll(List<PointOperation> operations) {
+        return applyAll(operations, TransactionType.CHARGE);
+    }
+
+    // 여러 사용자의 포인트 일괄 사용 (항목별 결과를 요청 순서대로 반환)
+    public List<PointOperationResult> useAll(List<PointOperation> operations) {
+        return applyAll(operations, TransactionType.USE);
+    }
+
+    public List<PointHistory> history(long id) {
+        long startNanos = System.nanoTime();
+        try {
+            UserPoint userPoint = findUserPointOrThrow(id);
+            return pointHistoryTable.selectAllByUserId(userPoint.id());
+        } catch (IllegalArgumentException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.HISTORY, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.HISTORY, startNanos);
+        }
+    }
+
+    // 타입/시간 범위 조건으로 이력을 페이지 단위로 조회
+    public PointHistoryPage history(long id, PointHistoryQuery query) {
+        long startNanos = System.nanoTime();
+        try {
+            UserPoint userPoint = findUserPointOrThrow(id);
+            return pointHistoryTable.selectByUserId(userPoint.id(), query);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.HISTORY, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.HISTORY, startNanos);
+        }
+    }
+
+    // 사용자의 이력 요약 (누적/일별/월별 충전·사용 합계, 이력 저장 시점에 누적된 값이므로 이력 수와 무관하게 O(1) 조회)
+    public PointSummary summary(long id) {
+        long startNanos = System.nanoTime();
+        try {
+            UserPoint userPoint = findUserPointOrThrow(id);
+            return pointHistoryTable.selectSummaryByUserId(userPoint.id());
+        } catch (IllegalArgumentException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.SUMMARY, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.SUMMARY, startNanos);
+        }
+    }
+
+    // 사용자의 [fromMillis, toMillis) 범위 이력을 지연 스트림으로 내보내기 (type: null 이면 전체)
+    public Stream<PointHistory> exportHistory(long id, TransactionType type, long fromMillis, long toMillis) {
+        long startNanos = System.nanoTime();
+        try {
+            requireRange(fromMillis, toMillis);
+            UserPoint userPoint = findUserPointOrThrow(id);
+            return filterType(pointHistoryTable.streamByUserId(userPoint.id(), fromMillis, toMillis), type);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.recordRejection(PointMetrics.Operation.HISTORY, e.getMessage());
+            throw e;
+        } finally {
+            pointMetrics.recordLatency(PointMetrics.Operation.HISTORY, startNanos);
+        }
+    }
+
+    // 전체 사용자의 [fromMillis, toMillis) 범위 이력을 지연 스트림으로 내보내기 (정산용)
+    public Stream<PointHistory> exportAllHistory(long fromMillis, long toMillis) {
+        requireRange(fromMillis, toMillis);
+        return pointHistoryTable.streamAll(fromMillis, toMillis);
+    }
+
+//  ================================================================
+
+    // 동시성 제어 방식(낙관적 갱신 / 요청 결합 / 사용자 락 또는 샤드)에 따른 충전
+    private UserPoint chargeByMode(long id, long amount) {
+        if (isOptimistic()) {
+            return applyOptimistic(id, amount, TransactionType.CHARGE);
+        }
+        if (isCoalescing()) {
+            return userRequestCoalescer.execute(id, new PointOperation(id, amount), chargeCombiner);
+        }
+        return executeForUser(id, () -> chargeWithLock(id, amount));
+    }
+
+    // 동시성 제어 방식(낙관적 갱신 / 요청 결합 / 사용자 락 또는 샤드)에 따른 사용
+    private UserPoint useByMode(long id, long amount) {
+        if (isOptimistic()) {
+            return applyOptimistic(id, amount, TransactionType.USE);
+        }
+        if (isCoalescing()) {
+            return userRequestCoalescer.execute(id, new PointOperation(id, amount), useCombiner);
+        }
+        return executeForUser(id, () -> useWithLock(id, amount));
+    }
+
+    // 샤드 처리기의 Future 가 완료되면 처리 시간/거절 사유 기록
+    private CompletableFuture<UserPoint> recorded(PointMetrics.Operation operation, long startNanos,
+                                                  CompletableFuture<UserPoint> future) {
+        return future.whenComplete((userPoint, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof IllegalArgumentException) {
+                pointMetrics.recordRejection(operation, cause.getMessage());
+            }
+            pointMetrics.recordLatency(operation, startNanos);
+        });
+    }
+
+    // 사용자 단위로 직렬화된 상태(사용자 락 보유 또는 샤드 스레드)에서 호출되는 충전 로직
+    private UserPoint chargeWithLock(long id, long amount) {
         // 사용자 존재 확인
         UserPoint userPoint = findUserPointOrThrow(id);
 
@@ -54,7 +328,8 @@ public class PointService {
         Point currentPoint = Point.of(userPoint.point()); // Point 객체 생성
 
         // 일일 충전 한도 검증 - 정책 검증
-        long todayTotal = getTodayChargeAmount(id);
+        long startOfToday = timeProvider.getStartOfTodayMillis();
+        long todayTotal = getTodayAmount(id, TransactionType.CHARGE, startOfToday);
         if (todayTotal + amount > PointPolicy.DAILY_CHARGE_LIMIT) {
             throw new IllegalArgumentException(ServiceErrorMessages.DAILY_CHARGE_LIMIT);
         }
@@ -62,16 +337,17 @@ public class PointService {
         // 실제 충전 (도메인 로직 수행)
         Point newBalance = currentPoint.charge(chargeAmount);
 
-        // DB 업데이트
-        UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, newBalance.value());
+        // DB 업데이트 (캐시에도 즉시 반영) 후 충전 이력 저장 (WAL 사용 시 기록 후 반영)
+        UserPoint updatedUserPoint = persist(id, newBalance.value(), amount, TransactionType.CHARGE);
 
-        // 충전 이력 저장
-        pointHistoryTable.insert(id, amount, TransactionType.CHARGE, timeProvider.getCurrentTimeMillis());
+        // 일일 누적 금액 반영 (이력 저장과 같은 사용자 락 구간에서 함께 갱신)
+        dailyPointAccumulator.add(id, TransactionType.CHARGE, amount, startOfToday);
 
         return updatedUserPoint;
     }
 
-    public UserPoint use(long id, long amount) {
+    // 사용자 단위로 직렬화된 상태(사용자 락 보유 또는 샤드 스레드)에서 호출되는 사용 로직
+    private UserPoint useWithLock(long id, long amount) {
         // 사용자 존재 확인
         UserPoint userPoint = findUserPointOrThrow(id);
 
@@ -80,7 +356,8 @@ public class PointService {
         Point currentPoint = Point.of(userPoint.point()); // 잔액 조회 및 Point 객체 생성
 
         // 일일 사용 한도 검증 - 정책 검증
-        long todayUsedAmount = getTodayUsedAmount(id);
+        long startOfToday = timeProvider.getStartOfTodayMillis();
+        long todayUsedAmount = getTodayAmount(id, TransactionType.USE, startOfToday);
         if (todayUsedAmount + useAmount.value() > PointPolicy.MAX_USE_AMOUNT_PER_DAY) {
             throw new IllegalArgumentException(ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY);
         }
@@ -88,62 +365,331 @@ public class PointService {
         // 실제 포인트 사용 (도메인 로직 수행)
         Point newBalance = currentPoint.use(useAmount);
 
-        // DB 업데이트
-        UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, newBalance.value());
+        // DB 업데이트 (캐시에도 즉시 반영) 후 사용 이력 저장 (WAL 사용 시 기록 후 반영)
+        UserPoint updatedUserPoint = persist(id, newBalance.value(), useAmount.value(), TransactionType.USE);
 
-        // 사용 이력 저장
-        pointHistoryTable.insert(id, useAmount.value(), TransactionType.USE, timeProvider.getCurrentTimeMillis());
+        // 일일 누적 금액 반영 (이력 저장과 같은 사용자 락 구간에서 함께 갱신)
+        dailyPointAccumulator.add(id, TransactionType.USE, useAmount.value(), startOfToday);
 
         return updatedUserPoint;
     }
 
-    public UserPoint point(long id) {
-        return findUserPointOrThrow(id);
+    // 할당 없는 충전/사용 - 람다 대신 lock/unlock 을 직접 호출
+    private long applyFast(long id, long amount, TransactionType type) {
+        if (shardedCommandProcessor.isEnabled()) {
+            // 샤드 스레드에서 실행 (명령/Future 객체가 생기므로 이 경우에는 할당 없는 경로가 아님)
+            return shardedCommandProcessor.execute(id, () -> applyFastWithLock(id, amount, type));
+        }
+        userLockManager.lock(id);
+        try {
+            return applyFastWithLock(id, amount, type);
+        } finally {
+            userLockManager.unlock(id);
+        }
     }
 
-    public List<PointHistory> history(long id) {
-        UserPoint userPoint = findUserPointOrThrow(id);
-        return pointHistoryTable.selectAllByUserId(userPoint.id());
+    // 사용자 단위로 직렬화된 상태에서 호출되는 할당 없는 충전/사용 로직 - 잔액/누적 금액/이력을 long 값으로만 다룸
+    private long applyFastWithLock(long id, long amount, TransactionType type) {
+        long balance = userPointTable.selectPoint(id);
+
+        // 일일 누적 금액 (오늘 항목이 없을 때만 이력으로부터 초기화)
+        long startOfToday = timeProvider.getStartOfTodayMillis();
+        long todayTotal = dailyPointAccumulator.loadedTodayTotal(id, type, startOfToday);
+        if (todayTotal == DailyPointAccumulator.NOT_LOADED) {
+            todayTotal = getTodayAmount(id, type, startOfToday);
+        }
+
+        // 단건 충전/사용과 같은 순서로 검증 후 잔액 계산
+        long newBalance = type == TransactionType.CHARGE
+                ? PointRules.charge(balance, amount, todayTotal)
+                : PointRules.use(balance, amount, todayTotal);
+
+        if (writeAheadLog.isEnabled()) {
+            // WAL 사용 시 기존 경로와 같이 레코드를 먼저 기록한 뒤 반영
+            persistLogged(id, newBalance, List.of(new PendingPointHistory(id, amount, type, timeProvider.getCurrentTimeMillis())));
+        } else {
+            long updateMillis = userPointTable.updatePoint(id, newBalance);
+            if (userPointCache.isEnabled() || historyWriter.isEnabled()) {
+                // 객체가 필요한 부가 기능(캐시/그룹 커밋)을 사용하는 경우 기존 경로와 같은 방식으로 반영
+                userPointCache.put(new UserPoint(id, newBalance, updateMillis));
+                saveHistory(id, amount, type);
+            } else {
+                pointHistoryTable.insertRow(id, amount, type, timeProvider.getCurrentTimeMillis());
+            }
+        }
+        dailyPointAccumulator.add(id, type, amount, startOfToday);
+        return newBalance;
     }
 
-//  ================================================================
+    // 일괄 처리 - 사용자별로 묶어 사용자 락을 한 번만 획득 (같은 사용자의 항목은 요청 순서 유지)
+    private List<PointOperationResult> applyAll(List<PointOperation> operations, TransactionType type) {
+        if (isOptimistic()) {
+            return applyAllOptimistic(operations, type);
+        }
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        Map<Long, List<Integer>> indicesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            if (operation.userId() <= 0) {
+                // 잘못된 사용자 ID 는 사용자 락/샤드를 거치지 않고 해당 항목만 실패 처리
+                results[i] = PointOperationResult.failure(i, operation, ApiErrorMessages.USER_ID_NEGATIVE);
+                continue;
+            }
+            indicesByUser.computeIfAbsent(operation.userId(), userId -> new ArrayList<>()).add(i);
+        }
+        indicesByUser.forEach((id, indices) -> executeForUser(id, () -> {
+            applyAllWithLock(id, indices, operations, type, results);
+            return null;
+        }));
+        return List.of(results);
+    }
+
+    // 사용자 단위로 직렬화된 상태(사용자 락 보유 또는 샤드 스레드)에서 호출되는 일괄 처리 로직
+    // 저장된 잔액을 반환 (성공한 항목이 없으면 null)
+    private UserPoint applyAllWithLock(long id, List<Integer> indices, List<PointOperation> operations,
+                                       TransactionType type, PointOperationResult[] results) {
+        // 사용자 존재 확인 (없으면 해당 사용자의 모든 항목 실패)
+        UserPoint userPoint;
+        try {
+            userPoint = findUserPointOrThrow(id);
+        } catch (IllegalArgumentException e) {
+            indices.forEach(i -> results[i] = PointOperationResult.failure(i, operations.get(i), e.getMessage()));
+            return null;
+        }
+
+        long startOfToday = timeProvider.getStartOfTodayMillis();
+        long todayTotal = getTodayAmount(id, type, startOfToday);
+        Point balance = Point.of(userPoint.point());
+        long appliedTotal = 0;
+        List<Integer> applied = new ArrayList<>(indices.size());
+
+        // 항목별 도메인/정책 검증 후 잔액에 순서대로 반영 (실패한 항목은 건너뜀)
+        for (int i : indices) {
+            PointOperation operation = operations.get(i);
+            try {
+                balance = type == TransactionType.CHARGE
+                        ? applyCharge(balance, operation.amount(), todayTotal + appliedTotal)
+                        : applyUse(balance, operation.amount(), todayTotal + appliedTotal);
+                appliedTotal += operation.amount();
+                applied.add(i);
+                results[i] = PointOperationResult.success(i, operation, balance.value());
+            } catch (IllegalArgumentException e) {
+                results[i] = PointOperationResult.failure(i, operation, e.getMessage());
+            }
+        }
+        if (applied.isEmpty()) {
+            return null;
+        }
+
+        // 성공한 항목의 이력
+        long now = timeProvider.getCurrentTimeMillis();
+        List<PendingPointHistory> histories = new ArrayList<>(applied.size());
+        for (int i : applied) {
+            histories.add(new PendingPointHistory(id, operations.get(i).amount(), type, now));
+        }
 
-    // 유저 포인트 조회
+        // DB 업데이트 1회 (캐시에도 즉시 반영) 후 이력을 한 번에 저장 (WAL 사용 시 기록 후 반영)
+        UserPoint updatedUserPoint = persistAll(id, balance.value(), histories);
+        dailyPointAccumulator.add(id, type, appliedTotal, startOfToday);
+        return updatedUserPoint;
+    }
+
+    // 결합된 단건 충전/사용 요청 처리 (사용자 락 보유 상태) - 일괄 처리 로직으로 반영하고 요청별 결과를 단건 API 형태로 변환
+    private List<UserRequestCoalescer.Outcome<UserPoint>> applyCoalesced(long id, List<PointOperation> operations,
+                                                                          TransactionType type) {
+        List<Integer> indices = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            indices.add(i);
+        }
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        UserPoint updatedUserPoint = applyAllWithLock(id, indices, operations, type, results);
+
+        List<UserRequestCoalescer.Outcome<UserPoint>> outcomes = new ArrayList<>(results.length);
+        for (PointOperationResult result : results) {
+            outcomes.add(result.success()
+                    ? UserRequestCoalescer.Outcome.success(new UserPoint(id, result.balance(), updatedUserPoint.updateMillis()))
+                    : UserRequestCoalescer.Outcome.failure(new IllegalArgumentException(result.errorMessage())));
+        }
+        return outcomes;
+    }
+
+    // 낙관적 모드의 일괄 처리 - 사용자 락 없이 항목마다 낙관적 갱신을 요청 순서대로 적용 (실패한 항목만 제외)
+    private List<PointOperationResult> applyAllOptimistic(List<PointOperation> operations, TransactionType type) {
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            if (operation.userId() <= 0) {
+                results.add(PointOperationResult.failure(i, operation, ApiErrorMessages.USER_ID_NEGATIVE));
+                continue;
+            }
+            try {
+                UserPoint updatedUserPoint = applyOptimistic(operation.userId(), operation.amount(), type);
+                results.add(PointOperationResult.success(i, operation, updatedUserPoint.point()));
+            } catch (IllegalArgumentException | OptimisticConflictException e) {
+                results.add(PointOperationResult.failure(i, operation, e.getMessage()));
+            }
+        }
+        return List.copyOf(results);
+    }
+
+    // 낙관적 충전/사용 - 버전과 함께 조회한 잔액으로 계산하고, 그 사이 다른 저장이 없었을 때만 저장 (충돌 시 재시도)
+    // 단건 충전/사용과 같은 순서로 검증 (금액 → 잔액 → 일일 한도 → 최대 잔액/잔액 부족)
+    private UserPoint applyOptimistic(long id, long amount, TransactionType type) {
+        if (type == TransactionType.CHARGE) {
+            PointRules.requireChargeAmount(amount);
+        } else {
+            PointRules.requireUseAmount(amount);
+        }
+        long startOfToday = timeProvider.getStartOfTodayMillis();
+        long startOfTomorrow = timeProvider.getStartOfTomorrowMillis();
+        long dailyLimit = type == TransactionType.CHARGE ? PointPolicy.DAILY_CHARGE_LIMIT : PointPolicy.MAX_USE_AMOUNT_PER_DAY;
+
+        for (int attempt = 1; ; attempt++) {
+            VersionedUserPoint current = userPointTable.selectVersionedById(id);
+            long balance = PointRules.requireBalance(current.userPoint().point());
+
+            // 일일 한도 안에서 누적 금액을 먼저 예약 (저장에 실패하면 되돌림)
+            if (!dailyPointAccumulator.tryReserve(id, type, amount, dailyLimit, startOfToday, startOfTomorrow,
+                    () -> pointHistoryTable.selectAllByUserId(id))) {
+                throw new IllegalArgumentException(type == TransactionType.CHARGE
+                        ? ServiceErrorMessages.DAILY_CHARGE_LIMIT
+                        : ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY);
+            }
+
+            UserPoint updatedUserPoint;
+            try {
+                long newBalance = type == TransactionType.CHARGE
+                        ? PointRules.chargedBalance(balance, amount)
+                        : PointRules.usedBalance(balance, amount);
+                optimisticRetryPolicy.onAttempt();
+                updatedUserPoint = userPointTable.compareAndSet(id, current.version(), newBalance);
+            } catch (RuntimeException e) {
+                dailyPointAccumulator.release(id, type, amount, startOfToday);
+                throw e;
+            }
+
+            if (updatedUserPoint != null) {
+                // 저장 순서와 캐시 반영 순서가 어긋날 수 있으므로 캐시는 제거하여 다음 조회 시 테이블에서 읽도록 함
+                userPointCache.evict(id);
+                saveHistory(id, amount, type);
+                return updatedUserPoint;
+            }
+            // 다른 요청이 먼저 저장함 - 예약을 되돌리고 백오프 후 다시 조회 (시도 횟수 소진 시 예외)
+            dailyPointAccumulator.release(id, type, amount, startOfToday);
+            optimisticRetryPolicy.onConflict(attempt, ServiceErrorMessages.CONCURRENT_UPDATE_CONFLICT);
+        }
+    }
+
+    // 사용자 단위 직렬 실행 - SHARDED 모드에서는 사용자의 샤드 스레드에서, 그 외에는 사용자 락을 보유한 상태에서 실행
+    private <T> T executeForUser(long id, Supplier<T> action) {
+        if (shardedCommandProcessor.isEnabled()) {
+            return shardedCommandProcessor.execute(id, action);
+        }
+        return userLockManager.executeWithLock(id, action);
+    }
+
+    // 요청 결합 사용 여부 (사용자 락 경로에서만 사용, 낙관적 모드 여부는 호출 전에 확인)
+    private boolean isCoalescing() {
+        return userRequestCoalescer.isEnabled() && !shardedCommandProcessor.isEnabled();
+    }
+
+    // 낙관적 갱신 사용 여부 (WAL 사용 시에는 사용자별 기록 순서를 위해 사용자 락 경로 사용)
+    private boolean isOptimistic() {
+        return optimisticRetryPolicy.isEnabled() && !writeAheadLog.isEnabled();
+    }
+
+    // 충전 항목 1건 적용 - 단건 충전과 같은 순서로 검증 (금액 → 일일 한도 → 최대 잔액)
+    private Point applyCharge(Point balance, long amount, long todayTotal) {
+        ChargeAmount chargeAmount = ChargeAmount.validated(amount);
+        if (todayTotal + amount > PointPolicy.DAILY_CHARGE_LIMIT) {
+            throw new IllegalArgumentException(ServiceErrorMessages.DAILY_CHARGE_LIMIT);
+        }
+        return balance.charge(chargeAmount);
+    }
+
+    // 사용 항목 1건 적용 - 단건 사용과 같은 순서로 검증 (금액 → 일일 한도 → 잔액)
+    private Point applyUse(Point balance, long amount, long todayUsedAmount) {
+        UseAmount useAmount = UseAmount.validated(amount);
+        if (todayUsedAmount + useAmount.value() > PointPolicy.MAX_USE_AMOUNT_PER_DAY) {
+            throw new IllegalArgumentException(ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY);
+        }
+        return balance.use(useAmount);
+    }
+
+    // 유저 포인트 조회 (캐시에 없을 때만 테이블 조회)
     private UserPoint findUserPointOrThrow(long id) {
-        UserPoint userPoint = userPointTable.selectById(id);
+        UserPoint userPoint = userPointCache.get(id, userPointTable::selectById);
         if (userPoint == null) {
             throw new IllegalArgumentException(ServiceErrorMessages.USER_NOT_FOUND);
         }
         return userPoint;
     }
 
-    // 유저의 하루 충전 포인트 이력 조회
-    private long getTodayChargeAmount(Long id) {
-        List<PointHistory> allHistories = pointHistoryTable.selectAllByUserId(id);
-
-        long start = timeProvider.getStartOfTodayMillis();
-        long end = timeProvider.getStartOfTomorrowMillis();
+    // 이력 내보내기 범위 검증 ([fromMillis, toMillis), PointHistoryQuery 와 같은 규칙)
+    private static void requireRange(long fromMillis, long toMillis) {
+        if (fromMillis >= toMillis) {
+            throw new IllegalArgumentException(ApiErrorMessages.HISTORY_RANGE_INVALID);
+        }
+    }
 
-        return allHistories.stream()
-                .filter(history -> history.updateMillis() >= start && history.updateMillis() < end)
-                .filter(history -> history.type() == TransactionType.CHARGE)
-                .mapToLong(PointHistory::amount)
-                .sum();
+    private static Stream<PointHistory> filterType(Stream<PointHistory> histories, TransactionType type) {
+        return type == null ? histories : histories.filter(history -> history.type() == type);
     }
 
-    // 하루 사용 포인트 이력 조회
-    private long getTodayUsedAmount(Long id) {
-        List<PointHistory> allHistories = pointHistoryTable.selectAllByUserId(id);
+    // 이력 저장 - 그룹 커밋 사용 시 다른 요청의 이력과 함께 일괄 저장될 때까지 대기
+    private PointHistory saveHistory(long id, long amount, TransactionType type) {
+        long now = timeProvider.getCurrentTimeMillis();
+        if (historyWriter.isEnabled()) {
+            return historyWriter.write(id, amount, type, now);
+        }
+        return pointHistoryTable.insert(id, amount, type, now);
+    }
 
-        long start = timeProvider.getStartOfTodayMillis();
-        long end = timeProvider.getStartOfTomorrowMillis();
+    // 단건 반영 - 잔액 저장(캐시에도 즉시 반영) 후 이력 저장
+    private UserPoint persist(long id, long balance, long amount, TransactionType type) {
+        if (writeAheadLog.isEnabled()) {
+            return persistLogged(id, balance, List.of(new PendingPointHistory(id, amount, type, timeProvider.getCurrentTimeMillis())));
+        }
+        UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, balance);
+        userPointCache.put(updatedUserPoint);
+        saveHistory(id, amount, type);
+        return updatedUserPoint;
+    }
 
-        return allHistories.stream()
-                .filter(history -> history.updateMillis() >= start && history.updateMillis() < end)
-                .filter(history -> history.type() == TransactionType.USE)
-                .mapToLong(PointHistory::amount)
-                .sum();
+    // 일괄 반영 - 잔액 저장 1회(캐시에도 즉시 반영) 후 이력 일괄 저장 1회
+    private UserPoint persistAll(long id, long balance, List<PendingPointHistory> histories) {
+        if (writeAheadLog.isEnabled()) {
+            return persistLogged(id, balance, histories);
+        }
+        UserPoint updatedUserPoint = userPointTable.insertOrUpdate(id, balance);
+        userPointCache.put(updatedUserPoint);
+        pointHistoryTable.insertAll(histories);
+        return updatedUserPoint;
     }
 
+    // WAL 사용 시 반영 - 이력 ID 를 먼저 발급받아 레코드를 기록(fsync 완료까지 대기)한 뒤 테이블/캐시에 반영
+    // 기록에 실패하면 예외만 전달되고 아무것도 반영되지 않으므로, 클라이언트 재시도가 두 번 반영되지 않음 (발급받은 이력 ID 만 건너뜀)
+    // 기록부터 반영까지를 변경 게이트로 묶어 스냅샷이 기록만 되고 반영되지 않은 상태를 담지 않도록 함
+    private UserPoint persistLogged(long id, long balance, List<PendingPointHistory> pending) {
+        UserPoint updatedUserPoint = new UserPoint(id, balance, System.currentTimeMillis());
+        List<PointHistory> histories = pointHistoryTable.assignIds(pending);
+        writeAheadLog.beginMutation();
+        try {
+            writeAheadLog.append(updatedUserPoint, histories);
+            userPointTable.update(updatedUserPoint);
+            userPointCache.put(updatedUserPoint);
+            pointHistoryTable.insertAssigned(histories);
+        } finally {
+            writeAheadLog.endMutation();
+        }
+        return updatedUserPoint;
+    }
 
+    // 유저의 하루 충전/사용 누적 금액 조회
+    // 누적 집계기에 오늘 항목이 없을 때만 이력을 조회하고, 이후에는 O(1)로 조회
+    private long getTodayAmount(long id, TransactionType type, long startOfToday) {
+        long startOfTomorrow = timeProvider.getStartOfTomorrowMillis();
+        return dailyPointAccumulator.todayTotal(id, type, startOfToday, startOfTomorrow,
+                () -> pointHistoryTable.selectAllByUserId(id));
+    }
 }
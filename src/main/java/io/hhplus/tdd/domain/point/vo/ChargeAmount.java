@@ -1,11 +1,10 @@
 package io.hhplus.tdd.domain.point.vo;
 
-import io.hhplus.tdd.domain.point.policy.PointPolicy;
-import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.policy.PointRules;
 
 /**
  * 포인트 충전 금액을 나타내는 값 객체
- * 충전 금액에 대한 비즈니스 규칙을 검증:
+ * 충전 금액에 대한 비즈니스 규칙을 검증 (규칙 자체는 PointRules 에 위임):
  * - 최소 충전 금액(MIN_CHARGE_AMOUNT) 이상이어야 함
  * - 최대 충전 금액(MAX_CHARGE_AMOUNT) 이하여야 함
  */
@@ -20,11 +19,7 @@ public class ChargeAmount {
 
     // 정책에 대한 유효성 검증을 통과한 ChargeAmount 객체 생성
     public static ChargeAmount validated(long value) {
-        if (value < PointPolicy.MIN_CHARGE_AMOUNT)
-            throw new IllegalArgumentException(DomainErrorMessages.MIN_CHARGE);
-        if (value > PointPolicy.MAX_CHARGE_AMOUNT)
-            throw new IllegalArgumentException(DomainErrorMessages.MAX_CHARGE);
-        return new ChargeAmount(value);
+        return new ChargeAmount(PointRules.requireChargeAmount(value));
     }
 
     // 충전 금액 반환
@@ -1,13 +1,12 @@
 package io.hhplus.tdd.domain.point.vo;
 
-import io.hhplus.tdd.domain.point.policy.PointPolicy;
-import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.policy.PointRules;
 
 /**
  * 사용자의 포인트 잔액을 나타내는 값 객체 (Value Object)
  * - 포인트의 상태(금액)를 불변 객체로 캡슐화함
  * - 포인트 충전 및 사용 로직은 도메인 내부에서 책임지고 검증함
- *   (잔액 부족, 최대 충전 한도 초과 등)
+ *   (잔액 부족, 최대 충전 한도 초과 등 - 규칙 자체는 PointRules 에 위임)
  * - 해당 도메인 로직은 Service 레이어에서 위임하여 사용함
  */
 public class Point {
@@ -21,10 +20,7 @@ public class Point {
 
     // 포인트 생성 (최소 유효성만 검증)
     public static Point of(long value) {
-        if (value < 0) {
-            throw new IllegalArgumentException(DomainErrorMessages.MIN_POINT);
-        }
-        return new Point(value);
+        return new Point(PointRules.requireBalance(value));
     }
 
     // 포인트를 충전 금액만큼 더한 새 Point 객체 반환
@@ -34,10 +30,7 @@ public class Point {
 
     // 포인트를 사용 금액만큼 차감한 새 Point 객체 반환
     public Point use(UseAmount amount) {
-        if (this.value < amount.value()) {
-            throw new IllegalArgumentException(DomainErrorMessages.INSUFFICIENT_BALANCE);
-        }
-        return new Point(this.value - amount.value());
+        return new Point(PointRules.usedBalance(this.value, amount.value()));
     }
 
     // 포인트가 사용 금액보다 충분한지 여부 반환
@@ -51,11 +44,8 @@ public class Point {
     // 포인트 충전 시, 최대 잔액을 초과하지 않는지 검증하고
     // 초과하지 않으면 충전된 새 Point 객체 반환
     public Point charge(ChargeAmount amount) {
-        // 최대 잔액 초과 검증
-        if (this.value + amount.value() > PointPolicy.MAX_POINT_BALANCE) {
-            throw new IllegalArgumentException(DomainErrorMessages.MAX_CHARGE);
-        }
-        return this.add(amount);
+        // 최대 잔액 초과 검증 (PointRules 에 위임)
+        return new Point(PointRules.chargedBalance(this.value, amount.value()));
     }
 
     // 포인트 잔액 반환
@@ -1,11 +1,10 @@
 package io.hhplus.tdd.domain.point.vo;
 
-import io.hhplus.tdd.domain.point.policy.PointPolicy;
-import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.policy.PointRules;
 
 /**
  * 포인트 사용량을 나타내는 값 객체
- * 단일 거래에 대한 비즈니스 규칙을 검증:
+ * 단일 거래에 대한 비즈니스 규칙을 검증 (규칙 자체는 PointRules 에 위임):
  * - 최소 사용 금액(MIN_USE_AMOUNT) 이상이어야 함
  * - 단일 거래 최대 사용 금액(MAX_USE_AMOUNT_PER_TRANSACTION) 이하여야 함
  */
@@ -20,11 +19,7 @@ public class UseAmount {
 
     // 정책에 대한 유효성 검증을 통과한 UseAmount 객체 생성
     public static UseAmount validated(long value) {
-        if (value < PointPolicy.MIN_USE_AMOUNT)
-            throw new IllegalArgumentException(DomainErrorMessages.MIN_USE);
-        if (value > PointPolicy.MAX_USE_AMOUNT_PER_TRANSACTION)
-            throw new IllegalArgumentException(DomainErrorMessages.MAX_USE);
-        return new UseAmount(value);
+        return new UseAmount(PointRules.requireUseAmount(value));
     }
 
     // 사용 금액 반환
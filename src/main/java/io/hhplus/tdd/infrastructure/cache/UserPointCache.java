@@ -0,0 +1,74 @@
+package io.hhplus.tdd.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongFunction;
+
+/**
+ * 사용자 포인트 캐시 (read-through / write-through)
+ * UserPointTable.selectById 의 조회 지연(최대 200ms)을 매 요청마다 지불하지 않도록 잔액을 메모리에 보관
+ * - 조회: 캐시에 없을 때만 loader(UserPointTable.selectById)로 읽어 캐시에 저장
+ * - 갱신: UserPointTable.insertOrUpdate 결과를 즉시 캐시에 반영하여 쓰기 이후 이전 잔액이 조회되지 않도록 함
+ *   (같은 키의 조회 적재가 진행 중이면 적재가 끝난 뒤 덮어쓰므로 항상 마지막 쓰기가 남음)
+ * - 최대 크기를 넘으면 Caffeine(W-TinyLFU) 정책으로 제거하며, 적중/미스/제거 횟수를 기록
+ */
+@Component
+public class UserPointCache {
+
+    private final boolean enabled;
+    private final Cache<Long, UserPoint> cache;
+
+    public UserPointCache(UserPointCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .recordStats()
+                .build();
+    }
+
+    // 캐시 조회, 없으면 loader 로 읽어 캐시에 저장 (loader 결과가 null 이면 저장하지 않음)
+    public UserPoint get(long id, LongFunction<UserPoint> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return cache.get(id, key -> loader.apply(key));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 저장된 잔액을 캐시에 반영
+    public void put(UserPoint userPoint) {
+        if (enabled) {
+            cache.put(userPoint.id(), userPoint);
+        }
+    }
+
+    public void evict(long id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStatsSnapshot stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsSnapshot(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+
+    /**
+     * 캐시 지표 스냅샷
+     * @param hitCount 적중 횟수
+     * @param missCount 미스(테이블 조회) 횟수
+     * @param evictionCount 최대 크기 초과로 제거된 항목 수
+     * @param size 현재 캐시 항목 수(추정치)
+     */
+    public record CacheStatsSnapshot(long hitCount, long missCount, long evictionCount, long size) {
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 포인트 캐시 설정
+ * @param enabled 캐시 사용 여부 (false 이면 매번 UserPointTable 조회)
+ * @param maximumSize 캐시에 보관할 최대 사용자 수 (초과 시 W-TinyLFU 정책으로 제거)
+ */
+@ConfigurationProperties(prefix = "point.cache.user-point")
+public record UserPointCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize
+) {
+    public UserPointCacheProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+        }
+    }
+}
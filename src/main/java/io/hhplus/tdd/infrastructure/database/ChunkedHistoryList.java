@@ -0,0 +1,192 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryCursor;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 한 명의 포인트 이력을 보관하는 추가 전용(append-only) 청크 리스트
+ * - 고정 크기 청크 배열에 순서대로 기록하므로 행이 늘어나도 기존 데이터를 복사하지 않음
+ *   (청크 디렉터리 배열만 2배씩 늘어남)
+ * - 행은 항상 (updateMillis, id) 오름차순으로 유지되므로 시간 범위 조회는 이진 탐색 + 구간 순회로 처리
+ *   (대부분의 insert 는 시간 순서대로 들어오므로 끝에 추가되고, 순서가 어긋난 경우에만 들어갈 위치의 청크부터 새 청크로 교체)
+ * - 쓰기는 사용자 단위로만 동기화되며, 읽기는 잠금 없이 수행
+ *   (행을 먼저 기록한 뒤 volatile 상태(청크 배열 + 크기)를 한 번에 교체하므로 읽는 쪽은 항상 일관된 스냅샷을 읽음)
+ */
+final class ChunkedHistoryList {
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 청크당 32행
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile Snapshot snapshot = new Snapshot(new PointHistory[1][], 0);
+
+    // 행 추가 ((updateMillis, id) 순서를 유지)
+    synchronized void append(PointHistory row) {
+        Snapshot current = snapshot;
+        if (current.size > 0 && compare(current.get(current.size - 1), row) > 0) {
+            snapshot = current.insertSorted(row);
+            return;
+        }
+        snapshot = current.append(row);
+    }
+
+    // 같은 행이 없을 때만 추가 (복구 시 스냅샷과 WAL 에 함께 기록된 행의 중복 적재 방지)
+    synchronized boolean appendIfAbsent(PointHistory row) {
+        Snapshot current = snapshot;
+        int position = current.lowerBound(row.updateMillis(), row.id());
+        if (position < current.size && current.get(position).id() == row.id()) {
+            return false;
+        }
+        append(row);
+        return true;
+    }
+
+    int size() {
+        return snapshot.size;
+    }
+
+    // 현재까지 기록된 행 전체를 읽기 전용 리스트로 반환
+    List<PointHistory> toList() {
+        Snapshot current = snapshot;
+        return current.slice(0, current.size);
+    }
+
+    // 타입/시간 범위/커서 조건에 맞는 행을 limit 개수만큼 조회
+    PointHistoryPage query(PointHistoryQuery query) {
+        Snapshot current = snapshot;
+        int from = current.lowerBound(query.fromMillis(), Long.MIN_VALUE);
+        PointHistoryCursor cursor = query.cursor();
+        if (cursor != null) {
+            // 커서 행 바로 다음부터 조회 ((updateMillis, id) 가 커서보다 큰 첫 행, id + 1 은 Long.MAX_VALUE 에서 넘침)
+            from = Math.max(from, current.upperBound(cursor.updateMillis(), cursor.id()));
+        }
+
+        List<PointHistory> items = new ArrayList<>(Math.min(query.limit(), current.size - from));
+        for (int i = from; i < current.size; i++) {
+            PointHistory row = current.get(i);
+            if (row.updateMillis() >= query.toMillis()) {
+                break;
+            }
+            if (query.type() != null && row.type() != query.type()) {
+                continue;
+            }
+            if (items.size() == query.limit()) {
+                // 조건에 맞는 행이 더 남아 있으므로 다음 페이지 커서 발급
+                return new PointHistoryPage(items, PointHistoryCursor.of(items.get(items.size() - 1)).encode());
+            }
+            items.add(row);
+        }
+        return new PointHistoryPage(items, null);
+    }
+
+    // [fromMillis, toMillis) 범위의 행을 지연 스트림으로 반환 (호출 시점의 스냅샷을 행 단위로 읽으므로 복사 없음)
+    Stream<PointHistory> stream(long fromMillis, long toMillis) {
+        Snapshot current = snapshot;
+        return IntStream.range(current.lowerBound(fromMillis, Long.MIN_VALUE), current.size)
+                .mapToObj(current::get)
+                .takeWhile(row -> row.updateMillis() < toMillis);
+    }
+
+//  ================================================================
+
+    private static int compare(PointHistory a, PointHistory b) {
+        int byTime = Long.compare(a.updateMillis(), b.updateMillis());
+        return byTime != 0 ? byTime : Long.compare(a.id(), b.id());
+    }
+
+    /**
+     * 청크 배열과 유효 행 수를 묶은 불변 상태
+     * 청크 배열 자체는 추가 시 재사용되지만, size 이후의 칸만 기록되므로 기존 스냅샷의 내용은 변하지 않음
+     */
+    private record Snapshot(PointHistory[][] chunks, int size) {
+
+        PointHistory get(int index) {
+            return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        Snapshot append(PointHistory row) {
+            int chunkIndex = size >>> CHUNK_SHIFT;
+            PointHistory[][] directory = chunks;
+            if (chunkIndex == directory.length) {
+                directory = Arrays.copyOf(directory, directory.length * 2);
+            }
+            if (directory[chunkIndex] == null) {
+                directory[chunkIndex] = new PointHistory[CHUNK_SIZE];
+            }
+            directory[chunkIndex][size & CHUNK_MASK] = row;
+            return new Snapshot(directory, size + 1);
+        }
+
+        // 순서가 어긋난 행은 들어갈 위치의 청크부터 마지막 청크까지만 새 청크로 복사하며 한 칸씩 밀어 끼워 넣음
+        // - 앞쪽 청크는 이미 가득 차 다시 기록되지 않으므로 그대로 공유 (비용은 청크 수 + 뒤로 밀리는 행 수에 비례)
+        // - 기존 청크는 바꾸지 않으므로 기존 스냅샷을 읽는 쪽에 영향 없음
+        Snapshot insertSorted(PointHistory row) {
+            int position = lowerBound(row.updateMillis(), row.id());
+            int newSize = size + 1;
+            int firstChunk = position >>> CHUNK_SHIFT;
+            int chunkCount = ((newSize - 1) >>> CHUNK_SHIFT) + 1;
+            PointHistory[][] directory = Arrays.copyOf(chunks, chunkCount > chunks.length ? chunks.length * 2 : chunks.length);
+            for (int chunk = firstChunk; chunk < chunkCount; chunk++) {
+                directory[chunk] = new PointHistory[CHUNK_SIZE];
+            }
+            for (int i = firstChunk << CHUNK_SHIFT; i < position; i++) {
+                set(directory, i, get(i));
+            }
+            set(directory, position, row);
+            for (int i = position; i < size; i++) {
+                set(directory, i + 1, get(i));
+            }
+            return new Snapshot(directory, newSize);
+        }
+
+        // (updateMillis, id) 가 주어진 키 이상인 첫 번째 행의 위치
+        int lowerBound(long updateMillis, long id) {
+            return search(updateMillis, id, false);
+        }
+
+        // (updateMillis, id) 가 주어진 키보다 큰 첫 번째 행의 위치
+        int upperBound(long updateMillis, long id) {
+            return search(updateMillis, id, true);
+        }
+
+        private static void set(PointHistory[][] directory, int index, PointHistory row) {
+            directory[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = row;
+        }
+
+        private int search(long updateMillis, long id, boolean strict) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                PointHistory row = get(mid);
+                int cmp = Long.compare(row.updateMillis(), updateMillis);
+                if (cmp == 0) {
+                    cmp = Long.compare(row.id(), id);
+                }
+                if (cmp < 0 || (strict && cmp == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        List<PointHistory> slice(int from, int to) {
+            PointHistory[] rows = new PointHistory[to - from];
+            for (int i = from; i < to; i++) {
+                rows[i - from] = get(i);
+            }
+            return Collections.unmodifiableList(Arrays.asList(rows));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * ConcurrentHashMap 기반 사용자 잔액 저장 구조 (기본값)
+ * 사용자 단위 락으로 서로 다른 사용자는 병렬로 갱신되므로 ConcurrentHashMap 을 사용
+ * compareAndSet 은 버전이 같은 행 객체를 replace/putIfAbsent 로 교체하여 원자적으로 처리
+ */
+public class ConcurrentMapUserPointStore implements UserPointStore {
+
+    private final Map<Long, VersionedUserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint get(long id) {
+        VersionedUserPoint row = table.get(id);
+        return row == null ? null : row.userPoint();
+    }
+
+    @Override
+    public VersionedUserPoint getVersioned(long id) {
+        return table.get(id);
+    }
+
+    @Override
+    public void put(long id, long point, long updateMillis) {
+        UserPoint userPoint = new UserPoint(id, point, updateMillis);
+        table.compute(id, (key, row) -> new VersionedUserPoint(userPoint, row == null ? 1 : row.version() + 1));
+    }
+
+    @Override
+    public boolean compareAndSet(long id, long expectedVersion, long point, long updateMillis) {
+        VersionedUserPoint row = table.get(id);
+        if ((row == null ? 0 : row.version()) != expectedVersion) {
+            return false;
+        }
+        VersionedUserPoint updated = new VersionedUserPoint(new UserPoint(id, point, updateMillis), expectedVersion + 1);
+        return row == null ? table.putIfAbsent(id, updated) == null : table.replace(id, row, updated);
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public void forEach(Consumer<UserPoint> action) {
+        table.values().forEach(row -> action.accept(row.userPoint()));
+    }
+}
@@ -0,0 +1,183 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 이력 그룹 커밋 작성기
+ * 여러 요청의 이력 insert 를 모아 PointHistoryTable.insertAll 한 번으로 저장하여
+ * 이력 저장 지연(최대 300ms)을 요청마다 따로 지불하지 않도록 함
+ * 동작 방식:
+ * 1. 호출자는 이력을 큐에 넣고, 자신의 이력이 포함된 배치가 저장될 때까지 대기 (write) 하거나 Future 를 받음 (submit)
+ * 2. 단일 flusher 스레드가 첫 이력을 받은 뒤 maxLinger 동안 또는 maxBatchSize 에 도달할 때까지 이력을 모아 한 번에 저장
+ * 3. 저장 결과(ID가 발급된 PointHistory)를 각 호출자에게 전달, 저장 실패 시 배치의 모든 호출자에게 예외 전달
+ * 4. 종료(stop) 또는 flusher 스레드 중단 시 아직 저장되지 않은 이력의 Future 를 모두 예외로 완료
+ *    → 큐에 들어간 이력의 Future 는 어떤 경우에도 완료되므로, write 는 사용자 락을 보유한 채 무기한 대기하지 않음
+ */
+@Component
+public class GroupCommitPointHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitPointHistoryWriter.class);
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+
+    // ==== 그룹 커밋 지표 ====
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder committedRows = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public GroupCommitPointHistoryWriter(PointHistoryTable pointHistoryTable, GroupCommitProperties properties) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "point-history-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join();
+        }
+        // 종료 이후에 들어온 이력은 저장하지 않고 실패 처리
+        failQueued();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    // 이력을 큐에 넣고, 배치가 저장되면 완료되는 Future 반환
+    public CompletableFuture<PointHistory> submit(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!running) {
+            throw new IllegalStateException("이력 작성기가 실행 중이 아닙니다.");
+        }
+        PendingWrite write = new PendingWrite(new PendingPointHistory(userId, amount, type, updateMillis), new CompletableFuture<>());
+        queue.add(write);
+        // 넣는 사이 종료된 경우 - 스스로 꺼내면 실패 처리, 이미 꺼내졌으면 종료 처리(flusher 또는 stop)가 완료시킴
+        if (!running && queue.remove(write)) {
+            throw new IllegalStateException("이력 작성기가 실행 중이 아닙니다.");
+        }
+        return write.future();
+    }
+
+    // 이력을 큐에 넣고 배치가 저장될 때까지 대기 (저장/실패/종료 중 하나로 반드시 완료됨)
+    public PointHistory write(long userId, long amount, TransactionType type, long updateMillis) {
+        try {
+            return submit(userId, amount, type, updateMillis).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 저장된 배치 수
+    public long commitCount() {
+        return commits.sum();
+    }
+
+    // 저장된 이력 수
+    public long committedRowCount() {
+        return committedRows.sum();
+    }
+
+//  ================================================================
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(properties.maxBatchSize());
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 인터럽트 등으로 중단된 경우 - 모으던 배치와 큐에 남은 이력을 모두 실패 처리 (이미 완료된 Future 는 그대로)
+            running = false;
+            fail(batch);
+            failQueued();
+        }
+    }
+
+    // 첫 이력 이후 maxLinger 동안 maxBatchSize 까지 이력을 모음
+    private void collect(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.maxLinger().toNanos();
+        while (batch.size() < properties.maxBatchSize()) {
+            queue.drainTo(batch, properties.maxBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.maxBatchSize() || remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        try {
+            List<PointHistory> saved = pointHistoryTable.insertAll(batch.stream().map(PendingWrite::row).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(saved.get(i));
+            }
+            commits.increment();
+            committedRows.add(batch.size());
+        } catch (RuntimeException e) {
+            log.error("포인트 이력 그룹 커밋 실패 (batchSize={})", batch.size(), e);
+            batch.forEach(write -> write.future().completeExceptionally(e));
+        }
+    }
+
+    private void failQueued() {
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining);
+    }
+
+    private static void fail(List<PendingWrite> writes) {
+        IllegalStateException stopped = new IllegalStateException("이력 작성기가 종료되었습니다.");
+        writes.forEach(write -> write.future().completeExceptionally(stopped));
+    }
+
+    private record PendingWrite(PendingPointHistory row, CompletableFuture<PointHistory> future) {
+    }
+}
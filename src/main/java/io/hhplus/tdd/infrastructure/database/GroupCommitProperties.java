@@ -0,0 +1,25 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 이력 그룹 커밋 설정
+ * @param enabled 그룹 커밋 사용 여부 (false 이면 요청마다 개별 insert)
+ * @param maxBatchSize 한 번에 저장할 최대 이력 수
+ * @param maxLinger 첫 이력이 들어온 뒤 다른 이력을 모으기 위해 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "point.history.group-commit")
+public record GroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxLinger
+) {
+    public GroupCommitProperties {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("그룹 커밋 최대 배치 크기는 0보다 커야 합니다.");
+        }
+    }
+}
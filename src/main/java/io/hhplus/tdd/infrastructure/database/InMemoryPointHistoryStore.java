@@ -0,0 +1,67 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 힙 기반 포인트 이력 저장 구조 (기본값)
+ * - userId → 사용자별 추가 전용 청크 리스트(ChunkedHistoryList)
+ *   → 사용자 이력 조회 비용이 전체 이력이 아닌 해당 사용자의 이력 수에 비례
+ * - 사용자 인덱스는 ConcurrentHashMap을 사용하여 동시 append 에도 안전
+ */
+public class InMemoryPointHistoryStore implements PointHistoryStore {
+
+    private final Map<Long, ChunkedHistoryList> table = new ConcurrentHashMap<>();
+
+    @Override
+    public void append(PointHistory row) {
+        rowsOf(row.userId()).append(row);
+    }
+
+    @Override
+    public boolean appendIfAbsent(PointHistory row) {
+        return rowsOf(row.userId()).appendIfAbsent(row);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        ChunkedHistoryList rows = table.get(userId);
+        return rows == null ? List.of() : rows.toList();
+    }
+
+    @Override
+    public PointHistoryPage selectByUserId(long userId, PointHistoryQuery query) {
+        ChunkedHistoryList rows = table.get(userId);
+        return rows == null ? new PointHistoryPage(List.of(), null) : rows.query(query);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserId(long userId, long fromMillis, long toMillis) {
+        ChunkedHistoryList rows = table.get(userId);
+        return rows == null ? Stream.empty() : rows.stream(fromMillis, toMillis);
+    }
+
+    @Override
+    public Stream<PointHistory> streamAll(long fromMillis, long toMillis) {
+        return table.values().stream().flatMap(rows -> rows.stream(fromMillis, toMillis));
+    }
+
+    @Override
+    public Stream<PointHistory> snapshot() {
+        // 사용자별 스트림은 만들 때 청크 리스트의 상태를 고정하므로 목록부터 만든 뒤 이어 붙임
+        List<Stream<PointHistory>> users = table.values().stream()
+                .map(rows -> rows.stream(Long.MIN_VALUE, Long.MAX_VALUE))
+                .toList();
+        return users.stream().flatMap(rows -> rows);
+    }
+
+    private ChunkedHistoryList rowsOf(long userId) {
+        return table.computeIfAbsent(userId, id -> new ChunkedHistoryList());
+    }
+}
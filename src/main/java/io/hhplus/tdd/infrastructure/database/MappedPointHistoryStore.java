@@ -0,0 +1,373 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.common.utils.ConcurrentLongMap;
+import io.hhplus.tdd.domain.point.dto.PointHistoryCursor;
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 맵 파일 기반 컬럼형 포인트 이력 저장 구조
+ * PointHistory 객체(헤더 + 필드 + 참조) 대신 고정 폭 컬럼 파일에 행을 기록하여 힙 사용량과 GC 부담을 제거
+ * - 컬럼 : id(8) / userId(8) / amount(8) / type(1) / updateMillis(8) → 행당 33바이트 (힙 밖, 페이지 캐시)
+ * - 각 컬럼 파일은 segmentRows 행 단위 세그먼트로 나누어 필요할 때 매핑 (MappedByteBuffer 의 2GB 제한 회피)
+ * - 사용자 인덱스는 사용자별 행 번호 int 배열 하나(행당 4바이트)만 힙에 두며, (updateMillis, id) 순으로 유지
+ *   (사용자 → 인덱스 맵은 long 키 맵을 사용하여 조회 시 박싱 없음)
+ * - 쓰기는 행 번호를 AtomicInteger 로 선점한 뒤 컬럼에 기록하고, 사용자 인덱스의 volatile 크기를 늘려 공개
+ *   (읽는 쪽은 공개된 행 번호까지만 읽으므로 기록 중인 행을 보지 않음)
+ * - 파일은 작업 공간으로만 사용하며 시작 시 비움 (재시작 복구는 WriteAheadLog 담당)
+ */
+public class MappedPointHistoryStore implements PointHistoryStore, Closeable {
+
+    // 행당 디스크 사용량 (id + userId + amount + type + updateMillis)
+    public static final int ROW_BYTES = Long.BYTES * 4 + Byte.BYTES;
+
+    // 세그먼트 최대 행 수 (세그먼트 하나의 크기 segmentRows * Long.BYTES 가 MappedByteBuffer 최대 크기(int 범위)를 넘지 않도록 함)
+    public static final int MAX_SEGMENT_ROWS = Integer.highestOneBit(Integer.MAX_VALUE / Long.BYTES);
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Column ids;
+    private final Column userIds;
+    private final Column amounts;
+    private final Column types;
+    private final Column updateMillis;
+    private final AtomicInteger nextRow = new AtomicInteger();
+    private final ConcurrentLongMap<UserRows> users = new ConcurrentLongMap<>();
+
+    private MappedPointHistoryStore(Path directory, int segmentRows) throws IOException {
+        this.ids = new Column(directory.resolve("history-id.col"), Long.BYTES, segmentRows);
+        this.userIds = new Column(directory.resolve("history-user-id.col"), Long.BYTES, segmentRows);
+        this.amounts = new Column(directory.resolve("history-amount.col"), Long.BYTES, segmentRows);
+        this.types = new Column(directory.resolve("history-type.col"), Byte.BYTES, segmentRows);
+        this.updateMillis = new Column(directory.resolve("history-update-millis.col"), Long.BYTES, segmentRows);
+    }
+
+    // 디렉터리에 컬럼 파일을 새로 만들어 저장 구조 생성 (segmentRows: MAX_SEGMENT_ROWS 이하의 2의 거듭제곱)
+    public static MappedPointHistoryStore open(Path directory, int segmentRows) throws IOException {
+        requireValidSegmentRows(segmentRows);
+        Files.createDirectories(directory);
+        return new MappedPointHistoryStore(directory, segmentRows);
+    }
+
+    // 세그먼트 행 수 검증 (설정 바인딩 시점과 open 에서 함께 사용)
+    static void requireValidSegmentRows(int segmentRows) {
+        if (segmentRows <= 0 || segmentRows > MAX_SEGMENT_ROWS || Integer.bitCount(segmentRows) != 1) {
+            throw new IllegalArgumentException("세그먼트 행 수는 " + MAX_SEGMENT_ROWS + " 이하의 2의 거듭제곱이어야 합니다.");
+        }
+    }
+
+    @Override
+    public void append(PointHistory row) {
+        append(row.id(), row.userId(), row.amount(), row.type(), row.updateMillis());
+    }
+
+    @Override
+    public void append(long id, long userId, long amount, TransactionType type, long millis) {
+        int position = nextRow.getAndIncrement();
+        if (position < 0) {
+            throw new IllegalStateException("이력 저장 공간이 가득 찼습니다.");
+        }
+        ids.putLong(position, id);
+        userIds.putLong(position, userId);
+        amounts.putLong(position, amount);
+        types.putByte(position, (byte) type.ordinal());
+        updateMillis.putLong(position, millis);
+        rowsOf(userId).add(position);
+    }
+
+    @Override
+    public boolean appendIfAbsent(PointHistory row) {
+        UserRows rows = rowsOf(row.userId());
+        synchronized (rows) {
+            if (rows.contains(row.updateMillis(), row.id())) {
+                return false;
+            }
+            append(row);
+            return true;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserRows rows = users.get(userId);
+        return rows == null ? List.of() : rows.toList();
+    }
+
+    @Override
+    public PointHistoryPage selectByUserId(long userId, PointHistoryQuery query) {
+        UserRows rows = users.get(userId);
+        return rows == null ? new PointHistoryPage(List.of(), null) : rows.query(query);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserId(long userId, long fromMillis, long toMillis) {
+        UserRows rows = users.get(userId);
+        return rows == null ? Stream.empty() : rows.stream(fromMillis, toMillis);
+    }
+
+    @Override
+    public Stream<PointHistory> streamAll(long fromMillis, long toMillis) {
+        return users.values().flatMap(rows -> rows.stream(fromMillis, toMillis));
+    }
+
+    @Override
+    public Stream<PointHistory> snapshot() {
+        // 사용자별 스트림은 만들 때 행 번호 배열과 크기를 고정하므로 목록부터 만든 뒤 이어 붙임
+        List<Stream<PointHistory>> streams = users.values()
+                .map(rows -> rows.stream(Long.MIN_VALUE, Long.MAX_VALUE))
+                .toList();
+        return streams.stream().flatMap(rows -> rows);
+    }
+
+    // 디스크(페이지 캐시)에 기록된 컬럼 바이트 수
+    public long usedBytes() {
+        return (long) nextRow.get() * ROW_BYTES;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ids.close();
+        userIds.close();
+        amounts.close();
+        types.close();
+        updateMillis.close();
+    }
+
+//  ================================================================
+
+    // 이미 있는 사용자는 람다 생성 없이 조회
+    private UserRows rowsOf(long userId) {
+        UserRows rows = users.get(userId);
+        return rows != null ? rows : users.computeIfAbsent(userId, id -> new UserRows());
+    }
+
+    private PointHistory read(int position) {
+        return new PointHistory(
+                ids.getLong(position),
+                userIds.getLong(position),
+                amounts.getLong(position),
+                TYPES[types.getByte(position)],
+                updateMillis.getLong(position)
+        );
+    }
+
+    private int compare(int position, long millis, long id) {
+        int byTime = Long.compare(updateMillis.getLong(position), millis);
+        return byTime != 0 ? byTime : Long.compare(ids.getLong(position), id);
+    }
+
+    /**
+     * 사용자 한 명의 행 번호 목록 ((updateMillis, id) 오름차순)
+     * 쓰기는 사용자 단위로 동기화하고, 읽기는 volatile 스냅샷을 잠금 없이 읽음
+     * - 순서대로 들어온 행은 현재 배열의 빈 칸에 기록한 뒤 스냅샷의 volatile 크기만 늘림 (객체 생성 없음)
+     * - 배열이 가득 찼거나 순서가 어긋난 행은 새 배열로 재구성한 새 스냅샷으로 교체 (기존 스냅샷을 읽는 쪽에 영향 없음)
+     */
+    private final class UserRows {
+
+        private volatile Snapshot snapshot = new Snapshot(new int[4], 0);
+
+        synchronized void add(int position) {
+            Snapshot current = snapshot;
+            int size = current.size;
+            long millis = updateMillis.getLong(position);
+            long id = ids.getLong(position);
+            if (size > 0 && compare(current.rows[size - 1], millis, id) > 0) {
+                int at = lowerBound(current.rows, size, millis, id);
+                int[] rebuilt = new int[Math.max(current.rows.length, size + 1)];
+                System.arraycopy(current.rows, 0, rebuilt, 0, at);
+                rebuilt[at] = position;
+                System.arraycopy(current.rows, at, rebuilt, at + 1, size - at);
+                snapshot = new Snapshot(rebuilt, size + 1);
+                return;
+            }
+            if (size == current.rows.length) {
+                int[] grown = Arrays.copyOf(current.rows, size * 2);
+                grown[size] = position;
+                snapshot = new Snapshot(grown, size + 1);
+                return;
+            }
+            current.rows[size] = position;
+            current.size = size + 1;
+        }
+
+        boolean contains(long millis, long id) {
+            Snapshot current = snapshot;
+            int size = current.size;
+            int at = lowerBound(current.rows, size, millis, id);
+            return at < size && ids.getLong(current.rows[at]) == id;
+        }
+
+        List<PointHistory> toList() {
+            Snapshot current = snapshot;
+            int size = current.size;
+            PointHistory[] result = new PointHistory[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = read(current.rows[i]);
+            }
+            return Collections.unmodifiableList(Arrays.asList(result));
+        }
+
+        // 타입/시간 범위/커서 조건에 맞는 행을 limit 개수만큼 조회 (ChunkedHistoryList.query 와 동일한 규칙)
+        PointHistoryPage query(PointHistoryQuery query) {
+            Snapshot current = snapshot;
+            int size = current.size;
+            int[] rows = current.rows;
+            int from = lowerBound(rows, size, query.fromMillis(), Long.MIN_VALUE);
+            PointHistoryCursor cursor = query.cursor();
+            if (cursor != null) {
+                from = Math.max(from, upperBound(rows, size, cursor.updateMillis(), cursor.id()));
+            }
+
+            List<PointHistory> items = new ArrayList<>(Math.min(query.limit(), size - from));
+            for (int i = from; i < size; i++) {
+                int position = rows[i];
+                if (updateMillis.getLong(position) >= query.toMillis()) {
+                    break;
+                }
+                if (query.type() != null && TYPES[types.getByte(position)] != query.type()) {
+                    continue;
+                }
+                if (items.size() == query.limit()) {
+                    return new PointHistoryPage(items, PointHistoryCursor.of(items.get(items.size() - 1)).encode());
+                }
+                items.add(read(position));
+            }
+            return new PointHistoryPage(items, null);
+        }
+
+        // [fromMillis, toMillis) 범위의 행을 지연 스트림으로 반환 (행 번호 스냅샷을 따라 읽을 때마다 한 행씩 객체로 변환)
+        Stream<PointHistory> stream(long fromMillis, long toMillis) {
+            Snapshot current = snapshot;
+            int size = current.size;
+            int[] rows = current.rows;
+            return IntStream.range(lowerBound(rows, size, fromMillis, Long.MIN_VALUE), size)
+                    .map(i -> rows[i])
+                    .takeWhile(position -> updateMillis.getLong(position) < toMillis)
+                    .mapToObj(MappedPointHistoryStore.this::read);
+        }
+
+        // (updateMillis, id) 가 주어진 키 이상인 첫 번째 행의 위치
+        private int lowerBound(int[] rows, int size, long millis, long id) {
+            return search(rows, size, millis, id, false);
+        }
+
+        // (updateMillis, id) 가 주어진 키보다 큰 첫 번째 행의 위치 (커서 행 바로 다음)
+        private int upperBound(int[] rows, int size, long millis, long id) {
+            return search(rows, size, millis, id, true);
+        }
+
+        private int search(int[] rows, int size, long millis, long id, boolean strict) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(rows[mid], millis, id);
+                if (cmp < 0 || (strict && cmp == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 행 번호 배열과 공개된 행 수
+     * rows 의 size 이후 칸만 기록되고 size 는 volatile 로 늘어나므로, 읽는 쪽은 size 를 먼저 읽은 뒤 그 앞까지만 읽음
+     */
+    private static final class Snapshot {
+
+        private final int[] rows;
+        private volatile int size;
+
+        Snapshot(int[] rows, int size) {
+            this.rows = rows;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 고정 폭 컬럼 파일
+     * segmentRows 행 단위로 파일 구간을 매핑하며, 아직 매핑되지 않은 세그먼트는 처음 접근할 때 매핑 (파일도 그만큼 늘어남)
+     * 절대 위치 get/put 만 사용하므로 버퍼의 position 을 공유하지 않음
+     */
+    private static final class Column implements Closeable {
+
+        private final FileChannel channel;
+        private final int width;
+        private final int segmentShift;
+        private final int segmentMask;
+        private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+        Column(Path file, int width, int segmentRows) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.width = width;
+            this.segmentShift = Integer.numberOfTrailingZeros(segmentRows);
+            this.segmentMask = segmentRows - 1;
+        }
+
+        long getLong(int row) {
+            return segment(row).getLong((row & segmentMask) * width);
+        }
+
+        byte getByte(int row) {
+            return segment(row).get((row & segmentMask) * width);
+        }
+
+        void putLong(int row, long value) {
+            segment(row).putLong((row & segmentMask) * width, value);
+        }
+
+        void putByte(int row, byte value) {
+            segment(row).put((row & segmentMask) * width, value);
+        }
+
+        private MappedByteBuffer segment(int row) {
+            int index = row >>> segmentShift;
+            MappedByteBuffer[] current = segments;
+            return index < current.length ? current[index] : map(index);
+        }
+
+        private synchronized MappedByteBuffer map(int index) {
+            MappedByteBuffer[] current = segments;
+            if (index < current.length) {
+                return current[index];
+            }
+            MappedByteBuffer[] grown = Arrays.copyOf(current, index + 1);
+            long segmentBytes = (long) width << segmentShift;
+            try {
+                for (int i = current.length; i <= index; i++) {
+                    grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * segmentBytes, segmentBytes);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("이력 컬럼 파일을 매핑할 수 없습니다.", e);
+            }
+            segments = grown;
+            return grown[index];
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * 개방 주소법(open addressing) 기반 사용자 잔액 저장 구조
+ * Map&lt;Long, UserPoint&gt; 의 엔트리마다 생기는 노드/박싱된 키/레코드 객체 없이 long 배열 하나에 행을 기록
+ * - 슬롯 : [id, 잔액, 수정 시각, 버전] 4개의 long 을 연속 배치 (사용자당 32바이트 / 적재율 0.75 이하)
+ * - 충돌은 선형 탐사로 해결하며, 삭제가 없으므로 빈 슬롯(EMPTY)을 만나면 탐색 종료
+ * - 키 해시의 상위 비트로 스트라이프(세그먼트)를 나누고, 세그먼트마다 StampedLock 으로 보호
+ *   → 조회는 낙관적 읽기(잠금/할당 없음) 후 검증, 저장/확장은 세그먼트 쓰기 락
+ * - 배열 확장은 세그먼트 단위로 2배씩 일어나므로 전체 테이블을 한 번에 복사하지 않음
+ * - compareAndSet 은 세그먼트 쓰기 락 안에서 버전을 비교하고 저장
+ */
+public class OpenAddressingUserPointStore implements UserPointStore {
+
+    // 빈 슬롯 표시 (사용자 ID로 쓰일 수 없는 값)
+    static final long EMPTY = Long.MIN_VALUE;
+
+    private static final int STRIDE = 4;
+    private static final int BALANCE = 1;
+    private static final int UPDATE_MILLIS = 2;
+    private static final int VERSION = 3;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    /**
+     * @param initialCapacity 예상 사용자 수 (확장 없이 담을 수 있도록 미리 할당)
+     * @param stripes 세그먼트 수 (2의 거듭제곱, 동시에 갱신할 수 있는 최대 단위)
+     */
+    public OpenAddressingUserPointStore(int initialCapacity, int stripes) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("스트라이프 수는 2의 거듭제곱이어야 합니다.");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다.");
+        }
+        this.segments = new Segment[stripes];
+        this.segmentShift = Long.SIZE - Integer.numberOfTrailingZeros(stripes);
+        this.segmentMask = stripes - 1; // 스트라이프가 1개이면 시프트가 64(=0)가 되므로 마스크로 보정
+        int perSegment = Math.max(MIN_SEGMENT_CAPACITY, tableSizeFor((long) initialCapacity / stripes * 4 / 3 + 1));
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    @Override
+    public UserPoint get(long id) {
+        long hash = hash(id);
+        Segment segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+
+        long stamp = lock.tryOptimisticRead();
+        long point = 0;
+        long updateMillis = 0;
+        boolean found = false;
+        if (stamp != 0) {
+            long[] slots = segment.slots;
+            int index = find(slots, hash, id);
+            if (slots[index] == id) {
+                found = true;
+                point = slots[index + BALANCE];
+                updateMillis = slots[index + UPDATE_MILLIS];
+            }
+        }
+        if (stamp == 0 || !lock.validate(stamp)) {
+            // 쓰기와 겹친 경우에만 읽기 락으로 다시 조회
+            stamp = lock.readLock();
+            try {
+                long[] slots = segment.slots;
+                int index = find(slots, hash, id);
+                found = slots[index] == id;
+                point = slots[index + BALANCE];
+                updateMillis = slots[index + UPDATE_MILLIS];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found ? new UserPoint(id, point, updateMillis) : null;
+    }
+
+    @Override
+    public VersionedUserPoint getVersioned(long id) {
+        long hash = hash(id);
+        Segment segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+
+        long stamp = lock.tryOptimisticRead();
+        long point = 0;
+        long updateMillis = 0;
+        long version = 0;
+        boolean found = false;
+        if (stamp != 0) {
+            long[] slots = segment.slots;
+            int index = find(slots, hash, id);
+            if (slots[index] == id) {
+                found = true;
+                point = slots[index + BALANCE];
+                updateMillis = slots[index + UPDATE_MILLIS];
+                version = slots[index + VERSION];
+            }
+        }
+        if (stamp == 0 || !lock.validate(stamp)) {
+            // 쓰기와 겹친 경우에만 읽기 락으로 다시 조회
+            stamp = lock.readLock();
+            try {
+                long[] slots = segment.slots;
+                int index = find(slots, hash, id);
+                found = slots[index] == id;
+                point = slots[index + BALANCE];
+                updateMillis = slots[index + UPDATE_MILLIS];
+                version = slots[index + VERSION];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found ? new VersionedUserPoint(new UserPoint(id, point, updateMillis), version) : null;
+    }
+
+    @Override
+    public long getPoint(long id) {
+        long hash = hash(id);
+        Segment segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            long[] slots = segment.slots;
+            int index = find(slots, hash, id);
+            long point = slots[index] == id ? slots[index + BALANCE] : 0;
+            if (lock.validate(stamp)) {
+                return point;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            long[] slots = segment.slots;
+            int index = find(slots, hash, id);
+            return slots[index] == id ? slots[index + BALANCE] : 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void put(long id, long point, long updateMillis) {
+        long hash = hash(id);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            int index = segment.slotOf(hash, id);
+            segment.write(index, id, point, updateMillis);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(long id, long expectedVersion, long point, long updateMillis) {
+        long hash = hash(id);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            long[] slots = segment.slots;
+            int index = find(slots, hash, id);
+            long version = slots[index] == id ? slots[index + VERSION] : 0;
+            if (version != expectedVersion) {
+                return false;
+            }
+            segment.write(segment.slotOf(hash, id), id, point, updateMillis);
+            return true;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                size += segment.size;
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(Consumer<UserPoint> action) {
+        for (Segment segment : segments) {
+            // 세그먼트 단위로 복사한 뒤 락 밖에서 action 실행
+            long[] copy;
+            long stamp = segment.lock.readLock();
+            try {
+                copy = segment.slots.clone();
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+            for (int index = 0; index < copy.length; index += STRIDE) {
+                if (copy[index] != EMPTY) {
+                    action.accept(new UserPoint(copy[index], copy[index + BALANCE], copy[index + UPDATE_MILLIS]));
+                }
+            }
+        }
+    }
+
+//  ================================================================
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> segmentShift) & segmentMask];
+    }
+
+    // id 가 있는 슬롯 또는 id 를 넣을 빈 슬롯의 시작 위치 (선형 탐사)
+    // 탐사는 슬롯 수만큼으로 제한 - 낙관적 읽기가 기록 중인 배열을 보더라도 끝나며,
+    // 못 찾으면 id 가 아닌 첫 슬롯을 돌려주어 "없음"으로 처리되고 호출자가 validate 실패 후 읽기 락으로 재조회
+    private static int find(long[] slots, long hash, long id) {
+        int mask = slots.length / STRIDE - 1;
+        int start = (int) hash & mask;
+        int slot = start;
+        for (int probes = 0; probes <= mask; probes++) {
+            int index = slot * STRIDE;
+            long key = slots[index];
+            if (key == id || key == EMPTY) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return start * STRIDE;
+    }
+
+    // 연속된 ID가 한 곳에 몰리지 않도록 섞은 해시 (상위 비트: 세그먼트, 하위 비트: 슬롯)
+    private static long hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private static int tableSizeFor(long capacity) {
+        if (capacity >= 1 << 30) {
+            throw new IllegalArgumentException("초기 용량이 너무 큽니다.");
+        }
+        return Integer.highestOneBit((int) Math.max(1, capacity - 1)) << 1;
+    }
+
+    /**
+     * 스트라이프 하나의 슬롯 배열
+     * slots 는 쓰기 락 안에서만 교체되며, 낙관적 읽기는 교체 여부를 StampedLock.validate 로 확인
+     * volatile 로 발행하여 낙관적 읽기가 EMPTY 로 채워지기 전의 확장 배열을 보지 않도록 함
+     */
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private volatile long[] slots;
+        private int size;
+
+        Segment(int capacity) {
+            this.slots = emptySlots(capacity);
+        }
+
+        // 쓰기 락 안에서 호출 - id 의 슬롯 위치 (없으면 빈 슬롯을 확보하고 사용자 수 증가)
+        int slotOf(long hash, long id) {
+            if (id == EMPTY) {
+                throw new IllegalArgumentException("사용할 수 없는 사용자 ID 입니다.");
+            }
+            int index = find(slots, hash, id);
+            if (slots[index] == EMPTY) {
+                if ((size + 1) * 4L > (slots.length / STRIDE) * 3L) {
+                    resize();
+                    index = find(slots, hash, id);
+                }
+                size++;
+            }
+            return index;
+        }
+
+        // 쓰기 락 안에서 호출 - 행 기록 후 버전 증가 (새 행이면 EMPTY 슬롯의 버전 0 에서 1로)
+        // 쓰기와 겹친 낙관적 읽기는 StampedLock.validate 에서 걸러지므로 기록 순서는 무관
+        void write(int index, long id, long point, long updateMillis) {
+            long[] slots = this.slots;
+            slots[index + BALANCE] = point;
+            slots[index + UPDATE_MILLIS] = updateMillis;
+            slots[index + VERSION] = slots[index] == id ? slots[index + VERSION] + 1 : 1;
+            slots[index] = id;
+        }
+
+        // 쓰기 락 안에서 호출 - 슬롯 수를 2배로 늘리고 기존 행을 다시 배치
+        void resize() {
+            long[] old = slots;
+            long[] grown = emptySlots(old.length / STRIDE * 2);
+            for (int index = 0; index < old.length; index += STRIDE) {
+                long id = old[index];
+                if (id != EMPTY) {
+                    int target = find(grown, hash(id), id);
+                    grown[target] = id;
+                    grown[target + BALANCE] = old[index + BALANCE];
+                    grown[target + UPDATE_MILLIS] = old[index + UPDATE_MILLIS];
+                    grown[target + VERSION] = old[index + VERSION];
+                }
+            }
+            slots = grown;
+        }
+
+        private static long[] emptySlots(int capacity) {
+            long[] slots = new long[capacity * STRIDE];
+            for (int index = 0; index < slots.length; index += STRIDE) {
+                slots[index] = EMPTY;
+            }
+            return slots;
+        }
+    }
+}
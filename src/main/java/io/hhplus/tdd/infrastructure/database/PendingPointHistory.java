@@ -0,0 +1,15 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+/**
+ * 아직 ID가 발급되지 않은(저장 전) 포인트 이력
+ * 여러 이력을 한 번에 저장(insertAll)할 때 사용
+ */
+public record PendingPointHistory(
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 이력 저장 구조
+ * PointHistoryTable 이 ID 발급과 지연 시뮬레이션을 담당하고, 발급된 행의 보관/조회는 이 저장 구조에 위임
+ * - MEMORY : 사용자별 청크 리스트에 PointHistory 객체를 그대로 보관 (InMemoryPointHistoryStore)
+ * - MAPPED : 메모리 맵 파일의 고정 폭 컬럼에 보관하여 힙 사용량과 GC 부담을 줄임 (MappedPointHistoryStore)
+ * 구현체는 사용자별로 (updateMillis, id) 오름차순을 유지해야 하며, 동시 append/조회에 안전해야 함
+ */
+public interface PointHistoryStore {
+
+    // 행 추가
+    void append(PointHistory row);
+
+    // 행 추가 (필드 값으로 직접 추가, 객체 없이 기록할 수 있는 구현체는 재정의)
+    default void append(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        append(new PointHistory(id, userId, amount, type, updateMillis));
+    }
+
+    // 같은 ID의 행이 없을 때만 추가 (복구용)
+    boolean appendIfAbsent(PointHistory row);
+
+    // 사용자의 전체 이력 ((updateMillis, id) 순)
+    List<PointHistory> selectAllByUserId(long userId);
+
+    // 사용자의 이력 중 조회 조건에 맞는 한 페이지
+    PointHistoryPage selectByUserId(long userId, PointHistoryQuery query);
+
+    // 사용자의 [fromMillis, toMillis) 범위 이력을 지연 스트림으로 반환 ((updateMillis, id) 순, 결과 목록을 만들지 않음)
+    Stream<PointHistory> streamByUserId(long userId, long fromMillis, long toMillis);
+
+    // 전체 사용자의 [fromMillis, toMillis) 범위 이력을 지연 스트림으로 반환 (사용자별 (updateMillis, id) 순, 사용자 간 순서는 없음)
+    Stream<PointHistory> streamAll(long fromMillis, long toMillis);
+
+    // 호출 시점에 기록된 전체 이력을 지연 스트림으로 반환 (사용자별 (updateMillis, id) 순, 스냅샷 작성용)
+    // 호출 시 사용자별 상태만 고정하므로(사용자 수에 비례) 이후 추가된 행은 스트림을 읽는 시점과 무관하게 포함되지 않음
+    Stream<PointHistory> snapshot();
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 포인트 이력 저장 구조 구성
+ * point.history.store.type 설정에 따라 PointHistoryTable 에 주입할 PointHistoryStore 를 생성
+ * (MappedPointHistoryStore 는 Closeable 이므로 컨텍스트 종료 시 파일 채널이 닫힘)
+ */
+@Configuration
+public class PointHistoryStoreConfig {
+
+    @Bean
+    public PointHistoryStore pointHistoryStore(PointHistoryStoreProperties properties) throws IOException {
+        return switch (properties.type()) {
+            case MEMORY -> new InMemoryPointHistoryStore();
+            case MAPPED -> MappedPointHistoryStore.open(Path.of(properties.directory()), properties.segmentRows());
+        };
+    }
+}
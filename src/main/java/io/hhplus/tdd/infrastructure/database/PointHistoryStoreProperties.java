@@ -0,0 +1,25 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 이력 저장 구조 설정
+ * @param type MEMORY(힙 청크 리스트) / MAPPED(메모리 맵 컬럼 파일)
+ * @param directory MAPPED 컬럼 파일을 둘 디렉터리
+ * @param segmentRows 컬럼 파일을 한 번에 매핑하는 행 수 (MappedPointHistoryStore.MAX_SEGMENT_ROWS 이하의 2의 거듭제곱)
+ */
+@ConfigurationProperties(prefix = "point.history.store")
+public record PointHistoryStoreProperties(
+        @DefaultValue("MEMORY") Type type,
+        @DefaultValue("data/history") String directory,
+        @DefaultValue("1048576") int segmentRows
+) {
+    public enum Type {
+        MEMORY, MAPPED
+    }
+
+    public PointHistoryStoreProperties {
+        MappedPointHistoryStore.requireValidSegmentRows(segmentRows);
+    }
+}
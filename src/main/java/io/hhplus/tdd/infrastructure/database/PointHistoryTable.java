@@ -1,38 +1,166 @@
 package io.hhplus.tdd.infrastructure.database;
 
 
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.dto.PointSummary;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.hhplus.tdd.infrastructure.time.CachedKSTTimeProvider;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 포인트 이력 테이블
+ * 공개 API(insert, selectAllByUserId)는 그대로 유지하고 행 보관은 주입된 PointHistoryStore 에 위임합니다.
+ * - 저장 구조는 point.history.store.type 설정으로 선택 (MEMORY: 힙 청크 리스트, MAPPED: 메모리 맵 컬럼 파일)
+ * - 사용자별 행은 (updateMillis, id) 순으로 정렬되어 있어 타입/시간 범위/커서 조건 조회는 이진 탐색 + 구간 순회로 처리
+ * - ID 발급은 AtomicLong 을 사용하여 동시 insert 에도 안전
+ * - 저장 지연은 주입된 LatencyModel 로 시뮬레이션 (point.latency 설정)
+ * - 호출 시간은 저장(insert)/일괄 저장(insert_all)/조회(select) 별로 point.table.latency 에 기록 (복구/순회/스트림 제외)
+ * - 저장/복구된 이력은 사용자별 요약(PointSummaryTable)에도 함께 반영
  */
 @Component
 public class PointHistoryTable {
-    private final List<PointHistory> table = new ArrayList<>();
-    private long cursor = 1;
+    private static final String TABLE = "point_history";
+
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final LatencyModel latencyModel;
+    private final PointHistoryStore store;
+    private final PointSummaryTable summaryTable;
+    private final Timer insertTimer;
+    private final Timer insertAllTimer;
+    private final Timer selectTimer;
+
+    // 직접 구성하는 경우(테스트/벤치마크) - 지표를 내보내지 않고, 요약은 한국 시간 기준으로 집계
+    public PointHistoryTable(LatencyModel latencyModel, PointHistoryStore store) {
+        this(latencyModel, store, PointMetrics.noop(), new PointSummaryTable(new CachedKSTTimeProvider()));
+    }
+
+    @Autowired
+    public PointHistoryTable(LatencyModel latencyModel, PointHistoryStore store, PointMetrics pointMetrics,
+                             PointSummaryTable summaryTable) {
+        this.latencyModel = latencyModel;
+        this.store = store;
+        this.summaryTable = summaryTable;
+        this.insertTimer = pointMetrics.tableTimer(TABLE, "insert");
+        this.insertAllTimer = pointMetrics.tableTimer(TABLE, "insert_all");
+        this.selectTimer = pointMetrics.tableTimer(TABLE, "select");
+    }
 
     public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long startNanos = System.nanoTime();
         throttle(300L);
-        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
-        table.add(pointHistory);
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        store.append(pointHistory);
+        summaryTable.record(userId, amount, type, updateMillis);
+        record(insertTimer, startNanos);
         return pointHistory;
     }
 
+    // 이력 저장 후 발급된 ID만 반환 (PointHistory 객체를 만들지 않는 경로용)
+    public long insertRow(long userId, long amount, TransactionType type, long updateMillis) {
+        long startNanos = System.nanoTime();
+        throttle(300L);
+        long id = cursor.getAndIncrement();
+        store.append(id, userId, amount, type, updateMillis);
+        summaryTable.record(userId, amount, type, updateMillis);
+        record(insertTimer, startNanos);
+        return id;
+    }
+
+    // 여러 이력을 한 번의 저장 지연으로 일괄 저장 (그룹 커밋용)
+    public List<PointHistory> insertAll(List<PendingPointHistory> rows) {
+        long startNanos = System.nanoTime();
+        throttle(300L);
+        List<PointHistory> saved = new ArrayList<>(rows.size());
+        for (PendingPointHistory row : rows) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), row.userId(), row.amount(), row.type(), row.updateMillis());
+            store.append(pointHistory);
+            summaryTable.record(row.userId(), row.amount(), row.type(), row.updateMillis());
+            saved.add(pointHistory);
+        }
+        record(insertAllTimer, startNanos);
+        return saved;
+    }
+
+    // 저장하지 않고 ID만 발급 (WAL 에 먼저 기록한 뒤 insertAssigned 로 저장하는 경로용, 저장되지 않은 ID 는 건너뛴 번호로 남음)
+    public List<PointHistory> assignIds(List<PendingPointHistory> rows) {
+        List<PointHistory> assigned = new ArrayList<>(rows.size());
+        for (PendingPointHistory row : rows) {
+            assigned.add(new PointHistory(cursor.getAndIncrement(), row.userId(), row.amount(), row.type(), row.updateMillis()));
+        }
+        return assigned;
+    }
+
+    // assignIds 로 ID 를 발급받은 이력을 한 번의 저장 지연으로 저장
+    public void insertAssigned(List<PointHistory> rows) {
+        long startNanos = System.nanoTime();
+        throttle(300L);
+        for (PointHistory row : rows) {
+            store.append(row);
+            summaryTable.record(row.userId(), row.amount(), row.type(), row.updateMillis());
+        }
+        record(insertAllTimer, startNanos);
+    }
+
     public List<PointHistory> selectAllByUserId(long userId) {
-        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        long startNanos = System.nanoTime();
+        List<PointHistory> histories = store.selectAllByUserId(userId);
+        record(selectTimer, startNanos);
+        return histories;
     }
 
-    private void throttle(long millis) {
-        try {
-            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
-        } catch (InterruptedException ignored) {
+    public PointHistoryPage selectByUserId(long userId, PointHistoryQuery query) {
+        long startNanos = System.nanoTime();
+        PointHistoryPage page = store.selectByUserId(userId, query);
+        record(selectTimer, startNanos);
+        return page;
+    }
 
+    // 사용자의 [fromMillis, toMillis) 범위 이력 스트림 (내보내기용, 결과 목록을 만들지 않고 저장 구조의 스냅샷을 따라 읽음)
+    public Stream<PointHistory> streamByUserId(long userId, long fromMillis, long toMillis) {
+        return store.streamByUserId(userId, fromMillis, toMillis);
+    }
+
+    // 전체 사용자의 [fromMillis, toMillis) 범위 이력 스트림 (정산용, 사용자별 (updateMillis, id) 순)
+    public Stream<PointHistory> streamAll(long fromMillis, long toMillis) {
+        return store.streamAll(fromMillis, toMillis);
+    }
+
+    // 사용자의 이력 요약 (저장 시점에 누적된 값을 반환하므로 이력 수와 무관)
+    public PointSummary selectSummaryByUserId(long userId) {
+        return summaryTable.selectByUserId(userId);
+    }
+
+    // 복구용 - 이미 ID가 발급된 이력을 지연 없이 그대로 적재 (이미 있는 행은 무시, 이후 발급 ID는 복구된 ID 다음부터)
+    public void restore(PointHistory pointHistory) {
+        if (store.appendIfAbsent(pointHistory)) {
+            summaryTable.record(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
         }
+        cursor.accumulateAndGet(pointHistory.id() + 1, Math::max);
+    }
+
+    // 호출 시점의 전체 이력 (스냅샷 작성용, 사용자별 (updateMillis, id) 순, 이후 추가된 행은 포함하지 않음)
+    public Stream<PointHistory> snapshot() {
+        return store.snapshot();
+    }
+
+    // 저장소 지연 시뮬레이션 (millis: 연산별 기준 지연 상한)
+    private void throttle(long millis) {
+        latencyModel.pause(millis);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 }
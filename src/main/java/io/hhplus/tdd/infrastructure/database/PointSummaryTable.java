@@ -0,0 +1,104 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.common.utils.ConcurrentLongMap;
+import io.hhplus.tdd.domain.point.dto.PointSummary;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.time.ITimeProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사용자별 포인트 이력 요약 테이블 (PointHistoryTable 이 이력을 저장할 때마다 갱신)
+ * 대시보드/운영 도구가 전체 이력을 받아 직접 합산하지 않도록, 요약 값을 이력 저장 시점에 누적해 둠
+ * - 누적 충전/사용 금액, 마지막 이력 시각, 일별/월별 충전/사용 합계
+ * - 일/월 구분은 ITimeProvider.dayIndex (한국 시간 기준 날짜 번호)를 사용
+ * - 사용자 요약은 long 키 맵(ConcurrentLongMap)에 보관하고, 요약 하나의 갱신/조회는 요약 객체 단위로 동기화
+ * - 가장 최근에 갱신한 날짜/월의 합계를 따로 기억하여, 같은 날의 이력은 맵 조회/객체 생성 없이 누적
+ *   (할당 없는 경로(insertRow)의 이력 저장에서도 새 날짜가 시작될 때만 객체를 만듦)
+ */
+@Component
+public class PointSummaryTable {
+
+    private final ITimeProvider timeProvider;
+    private final ConcurrentLongMap<UserSummary> summaries = new ConcurrentLongMap<>();
+
+    public PointSummaryTable(ITimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+    }
+
+    // 이력 한 건을 사용자 요약에 반영
+    public void record(long userId, long amount, TransactionType type, long updateMillis) {
+        long day = timeProvider.dayIndex(updateMillis);
+        summaries.computeIfAbsent(userId, UserSummary::new).add(day, amount, type, updateMillis);
+    }
+
+    // 사용자 요약 조회 (이력이 없으면 빈 요약)
+    public PointSummary selectByUserId(long userId) {
+        UserSummary summary = summaries.get(userId);
+        return summary == null ? PointSummary.empty(userId) : summary.toSummary();
+    }
+
+    /**
+     * 사용자 한 명의 요약 (totals 배열: [충전 합계, 사용 합계])
+     */
+    private static final class UserSummary {
+
+        private static final int CHARGED = 0;
+        private static final int USED = 1;
+
+        private final long userId;
+        private final Map<Long, long[]> days = new TreeMap<>();
+        private final Map<Integer, long[]> months = new TreeMap<>();
+        private long charged;
+        private long used;
+        private long lastActivityMillis;
+
+        // 가장 최근에 갱신한 날짜와 그 날짜/월의 합계 (같은 날 이력은 맵 조회 없이 누적)
+        private long currentDay = Long.MIN_VALUE;
+        private long[] currentDayTotals;
+        private long[] currentMonthTotals;
+
+        UserSummary(long userId) {
+            this.userId = userId;
+        }
+
+        synchronized void add(long day, long amount, TransactionType type, long updateMillis) {
+            if (day != currentDay) {
+                currentDay = day;
+                currentDayTotals = days.computeIfAbsent(day, key -> new long[2]);
+                currentMonthTotals = months.computeIfAbsent(monthOf(day), key -> new long[2]);
+            }
+            int index = type == TransactionType.CHARGE ? CHARGED : USED;
+            currentDayTotals[index] += amount;
+            currentMonthTotals[index] += amount;
+            if (index == CHARGED) {
+                charged += amount;
+            } else {
+                used += amount;
+            }
+            lastActivityMillis = Math.max(lastActivityMillis, updateMillis);
+        }
+
+        synchronized PointSummary toSummary() {
+            List<PointSummary.PeriodTotal> daily = new ArrayList<>(days.size());
+            days.forEach((day, totals) -> daily.add(
+                    new PointSummary.PeriodTotal(LocalDate.ofEpochDay(day).toString(), totals[CHARGED], totals[USED])));
+            List<PointSummary.PeriodTotal> monthly = new ArrayList<>(months.size());
+            months.forEach((month, totals) -> monthly.add(
+                    new PointSummary.PeriodTotal(YearMonth.of(month / 12, month % 12 + 1).toString(), totals[CHARGED], totals[USED])));
+            return new PointSummary(userId, charged, used, lastActivityMillis, List.copyOf(daily), List.copyOf(monthly));
+        }
+
+        // 날짜 번호 → 월 번호 (year * 12 + (month - 1), 정렬 순서가 시간 순서와 같음)
+        private static int monthOf(long day) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            return date.getYear() * 12 + date.getMonthValue() - 1;
+        }
+    }
+}
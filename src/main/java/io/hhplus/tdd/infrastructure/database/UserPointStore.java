@@ -0,0 +1,40 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자 잔액 저장 구조
+ * UserPointTable 이 지연 시뮬레이션을 담당하고, 잔액의 보관/조회는 이 저장 구조에 위임
+ * - MAP : ConcurrentHashMap 에 UserPoint 객체를 그대로 보관 (ConcurrentMapUserPointStore)
+ * - OPEN_ADDRESSING : long 배열 기반 개방 주소법 해시 테이블에 (id, 잔액, 수정 시각)을 보관 (OpenAddressingUserPointStore)
+ * 구현체는 서로 다른 사용자에 대한 동시 조회/저장에 안전해야 함
+ * 행마다 버전을 함께 보관하며, 저장(put/compareAndSet)이 성공할 때마다 1씩 증가 (저장된 적 없는 사용자는 0)
+ */
+public interface UserPointStore {
+
+    // 저장된 잔액 (없으면 null)
+    UserPoint get(long id);
+
+    // 저장된 잔액 값 (없으면 0, 객체를 만들지 않는 조회 경로용)
+    default long getPoint(long id) {
+        UserPoint userPoint = get(id);
+        return userPoint == null ? 0 : userPoint.point();
+    }
+
+    // 버전과 함께 조회 (없으면 null)
+    VersionedUserPoint getVersioned(long id);
+
+    // 버전과 무관하게 저장
+    void put(long id, long point, long updateMillis);
+
+    // 저장된 버전이 expectedVersion 과 같을 때만 저장 (조회와 저장 사이에 다른 저장이 없었음을 보장)
+    boolean compareAndSet(long id, long expectedVersion, long point, long updateMillis);
+
+    // 저장된 사용자 수
+    int size();
+
+    // 전체 잔액 순회
+    void forEach(Consumer<UserPoint> action);
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 잔액 저장 구조 구성
+ * point.user-point.store.type 설정에 따라 UserPointTable 에 주입할 UserPointStore 를 생성
+ */
+@Configuration
+public class UserPointStoreConfig {
+
+    @Bean
+    public UserPointStore userPointStore(UserPointStoreProperties properties) {
+        return switch (properties.type()) {
+            case MAP -> new ConcurrentMapUserPointStore();
+            case OPEN_ADDRESSING -> new OpenAddressingUserPointStore(properties.initialCapacity(), properties.stripes());
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 잔액 저장 구조 설정
+ * @param type MAP(ConcurrentHashMap) / OPEN_ADDRESSING(long 배열 기반 개방 주소법 테이블)
+ * @param initialCapacity OPEN_ADDRESSING 예상 사용자 수 (미리 할당하여 확장 비용 회피)
+ * @param stripes OPEN_ADDRESSING 세그먼트 수 (2의 거듭제곱)
+ */
+@ConfigurationProperties(prefix = "point.user-point.store")
+public record UserPointStoreProperties(
+        @DefaultValue("MAP") Type type,
+        @DefaultValue("1024") int initialCapacity,
+        @DefaultValue("64") int stripes
+) {
+    public enum Type {
+        MAP, OPEN_ADDRESSING
+    }
+
+    public UserPointStoreProperties {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("초기 용량은 0 이상이어야 합니다.");
+        }
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("스트라이프 수는 2의 거듭제곱이어야 합니다.");
+        }
+    }
+}
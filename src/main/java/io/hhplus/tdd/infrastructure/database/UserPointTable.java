@@ -1,37 +1,128 @@
 package io.hhplus.tdd.infrastructure.database;
 
 import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 사용자 포인트 테이블
+ * 공개 API(selectById, insertOrUpdate)는 그대로 유지합니다.
+ * - 잔액 보관은 주입된 UserPointStore 에 위임 (point.user-point.store.type 설정)
+ *   MAP: ConcurrentHashMap / OPEN_ADDRESSING: long 배열 기반 개방 주소법 테이블 (조회 시 박싱/노드 없음)
+ * - 조회/저장 지연은 주입된 LatencyModel 로 시뮬레이션 (point.latency 설정)
+ * - 행마다 버전을 보관하여 selectVersionedById → compareAndSet 으로 락 없는 낙관적 갱신을 지원
+ * - 호출 시간은 조회(select)/저장(update)/버전 비교 저장(compare_and_set) 별로 point.table.latency 에 기록 (복구/순회 제외)
  */
 @Component
 public class UserPointTable {
 
-    private final Map<Long, UserPoint> table = new HashMap<>();
+    private static final String TABLE = "user_point";
+
+    private final LatencyModel latencyModel;
+    private final UserPointStore store;
+    private final Timer selectTimer;
+    private final Timer updateTimer;
+    private final Timer compareAndSetTimer;
+
+    // 직접 구성하는 경우(테스트/벤치마크) - 지표를 내보내지 않음
+    public UserPointTable(LatencyModel latencyModel, UserPointStore store) {
+        this(latencyModel, store, PointMetrics.noop());
+    }
+
+    @Autowired
+    public UserPointTable(LatencyModel latencyModel, UserPointStore store, PointMetrics pointMetrics) {
+        this.latencyModel = latencyModel;
+        this.store = store;
+        this.selectTimer = pointMetrics.tableTimer(TABLE, "select");
+        this.updateTimer = pointMetrics.tableTimer(TABLE, "update");
+        this.compareAndSetTimer = pointMetrics.tableTimer(TABLE, "compare_and_set");
+    }
 
     public UserPoint selectById(Long id) {
+        long startNanos = System.nanoTime();
         throttle(200);
-        return table.getOrDefault(id, UserPoint.empty(id));
+        UserPoint userPoint = store.get(id);
+        record(selectTimer, startNanos);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
     }
 
     public UserPoint insertOrUpdate(long id, long amount) {
+        long startNanos = System.nanoTime();
         throttle(300);
         UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
-        table.put(id, userPoint);
+        store.put(id, userPoint.point(), userPoint.updateMillis());
+        record(updateTimer, startNanos);
         return userPoint;
     }
 
+    // 이미 만든 잔액(WAL 에 먼저 기록한 값)을 수정 시각까지 그대로 저장
+    public void update(UserPoint userPoint) {
+        long startNanos = System.nanoTime();
+        throttle(300);
+        store.put(userPoint.id(), userPoint.point(), userPoint.updateMillis());
+        record(updateTimer, startNanos);
+    }
+
+    // 버전과 함께 조회 (없으면 버전 0 의 빈 잔액)
+    public VersionedUserPoint selectVersionedById(long id) {
+        long startNanos = System.nanoTime();
+        throttle(200);
+        VersionedUserPoint row = store.getVersioned(id);
+        record(selectTimer, startNanos);
+        return row != null ? row : VersionedUserPoint.empty(id);
+    }
+
+    // 저장된 버전이 expectedVersion 과 같을 때만 잔액 저장 (성공 시 저장된 잔액, 다른 요청이 먼저 저장했으면 null)
+    public UserPoint compareAndSet(long id, long expectedVersion, long amount) {
+        long startNanos = System.nanoTime();
+        throttle(300);
+        long updateMillis = System.currentTimeMillis();
+        boolean stored = store.compareAndSet(id, expectedVersion, amount, updateMillis);
+        record(compareAndSetTimer, startNanos);
+        return stored ? new UserPoint(id, amount, updateMillis) : null;
+    }
+
+    // 잔액 값만 조회 (UserPoint 객체를 만들지 않는 경로용, 없으면 0)
+    public long selectPoint(long id) {
+        long startNanos = System.nanoTime();
+        throttle(200);
+        long point = store.getPoint(id);
+        record(selectTimer, startNanos);
+        return point;
+    }
+
+    // 잔액 값만 저장하고 수정 시각 반환 (UserPoint 객체를 만들지 않는 경로용)
+    public long updatePoint(long id, long amount) {
+        long startNanos = System.nanoTime();
+        throttle(300);
+        long updateMillis = System.currentTimeMillis();
+        store.put(id, amount, updateMillis);
+        record(updateTimer, startNanos);
+        return updateMillis;
+    }
+
+    // 복구용 - 저장되어 있던 잔액을 지연 없이 그대로 적재
+    public void restore(UserPoint userPoint) {
+        store.put(userPoint.id(), userPoint.point(), userPoint.updateMillis());
+    }
+
+    // 전체 잔액 순회 (스냅샷 작성용)
+    public void forEach(Consumer<UserPoint> action) {
+        store.forEach(action);
+    }
+
+    // 저장소 지연 시뮬레이션 (millis: 연산별 기준 지연 상한)
     private void throttle(long millis) {
-        try {
-            TimeUnit.MILLISECONDS.sleep((long) (Math.random() * millis));
-        } catch (InterruptedException ignored) {
+        latencyModel.pause(millis);
+    }
 
-        }
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 }
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+/**
+ * 버전이 붙은 사용자 잔액 (낙관적 갱신용)
+ * @param userPoint 저장된 잔액
+ * @param version 잔액이 저장될 때마다 1씩 증가하는 값 (저장된 적 없는 사용자는 0)
+ */
+public record VersionedUserPoint(UserPoint userPoint, long version) {
+
+    public static VersionedUserPoint empty(long id) {
+        return new VersionedUserPoint(UserPoint.empty(id), 0L);
+    }
+}
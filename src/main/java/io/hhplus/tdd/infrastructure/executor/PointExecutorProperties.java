@@ -0,0 +1,32 @@
+package io.hhplus.tdd.infrastructure.executor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 비동기 처리 실행기 설정
+ * @param corePoolSize 기본 작업 스레드 수
+ * @param maxPoolSize 대기 큐가 가득 찼을 때 늘릴 수 있는 최대 작업 스레드 수
+ * @param queueCapacity 대기 큐 크기 (가득 차고 스레드도 최대이면 요청 거절)
+ * @param keepAlive 기본 수를 초과한 유휴 스레드를 정리하기까지의 시간
+ * @param virtualThreads 가상 스레드 사용 여부 (Java 21 필요, 동시 작업 수는 maxPoolSize + queueCapacity 로 제한)
+ */
+@ConfigurationProperties(prefix = "point.executor")
+public record PointExecutorProperties(
+        @DefaultValue("16") int corePoolSize,
+        @DefaultValue("64") int maxPoolSize,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("60s") Duration keepAlive,
+        @DefaultValue("false") boolean virtualThreads
+) {
+    public PointExecutorProperties {
+        if (corePoolSize <= 0 || maxPoolSize < corePoolSize) {
+            throw new IllegalArgumentException("작업 스레드 수는 0보다 크고, 최대 스레드 수는 기본 스레드 수 이상이어야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("대기 큐 크기는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.infrastructure.executor;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 비동기 처리 전용 실행기
+ * PointService 의 비동기 API(chargeAsync, useAsync, pointAsync)가 테이블 지연 동안
+ * 요청 스레드(Tomcat)를 점유하지 않도록 별도 스레드에서 실행
+ * 실행 모드:
+ * 1. 플랫폼 스레드 (기본)
+ *    - 스레드 수와 대기 큐 크기를 제한한 스레드 풀, 과부하 시 무한정 쌓이지 않고 RejectedExecutionException 으로 거절
+ * 2. 가상 스레드 (point.executor.virtual-threads=true, Java 21 필요)
+ *    - 작업마다 가상 스레드를 생성하여 Thread.sleep 기반 테이블 지연 동안 캐리어 스레드를 반납
+ *    - 풀 대신 동시 작업 수(maxPoolSize + queueCapacity)를 세마포어로 제한하고, 초과 시 동일하게 거절
+ */
+@Component
+public class PointTaskExecutor implements Executor {
+
+    private static final String THREAD_NAME_PREFIX = "point-async-";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    // 플랫폼 스레드 모드
+    private final ThreadPoolExecutor platformPool;
+
+    // 가상 스레드 모드
+    private final SimpleAsyncTaskExecutor virtualExecutor;
+    private final Semaphore virtualPermits;
+    private final int virtualLimit;
+
+    public PointTaskExecutor(PointExecutorProperties properties) {
+        if (properties.virtualThreads()) {
+            this.platformPool = null;
+            this.virtualExecutor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+            this.virtualExecutor.setVirtualThreads(true);
+            this.virtualExecutor.setTaskTerminationTimeout(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            this.virtualLimit = properties.maxPoolSize() + properties.queueCapacity();
+            this.virtualPermits = new Semaphore(virtualLimit);
+        } else {
+            this.platformPool = new ThreadPoolExecutor(
+                    properties.corePoolSize(),
+                    properties.maxPoolSize(),
+                    properties.keepAlive().toMillis(), TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(properties.queueCapacity()),
+                    new NamedThreadFactory(THREAD_NAME_PREFIX),
+                    new ThreadPoolExecutor.AbortPolicy()
+            );
+            this.virtualExecutor = null;
+            this.virtualLimit = 0;
+            this.virtualPermits = null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (platformPool != null) {
+            platformPool.execute(command);
+            return;
+        }
+        if (!virtualPermits.tryAcquire()) {
+            throw new RejectedExecutionException("동시 작업 수가 상한(" + virtualLimit + ")에 도달했습니다.");
+        }
+        try {
+            virtualExecutor.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    virtualPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            virtualPermits.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (platformPool == null) {
+            // 실행 중인 작업이 끝날 때까지(최대 SHUTDOWN_TIMEOUT_SECONDS) 대기 후 이후 요청은 거절
+            virtualExecutor.close();
+            return;
+        }
+        platformPool.shutdown();
+        if (!platformPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return platformPool == null;
+    }
+
+    // 실행 중인 작업 수
+    public int activeCount() {
+        return platformPool != null ? platformPool.getActiveCount() : virtualLimit - virtualPermits.availablePermits();
+    }
+
+    // 대기 큐에 쌓인 작업 수 (가상 스레드 모드는 대기 없이 바로 실행되므로 항상 0)
+    public int queuedCount() {
+        return platformPool != null ? platformPool.getQueue().size() : 0;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
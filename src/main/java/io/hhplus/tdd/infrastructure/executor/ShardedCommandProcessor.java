@@ -0,0 +1,262 @@
+package io.hhplus.tdd.infrastructure.executor;
+
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 샤드 단위 단일 작성자(single-writer) 명령 처리기 (point.concurrency.mode=SHARDED)
+ * 충전/사용 명령을 userId % shards 로 정한 샤드에 넣고, 샤드마다 하나의 스레드가 자기 사용자의 명령만 순서대로 처리
+ * → 같은 사용자의 명령은 항상 같은 스레드에서 도착 순서대로 실행되므로 사용자 락 없이 직렬화됨
+ * 설계 (LMAX Disruptor 방식의 링 버퍼):
+ * 1. 샤드마다 크기가 고정된 링 버퍼(슬롯 미리 할당)를 두고, 생산자는 CAS 로 시퀀스를 확보한 뒤 슬롯에 명령을 기록
+ * 2. 슬롯별 게시(publish) 시퀀스를 기록하여, 소비 스레드는 다음 시퀀스가 게시되었는지만 확인 (큐 노드/락 없음)
+ * 3. 소비 스레드는 잠시 바쁜 대기(spin) 후 park 로 쉬고, 생산자는 소비 스레드가 쉬고 있을 때만 unpark
+ * 4. 링 버퍼가 가득 차면 RejectedExecutionException 으로 즉시 거절 (PointTaskExecutor 와 같은 503 응답)
+ * 5. 종료 시 확보 시퀀스에 닫힘 표시(CLOSED)를 원자적으로 설정 → 이후의 확보는 거절되고, 그 전에 확보된 명령은 모두 실패 처리
+ * 주의:
+ * - 명령은 샤드 스레드에서 실행되므로 오래 걸리는 명령(테이블 지연 등)은 같은 샤드의 다른 사용자 명령을 지연시킴
+ */
+@Component
+public class ShardedCommandProcessor {
+
+    private static final int SPIN_TRIES = 100;
+
+    private final boolean enabled;
+    private final int shardCount;
+    private final int capacity;
+    private Shard[] shards = new Shard[0];
+
+    public ShardedCommandProcessor(ConcurrencyProperties properties) {
+        this.enabled = properties.mode() == ConcurrencyProperties.Mode.SHARDED;
+        this.shardCount = properties.effectiveShards();
+        this.capacity = properties.shardQueueCapacity();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Shard[] started = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            started[i] = new Shard(i, capacity);
+            started[i].thread.start();
+        }
+        shards = started;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Shard shard : shards) {
+            shard.running = false;
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            shard.thread.join();
+            shard.failRemaining();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 사용자의 샤드에 명령을 넣고, 샤드 스레드에서 실행이 끝나면 완료되는 Future 반환
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        shardOf(userId).publish(command, future);
+        return future;
+    }
+
+    // 사용자의 샤드 스레드에서 명령을 실행하고 결과를 기다림 (이미 해당 샤드 스레드라면 바로 실행)
+    public <T> T execute(long userId, Supplier<T> command) {
+        Shard shard = shardOf(userId);
+        if (Thread.currentThread() == shard.thread) {
+            return command.get();
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        shard.publish(command, future);
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 사용자가 속한 샤드 번호
+    public int shardIndexOf(long userId) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // 처리 완료된 명령 수
+    public long processedCount() {
+        long processed = 0;
+        for (Shard shard : shards) {
+            processed += shard.processed.sum();
+        }
+        return processed;
+    }
+
+    // 링 버퍼에서 처리를 기다리는 명령 수
+    public long pendingCount() {
+        long pending = 0;
+        for (Shard shard : shards) {
+            pending += (shard.claimed.get() & ~Shard.CLOSED) - shard.consumed;
+        }
+        return pending;
+    }
+
+//  ================================================================
+
+    private Shard shardOf(long userId) {
+        if (shards.length == 0) {
+            throw new IllegalStateException("샤드 처리기가 실행 중이 아닙니다.");
+        }
+        return shards[shardIndexOf(userId)];
+    }
+
+    /**
+     * 링 버퍼 슬롯 (미리 할당하여 재사용, 게시 시퀀스의 volatile 쓰기/읽기로 필드 가시성 보장)
+     */
+    private static final class Slot {
+        private Supplier<?> command;
+        private CompletableFuture<Object> future;
+    }
+
+    /**
+     * 샤드 하나 - 다중 생산자 / 단일 소비자 링 버퍼와 소비 스레드
+     */
+    private static final class Shard implements Runnable {
+
+        // 확보 시퀀스의 최상위 비트 - 설정되면 더 이상 시퀀스를 확보할 수 없음
+        static final long CLOSED = Long.MIN_VALUE;
+
+        private final Slot[] slots;
+        private final AtomicLongArray published;
+        private final int mask;
+        private final AtomicLong claimed = new AtomicLong();
+        private final LongAdder processed = new LongAdder();
+        private final Thread thread;
+
+        // 소비 스레드가 처리를 마친 다음 시퀀스 (생산자는 claimed - consumed 로 남은 공간 확인)
+        private volatile long consumed;
+        private volatile boolean sleeping;
+        private volatile boolean running = true;
+
+        Shard(int index, int capacity) {
+            this.slots = new Slot[capacity];
+            this.published = new AtomicLongArray(capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new Slot();
+                published.set(i, -1L);
+            }
+            this.thread = new Thread(this, "point-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        void publish(Supplier<?> command, CompletableFuture<?> future) {
+            if (!running) {
+                throw new RejectedExecutionException("샤드 처리기가 종료되었습니다.");
+            }
+            long sequence;
+            do {
+                sequence = claimed.get();
+                if ((sequence & CLOSED) != 0) {
+                    throw new RejectedExecutionException("샤드 처리기가 종료되었습니다.");
+                }
+                if (sequence - consumed >= slots.length) {
+                    throw new RejectedExecutionException("샤드 대기열이 가득 찼습니다.");
+                }
+            } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+            int index = (int) sequence & mask;
+            Slot slot = slots[index];
+            slot.command = command;
+            slot.future = (CompletableFuture<Object>) future;
+            published.set(index, sequence);
+            if (sleeping) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            long next = 0;
+            int idle = 0;
+            while (true) {
+                int index = (int) next & mask;
+                if (published.get(index) == next) {
+                    Slot slot = slots[index];
+                    Supplier<?> command = slot.command;
+                    CompletableFuture<Object> future = slot.future;
+                    slot.command = null;
+                    slot.future = null;
+                    consumed = ++next;
+                    idle = 0;
+                    execute(command, future);
+                    continue;
+                }
+                if (!running) {
+                    return;
+                }
+                if (++idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                // 쉬기 전에 다시 확인하여, sleeping 설정 전에 게시된 명령을 놓치지 않도록 함
+                sleeping = true;
+                if (published.get(index) != next && running) {
+                    LockSupport.park(this);
+                }
+                sleeping = false;
+            }
+        }
+
+        // 완료 통지 전에 처리 수를 집계하여, 결과를 받은 호출자가 보는 processedCount 에 이미 반영되도록 함
+        private void execute(Supplier<?> command, CompletableFuture<Object> future) {
+            Object result;
+            try {
+                result = command.get();
+            } catch (Throwable e) {
+                processed.increment();
+                future.completeExceptionally(e);
+                return;
+            }
+            processed.increment();
+            future.complete(result);
+        }
+
+        // 종료 후 남은 명령(확보되었지만 처리되지 않은 시퀀스)을 실패 처리
+        // 확보를 닫는 것과 마지막 시퀀스를 읽는 것을 한 번의 원자 연산으로 하여, 이후에 확보되는 명령이 없도록 함
+        void failRemaining() {
+            long last = claimed.getAndUpdate(sequence -> sequence | CLOSED) & ~CLOSED;
+            for (long sequence = consumed; sequence < last; sequence++) {
+                int index = (int) sequence & mask;
+                while (published.get(index) != sequence) {
+                    Thread.onSpinWait();
+                }
+                slots[index].future.completeExceptionally(new IllegalStateException("샤드 처리기가 종료되었습니다."));
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.infrastructure.idempotency;
+
+/**
+ * 이미 사용한 멱등 키로 다른 요청(유형/금액)을 보낸 경우
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 충전/사용 멱등 키(Idempotency-Key) 설정
+ * @param enabled 멱등 키 사용 여부 (false 이면 헤더를 무시하고 매번 처리)
+ * @param maximumSize 보관할 최대 완료 키 수 (초과 시 W-TinyLFU 정책으로 제거, 처리 중인 키는 제외)
+ * @param ttl 키 보관 기간 (처리 완료 시점부터, 이후 같은 키는 새 요청으로 처리)
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("1h") Duration ttl
+) {
+    public IdempotencyProperties {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("멱등 키 최대 보관 수는 0보다 커야 합니다.");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("멱등 키 보관 기간은 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 멱등 키 저장소 (Idempotency-Key 헤더)
+ * 타임아웃 후 클라이언트가 같은 요청을 재시도해도 한 번만 충전/사용되도록 키별 처리 결과를 보관
+ * - 키는 (사용자 ID, 멱등 키) 단위이며, 처리 결과 Future 를 키에 먼저 등록한 뒤 실제 처리를 시작
+ *   → 완료된 키는 보관된 잔액을 바로 반환하고 (테이블 접근 없음),
+ *     처리 중인 키의 중복 요청은 스레드를 점유하지 않고 첫 요청의 결과를 함께 기다림
+ * - 같은 키로 다른 유형/금액을 요청하면 IdempotencyKeyReusedException (422)
+ * - 실패한 처리는 보관하지 않음 (기다리던 중복 요청에는 같은 예외를 전달하고, 이후 재시도는 새로 처리)
+ * - 처리 중인 키는 제거되지 않는 별도 맵(inFlight)에 두고, 성공한 뒤에만 최대 크기(W-TinyLFU)와 보관 기간이 있는 캐시로 옮김
+ *   → 캐시가 가득 차도 처리 중인 키가 밀려나 같은 요청이 두 번 처리되지 않음
+ *   (처리 중인 키 수는 동시 처리 중인 요청 수로 제한되므로 별도 상한을 두지 않음)
+ */
+@Component
+public class IdempotencyStore {
+
+    // 멱등 키 최대 길이 (UUID 등 클라이언트가 발급한 키 기준)
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+    private final Map<Key, Entry> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    /**
+     * 멱등 키 단위로 한 번만 처리 (idempotencyKey 가 null 이거나 비활성이면 매번 처리)
+     * @param action 실제 충전/사용 (처음 등록된 키에서만 호출)
+     * @return 처리 결과 (중복 요청이면 첫 요청의 결과)
+     */
+    public CompletableFuture<UserPoint> execute(String idempotencyKey, long userId, TransactionType type, long amount,
+                                                Supplier<CompletableFuture<UserPoint>> action) {
+        if (!enabled || idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(ApiErrorMessages.IDEMPOTENCY_KEY_INVALID);
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        Entry entry = new Entry(type, amount, new CompletableFuture<>());
+        Entry existing = register(key, entry);
+        if (existing != null) {
+            if (existing.type() != type || existing.amount() != amount) {
+                throw new IdempotencyKeyReusedException(ApiErrorMessages.IDEMPOTENCY_KEY_REUSED);
+            }
+            replayed.increment();
+            // 보관된 Future 를 호출자가 완료/취소하지 못하도록 복사본 반환
+            return existing.result().copy();
+        }
+
+        executed.increment();
+        CompletableFuture<UserPoint> execution;
+        try {
+            execution = action.get();
+        } catch (RuntimeException e) {
+            discard(key, entry, e);
+            throw e;
+        }
+        execution.whenComplete((userPoint, error) -> {
+            if (error != null) {
+                discard(key, entry, error);
+            } else {
+                entry.result().complete(userPoint);
+                // 캐시에 먼저 넣은 뒤 처리 중 맵에서 제거 (그 사이 들어온 중복 요청은 둘 중 하나에서 찾음)
+                cache.put(key, entry);
+                inFlight.remove(key, entry);
+            }
+        });
+        return execution;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public IdempotencySnapshot snapshot() {
+        return new IdempotencySnapshot(executed.sum(), replayed.sum(), cache.estimatedSize() + inFlight.size());
+    }
+
+//  ================================================================
+
+    // 완료된 키(캐시) 또는 처리 중인 키를 반환하고, 둘 다 없으면 entry 를 처리 중으로 등록한 뒤 null 반환
+    private Entry register(Key key, Entry entry) {
+        Entry completed = cache.getIfPresent(key);
+        if (completed != null) {
+            return completed;
+        }
+        Entry existing = inFlight.putIfAbsent(key, entry);
+        if (existing != null) {
+            return existing;
+        }
+        // 캐시 조회 이후 같은 키의 처리가 완료되어 캐시로 옮겨졌으면 등록을 취소하고 완료된 결과 사용
+        completed = cache.getIfPresent(key);
+        if (completed != null) {
+            inFlight.remove(key, entry);
+            return completed;
+        }
+        return null;
+    }
+
+    // 실패한 처리는 키에서 제거하여 재시도가 새로 처리되도록 함
+    private void discard(Key key, Entry entry, Throwable error) {
+        inFlight.remove(key, entry);
+        entry.result().completeExceptionally(error);
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private record Entry(TransactionType type, long amount, CompletableFuture<UserPoint> result) {
+    }
+
+    /**
+     * 멱등 키 지표 스냅샷
+     * @param executed 새 키로 처리한 요청 수
+     * @param replayed 보관된(또는 처리 중인) 결과를 반환한 중복 요청 수
+     * @param size 보관 중인 키 수(추정치, 처리 중인 키 포함)
+     */
+    public record IdempotencySnapshot(long executed, long replayed, long size) {
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.infrastructure.latency;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 저장소 지연 모델 구성
+ * point.latency.type 설정에 따라 테이블에 주입할 LatencyModel 을 생성
+ */
+@Configuration
+public class LatencyConfig {
+
+    @Bean
+    public LatencyModel latencyModel(LatencyProperties properties) {
+        // 시드가 없으면 재현이 필요 없으므로 스레드별 난수 생성기 사용 (공유 Random 경합 없음)
+        Long seed = properties.seed();
+        return switch (properties.type()) {
+            case ZERO -> LatencyModel.zero();
+            case FIXED -> LatencyModel.fixed(properties.fixed());
+            case UNIFORM -> seed == null ? LatencyModel.uniform() : LatencyModel.uniform(seed);
+            case LOG_NORMAL -> seed == null
+                    ? LatencyModel.logNormal(properties.median(), properties.sigma(), properties.max())
+                    : LatencyModel.logNormal(seed, properties.median(), properties.sigma(), properties.max());
+            case PERCENTILE -> seed == null
+                    ? LatencyModel.percentile(properties.percentiles())
+                    : LatencyModel.percentile(seed, properties.percentiles());
+        };
+    }
+}
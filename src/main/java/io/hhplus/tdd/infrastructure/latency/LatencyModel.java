@@ -0,0 +1,88 @@
+package io.hhplus.tdd.infrastructure.latency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 저장소 지연 모델
+ * UserPointTable / PointHistoryTable 의 지연 시뮬레이션 시간을 결정
+ * - baselineMillis 는 각 테이블 연산의 기존 지연 상한 (selectById 200ms, insert 300ms 등)
+ * - 난수를 사용하는 모델은 시드를 지정하면 같은 순서의 지연 시간을 생성 (부하 테스트 재현용, 하나의 Random 을 스레드가 공유)
+ *   시드가 없으면 ThreadLocalRandom 을 사용하여 호출 스레드 간 난수 생성기 경합이 없음
+ * - 구현체는 여러 스레드에서 동시에 호출될 수 있으므로 스레드 안전해야 함
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+    // 이번 호출에 적용할 지연 시간(ns) 반환
+    long nextDelayNanos(long baselineMillis);
+
+    // 지연 시간만큼 대기
+    default void pause(long baselineMillis) {
+        long delayNanos = nextDelayNanos(baselineMillis);
+        if (delayNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException e) {
+            // 호출자(종료 중인 실행기 등)가 인터럽트를 확인할 수 있도록 상태 복원
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 지연 없음 (테스트, 벤치마크용)
+    static LatencyModel zero() {
+        return baselineMillis -> 0L;
+    }
+
+    // 항상 같은 지연 (연산 종류와 무관)
+    static LatencyModel fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        if (nanos < 0) {
+            throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다.");
+        }
+        return baselineMillis -> nanos;
+    }
+
+    // [0, baselineMillis) 균등 분포 (기존 throttle 동작)
+    static LatencyModel uniform() {
+        return uniform(ThreadLocalRandom::current);
+    }
+
+    static LatencyModel uniform(long seed) {
+        return uniform(seeded(seed));
+    }
+
+    // 중앙값 median, 형태 모수 sigma 의 로그 정규 분포 (max 로 상한 제한)
+    static LatencyModel logNormal(Duration median, double sigma, Duration max) {
+        return new LogNormalLatencyModel(ThreadLocalRandom::current, median, sigma, max);
+    }
+
+    static LatencyModel logNormal(long seed, Duration median, double sigma, Duration max) {
+        return new LogNormalLatencyModel(seeded(seed), median, sigma, max);
+    }
+
+    // 실측 백분위 지연(p50, p99 등) 사이를 선형 보간하는 경험적 분포
+    static LatencyModel percentile(List<LatencyProperties.PercentilePoint> points) {
+        return new PercentileLatencyModel(ThreadLocalRandom::current, points);
+    }
+
+    static LatencyModel percentile(long seed, List<LatencyProperties.PercentilePoint> points) {
+        return new PercentileLatencyModel(seeded(seed), points);
+    }
+
+    private static LatencyModel uniform(Supplier<Random> random) {
+        return baselineMillis -> (long) (random.get().nextDouble() * TimeUnit.MILLISECONDS.toNanos(baselineMillis));
+    }
+
+    // 시드 고정 난수 생성기 (호출 스레드 모두가 같은 Random 을 공유)
+    private static Supplier<Random> seeded(long seed) {
+        Random random = new Random(seed);
+        return () -> random;
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.infrastructure.latency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 저장소 지연 모델 설정
+ * @param type 지연 모델 종류
+ * @param seed 난수 시드 (지정하면 같은 순서의 지연 재현, 지정하지 않으면 스레드별 난수 생성기 사용)
+ * @param fixed FIXED 모델의 지연 시간
+ * @param median LOG_NORMAL 모델의 중앙값
+ * @param sigma LOG_NORMAL 모델의 형태 모수 (클수록 꼬리가 길어짐)
+ * @param max LOG_NORMAL 모델의 최대 지연 시간
+ * @param percentiles PERCENTILE 모델의 백분위별 지연 시간
+ */
+@ConfigurationProperties(prefix = "point.latency")
+public record LatencyProperties(
+        @DefaultValue("UNIFORM") Type type,
+        Long seed,
+        @DefaultValue("0ms") Duration fixed,
+        @DefaultValue("20ms") Duration median,
+        @DefaultValue("0.5") double sigma,
+        @DefaultValue("1s") Duration max,
+        List<PercentilePoint> percentiles
+) {
+    public LatencyProperties {
+        percentiles = percentiles == null ? List.of() : List.copyOf(percentiles);
+    }
+
+    public enum Type {
+        ZERO,       // 지연 없음
+        FIXED,      // 고정 지연
+        UNIFORM,    // [0, 연산별 기존 상한) 균등 분포 (기본값, 기존 동작)
+        LOG_NORMAL, // 로그 정규 분포
+        PERCENTILE  // 실측 백분위 보간
+    }
+
+    /**
+     * 백분위 지연 지점
+     * @param percentile 백분위 (0~100, 예: 99.9)
+     * @param latency 해당 백분위의 지연 시간
+     */
+    public record PercentilePoint(double percentile, Duration latency) {
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.infrastructure.latency;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 로그 정규 분포 지연 모델
+ * 지연 = median * e^(sigma * Z), Z ~ N(0, 1)
+ * - 대부분의 요청은 중앙값 근처에서 끝나고 일부 요청만 길게 늘어지는 DB 응답 시간 분포를 흉내냄
+ * - 분포 꼬리가 무한히 길어지지 않도록 max 로 상한 제한
+ */
+final class LogNormalLatencyModel implements LatencyModel {
+
+    private final Supplier<Random> random;
+    private final double medianNanos;
+    private final double sigma;
+    private final long maxNanos;
+
+    LogNormalLatencyModel(Supplier<Random> random, Duration median, double sigma, Duration max) {
+        if (median.isNegative() || max.isNegative()) {
+            throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다.");
+        }
+        if (sigma < 0) {
+            throw new IllegalArgumentException("로그 정규 분포의 sigma 는 0 이상이어야 합니다.");
+        }
+        this.random = random;
+        this.medianNanos = median.toNanos();
+        this.sigma = sigma;
+        this.maxNanos = max.toNanos();
+    }
+
+    @Override
+    public long nextDelayNanos(long baselineMillis) {
+        double delay = medianNanos * Math.exp(sigma * random.get().nextGaussian());
+        return Math.min((long) delay, maxNanos);
+    }
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.infrastructure.latency;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 실측 백분위 기반 지연 모델
+ * 운영 DB 에서 측정한 백분위 지연(예: p50 5ms, p99 120ms)을 지점으로 받아
+ * 0~100 사이 난수를 뽑고 인접한 두 지점 사이를 선형 보간하여 지연 시간을 결정 (역누적분포 샘플링)
+ * - 첫 지점 미만 구간은 첫 지점의 지연, 마지막 지점 초과 구간은 마지막 지점의 지연을 사용
+ *   (최소 지연을 표현하려면 0 백분위 지점을 함께 지정)
+ */
+final class PercentileLatencyModel implements LatencyModel {
+
+    private final Supplier<Random> random;
+    private final double[] percentiles;
+    private final long[] latencyNanos;
+
+    PercentileLatencyModel(Supplier<Random> random, List<LatencyProperties.PercentilePoint> points) {
+        if (points == null || points.isEmpty()) {
+            throw new IllegalArgumentException("백분위 지연 지점이 1개 이상 필요합니다.");
+        }
+        List<LatencyProperties.PercentilePoint> sorted = points.stream()
+                .sorted(Comparator.comparingDouble(LatencyProperties.PercentilePoint::percentile))
+                .toList();
+
+        this.random = random;
+        this.percentiles = new double[sorted.size()];
+        this.latencyNanos = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            LatencyProperties.PercentilePoint point = sorted.get(i);
+            if (point.percentile() < 0 || point.percentile() > 100) {
+                throw new IllegalArgumentException("백분위는 0 이상 100 이하여야 합니다.");
+            }
+            if (point.latency().isNegative()) {
+                throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다.");
+            }
+            percentiles[i] = point.percentile();
+            latencyNanos[i] = point.latency().toNanos();
+            if (i > 0 && latencyNanos[i] < latencyNanos[i - 1]) {
+                throw new IllegalArgumentException("백분위가 높을수록 지연 시간이 같거나 길어야 합니다.");
+            }
+        }
+    }
+
+    @Override
+    public long nextDelayNanos(long baselineMillis) {
+        double p = random.get().nextDouble() * 100;
+        if (p <= percentiles[0]) {
+            return latencyNanos[0];
+        }
+        for (int i = 1; i < percentiles.length; i++) {
+            if (p <= percentiles[i]) {
+                double ratio = (p - percentiles[i - 1]) / (percentiles[i] - percentiles[i - 1]);
+                return latencyNanos[i - 1] + (long) (ratio * (latencyNanos[i] - latencyNanos[i - 1]));
+            }
+        }
+        return latencyNanos[latencyNanos.length - 1];
+    }
+}
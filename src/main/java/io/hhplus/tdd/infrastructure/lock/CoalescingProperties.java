@@ -0,0 +1,21 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 같은 사용자에 대한 동시 요청 결합(coalescing) 설정
+ * @param enabled 결합 사용 여부 (false 이면 요청마다 사용자 락을 획득하여 개별 처리)
+ * @param maxBatchSize 락을 획득한 스레드가 한 번에 결합하여 처리하는 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "point.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int maxBatchSize
+) {
+    public CoalescingProperties {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("결합 최대 배치 크기는 0보다 커야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 충전/사용 동시성 제어 방식 설정
+ * @param mode PESSIMISTIC(사용자 락으로 직렬화) / OPTIMISTIC(버전 비교 후 저장, 충돌 시 재시도)
+ *             / SHARDED(userId % shards 로 정한 샤드의 단일 스레드가 해당 사용자의 명령을 순서대로 처리)
+ * @param maxAttempts OPTIMISTIC 요청당 최대 저장 시도 횟수 (초과 시 충돌로 실패)
+ * @param initialBackoff 첫 재시도 전 대기 시간 상한 (재시도마다 2배씩 증가, 실제 대기는 0 ~ 상한 사이 임의 값)
+ * @param maxBackoff 재시도 대기 시간 상한의 최대값
+ * @param shards SHARDED 샤드(처리 스레드) 수 (0 이면 사용 가능한 CPU 코어 수)
+ * @param shardQueueCapacity SHARDED 샤드별 링 버퍼 크기 (2의 거듭제곱, 가득 차면 요청 거절)
+ */
+@ConfigurationProperties(prefix = "point.concurrency")
+public record ConcurrencyProperties(
+        @DefaultValue("PESSIMISTIC") Mode mode,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("1ms") Duration initialBackoff,
+        @DefaultValue("50ms") Duration maxBackoff,
+        @DefaultValue("0") int shards,
+        @DefaultValue("1024") int shardQueueCapacity
+) {
+    public enum Mode {
+        PESSIMISTIC, OPTIMISTIC, SHARDED
+    }
+
+    public ConcurrencyProperties {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("최대 시도 횟수는 0보다 커야 합니다.");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("재시도 대기 시간은 0 이상이고, 최대값은 초기값 이상이어야 합니다.");
+        }
+        if (shards < 0) {
+            throw new IllegalArgumentException("샤드 수는 0 이상이어야 합니다.");
+        }
+        if (Integer.bitCount(shardQueueCapacity) != 1) {
+            throw new IllegalArgumentException("샤드 링 버퍼 크기는 2의 거듭제곱이어야 합니다.");
+        }
+    }
+
+    // 실제 샤드 수 (0 이면 사용 가능한 CPU 코어 수)
+    public int effectiveShards() {
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+/**
+ * 낙관적 갱신이 최대 시도 횟수 안에 성공하지 못한 경우 (같은 사용자에 대한 다른 요청과 계속 충돌)
+ */
+public class OptimisticConflictException extends RuntimeException {
+
+    public OptimisticConflictException(String message) {
+        super(message);
+    }
+}
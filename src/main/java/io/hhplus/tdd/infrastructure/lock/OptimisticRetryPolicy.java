@@ -0,0 +1,83 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 낙관적 갱신(버전 비교 후 저장) 재시도 정책
+ * 사용자 락 없이 "조회 → 계산 → compareAndSet" 을 수행하고, 다른 요청이 먼저 저장하여 충돌하면 다시 조회부터 재시도
+ * 설계:
+ * 1. 제한된 재시도
+ *    - 요청당 최대 maxAttempts 번까지 저장을 시도하고, 모두 충돌하면 OptimisticConflictException 으로 실패
+ * 2. 지수 백오프 + 지터(jitter)
+ *    - n 번째 충돌 후 0 ~ min(maxBackoff, initialBackoff * 2^(n-1)) 사이 임의 시간 대기
+ *    - 같은 사용자에 동시에 몰린 요청들이 같은 시점에 다시 충돌하지 않도록 대기 시간을 분산
+ * 3. 충돌 지표
+ *    - 저장 시도 횟수, 충돌 횟수, 재시도 횟수, 재시도 소진(실패) 횟수를 기록
+ *    - 충돌률이 높다면 경합이 많은 트래픽이므로 PESSIMISTIC 모드가 더 적합
+ */
+@Component
+public class OptimisticRetryPolicy {
+
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    // ==== 충돌 지표 ====
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OptimisticRetryPolicy(ConcurrencyProperties properties) {
+        this.enabled = properties.mode() == ConcurrencyProperties.Mode.OPTIMISTIC;
+        this.maxAttempts = properties.maxAttempts();
+        this.initialBackoffNanos = properties.initialBackoff().toNanos();
+        this.maxBackoffNanos = properties.maxBackoff().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 저장 시도 1회 기록
+    public void onAttempt() {
+        attempts.increment();
+    }
+
+    // attempt 번째 시도가 충돌한 경우 호출 - 재시도 가능하면 백오프 후 반환, 소진되었으면 예외
+    public void onConflict(int attempt, String message) {
+        conflicts.increment();
+        if (attempt >= maxAttempts) {
+            exhausted.increment();
+            throw new OptimisticConflictException(message);
+        }
+        retries.increment();
+        long bound = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 30));
+        if (bound > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(bound + 1));
+        }
+    }
+
+    // 현재까지 누적된 충돌 지표 스냅샷 반환
+    public RetrySnapshot snapshot() {
+        return new RetrySnapshot(attempts.sum(), conflicts.sum(), retries.sum(), exhausted.sum());
+    }
+
+    /**
+     * 낙관적 갱신 지표 스냅샷
+     * @param attempts 전체 저장 시도 횟수
+     * @param conflicts 다른 요청이 먼저 저장하여 실패한 시도 횟수
+     * @param retries 충돌 후 다시 시도한 횟수
+     * @param exhausted 최대 시도 횟수를 모두 소진하여 실패한 요청 수
+     */
+    public record RetrySnapshot(long attempts, long conflicts, long retries, long exhausted) {
+        public double conflictRate() {
+            return attempts == 0 ? 0.0 : (double) conflicts / attempts;
+        }
+    }
+}
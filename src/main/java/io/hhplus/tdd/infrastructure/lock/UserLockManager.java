@@ -0,0 +1,141 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 단위 락 관리자
+ * 포인트 충전/사용의 "조회 → 계산 → 저장" 구간을 사용자별로 직렬화하기 위해 사용
+ * 설계:
+ * 1. 스트라이프(Striped) 락
+ *    - 사용자 ID를 해시하여 고정 개수의 락 중 하나에 매핑 (락 개수는 사용자 수와 무관하게 고정 → 메모리 상한 보장)
+ *    - 서로 다른 사용자는 대부분 다른 락을 사용하므로 병렬로 처리됨
+ *    - 같은 스트라이프에 매핑된 사용자끼리만 직렬화됨 (스트라이프 수로 충돌 확률 조절)
+ * 2. 공정(Fair) 락
+ *    - ReentrantLock(true)를 사용하여 같은 사용자에 대한 요청이 도착 순서(FIFO)대로 처리되도록 보장
+ *    - 락 보유 중 테이블 지연(sleep)이 발생하므로 synchronized 대신 ReentrantLock 을 사용
+ *      → 가상 스레드 모드에서도 대기 중인 가상 스레드가 캐리어 스레드를 고정(pinning)하지 않음
+ * 3. 대기 시간 지표
+ *    - 락 획득 횟수, 경합 발생 횟수, 누적/최대 대기 시간을 기록
+ *    - 스트라이프별 누적 대기 시간을 함께 기록하여 특정 사용자(핫 계정)에 대한 경합을 확인할 수 있음
+ */
+@Component
+public class UserLockManager {
+
+    // 기본 스트라이프 개수 (2의 제곱수)
+    public static final int DEFAULT_STRIPES = 1024;
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    // ==== 대기 시간 지표 ====
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray stripeWaitNanos;
+
+    public UserLockManager() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public UserLockManager(int stripes) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("스트라이프 개수는 2의 제곱수여야 합니다.");
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock(true);
+        }
+        this.mask = stripes - 1;
+        this.stripeWaitNanos = new AtomicLongArray(stripes);
+    }
+
+    // 사용자 락을 획득한 상태에서 action 실행 후 결과 반환
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        lock(userId);
+        try {
+            return action.get();
+        } finally {
+            unlock(userId);
+        }
+    }
+
+    // 사용자 락 획득 (람다 캡처 없이 호출해야 하는 경로용, 반드시 finally 에서 unlock 호출)
+    public void lock(long userId) {
+        int stripe = stripeOf(userId);
+        ReentrantLock lock = locks[stripe];
+
+        boolean contended = lock.isLocked();
+        long startNanos = System.nanoTime();
+        lock.lock();
+        recordWait(stripe, contended, System.nanoTime() - startNanos);
+    }
+
+    public void unlock(long userId) {
+        locks[stripeOf(userId)].unlock();
+    }
+
+    // 현재까지 누적된 락 대기 지표 스냅샷 반환
+    public LockWaitSnapshot snapshot() {
+        return new LockWaitSnapshot(
+                acquisitions.sum(),
+                contendedAcquisitions.sum(),
+                totalWaitNanos.sum(),
+                maxWaitNanos.get()
+        );
+    }
+
+    // 해당 사용자가 속한 스트라이프의 누적 대기 시간(ns) 반환 - 핫 계정 경합 확인용
+    public long stripeWaitNanos(long userId) {
+        return stripeWaitNanos.get(stripeOf(userId));
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+//  ================================================================
+
+    private void recordWait(int stripe, boolean contended, long waitNanos) {
+        acquisitions.increment();
+        if (contended) {
+            contendedAcquisitions.increment();
+        }
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+        stripeWaitNanos.addAndGet(stripe, waitNanos);
+    }
+
+    // 연속된 사용자 ID가 특정 스트라이프에 몰리지 않도록 비트를 섞은 뒤 스트라이프 결정
+    int stripeOf(long userId) {
+        long h = userId;
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return (int) h & mask;
+    }
+
+    /**
+     * 락 대기 지표 스냅샷
+     * @param acquisitions 전체 락 획득 횟수
+     * @param contendedAcquisitions 다른 스레드가 락을 보유 중이어서 대기가 발생한 획득 횟수
+     * @param totalWaitNanos 누적 대기 시간(ns)
+     * @param maxWaitNanos 최대 대기 시간(ns)
+     */
+    public record LockWaitSnapshot(
+            long acquisitions,
+            long contendedAcquisitions,
+            long totalWaitNanos,
+            long maxWaitNanos
+    ) {
+        public long averageWaitNanos() {
+            return acquisitions == 0 ? 0 : totalWaitNanos / acquisitions;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 사용자에 대한 동시 요청 결합기 (flat combining)
+ * 핫 계정에 요청이 몰리면 요청마다 "조회 → 저장" 왕복을 사용자 락 안에서 차례로 지불하게 되므로,
+ * 락을 기다리는 동안 쌓인 요청을 락을 획득한 스레드 하나가 모아 한 번에 처리하도록 함
+ * 동작 방식:
+ * 1. 호출자는 요청을 사용자 락 스트라이프의 대기열에 넣은 뒤 사용자 락을 획득
+ * 2. 락을 획득했을 때 자신의 요청이 아직 처리되지 않았다면 결합자(combiner)가 되어 대기열을 비우고,
+ *    사용자별로(같은 Combiner 로 넣은 연속 요청끼리) 묶어 Combiner 한 번으로 처리한 뒤 각 요청에 결과를 기록
+ * 3. 다른 결합자가 이미 처리한 요청의 호출자는 락을 바로 반환하고 기록된 결과(또는 예외)를 돌려받음
+ * 주의:
+ * - 스트라이프 락을 보유한 상태에서 처리하므로 같은 스트라이프의 다른 사용자 요청도 함께 처리될 수 있음 (사용자별로 따로 묶음)
+ * - Combiner 가 예외를 던지면 해당 묶음의 모든 요청이 같은 예외로 실패
+ */
+@Component
+public class UserRequestCoalescer {
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final UserLockManager userLockManager;
+    private final Queue<Pending<?, ?>>[] queues;
+
+    // ==== 결합 지표 ====
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAccumulator maxBatch = new LongAccumulator(Math::max, 0L);
+
+    @SuppressWarnings("unchecked")
+    public UserRequestCoalescer(CoalescingProperties properties, UserLockManager userLockManager) {
+        this.enabled = properties.enabled();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.userLockManager = userLockManager;
+        this.queues = new Queue[userLockManager.stripes()];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 요청을 결합 대기열에 넣고, 자신 또는 다른 결합자가 처리한 결과를 반환 (실패 결과는 예외로 던짐)
+    public <R, T> T execute(long userId, R request, Combiner<R, T> combiner) {
+        Pending<R, T> pending = new Pending<>(userId, request, combiner);
+        Queue<Pending<?, ?>> queue = queues[userLockManager.stripeOf(userId)];
+        queue.add(pending);
+
+        userLockManager.lock(userId);
+        try {
+            // 대기열 앞쪽 요청이 maxBatchSize 보다 많으면 자신의 요청이 포함될 때까지 반복
+            while (!pending.done) {
+                combine(queue);
+            }
+        } finally {
+            userLockManager.unlock(userId);
+        }
+        if (pending.error != null) {
+            throw pending.error;
+        }
+        return pending.result;
+    }
+
+    // 현재까지 누적된 결합 지표 스냅샷 반환
+    public CoalescingSnapshot snapshot() {
+        return new CoalescingSnapshot(batches.sum(), requests.sum(), maxBatch.get());
+    }
+
+//  ================================================================
+
+    // 스트라이프 락 보유 상태에서 호출 - 대기열에서 최대 maxBatchSize 개를 꺼내 사용자별로 묶어 처리
+    private void combine(Queue<Pending<?, ?>> queue) {
+        Map<Long, List<Pending<?, ?>>> pendingByUser = new LinkedHashMap<>();
+        Pending<?, ?> next;
+        for (int drained = 0; drained < maxBatchSize && (next = queue.poll()) != null; drained++) {
+            pendingByUser.computeIfAbsent(next.userId, userId -> new ArrayList<>()).add(next);
+        }
+        for (List<Pending<?, ?>> userPending : pendingByUser.values()) {
+            // 같은 Combiner 로 들어온 연속 요청끼리 묶어 요청 순서대로 처리
+            int from = 0;
+            while (from < userPending.size()) {
+                int to = from + 1;
+                while (to < userPending.size() && userPending.get(to).combiner == userPending.get(from).combiner) {
+                    to++;
+                }
+                apply(userPending.subList(from, to));
+                from = to;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void apply(List<Pending<?, ?>> batch) {
+        Pending first = batch.get(0);
+        List<Object> batchRequests = new ArrayList<>(batch.size());
+        for (Pending<?, ?> pending : batch) {
+            batchRequests.add(pending.request);
+        }
+        batches.increment();
+        requests.add(batch.size());
+        maxBatch.accumulate(batch.size());
+        try {
+            List<Outcome<?>> outcomes = first.combiner.combine(first.userId, batchRequests);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(outcomes.get(i));
+            }
+        } catch (RuntimeException e) {
+            failRemaining(batch, e);
+        } catch (Error e) {
+            // 처리되지 않은 요청의 호출자가 결과를 기다리며 멈추지 않도록 실패로 기록한 뒤 다시 던짐
+            failRemaining(batch, new IllegalStateException("요청 결합 처리 중 오류가 발생했습니다.", e));
+            throw e;
+        }
+    }
+
+    private static void failRemaining(List<Pending<?, ?>> batch, RuntimeException error) {
+        for (Pending<?, ?> pending : batch) {
+            if (!pending.done) {
+                pending.complete(Outcome.failure(error));
+            }
+        }
+    }
+
+    /**
+     * 같은 사용자의 결합된 요청을 한 번에 처리하는 함수
+     * 사용자 락을 보유한 상태에서 호출되며, 요청 순서와 같은 순서로 요청별 결과를 반환해야 함
+     */
+    @FunctionalInterface
+    public interface Combiner<R, T> {
+        List<Outcome<T>> combine(long userId, List<R> requests);
+    }
+
+    /**
+     * 결합된 요청 하나의 처리 결과 (성공 값 또는 호출자에게 던질 예외)
+     */
+    public record Outcome<T>(T value, RuntimeException error) {
+
+        public static <T> Outcome<T> success(T value) {
+            return new Outcome<>(value, null);
+        }
+
+        public static <T> Outcome<T> failure(RuntimeException error) {
+            return new Outcome<>(null, error);
+        }
+    }
+
+    /**
+     * 결합 지표 스냅샷
+     * @param batches Combiner 호출 횟수 (묶음 수)
+     * @param requests 결합되어 처리된 전체 요청 수
+     * @param maxBatchSize 한 묶음에 포함된 최대 요청 수
+     */
+    public record CoalescingSnapshot(long batches, long requests, long maxBatchSize) {
+
+        public double averageBatchSize() {
+            return batches == 0 ? 0 : (double) requests / batches;
+        }
+    }
+
+    /**
+     * 대기열에 들어간 요청 (결과는 결합자가 스트라이프 락 안에서 기록하고, 호출자는 같은 락을 획득한 뒤 읽음)
+     */
+    private static final class Pending<R, T> {
+
+        private final long userId;
+        private final R request;
+        private final Combiner<R, T> combiner;
+        private T result;
+        private RuntimeException error;
+        private boolean done;
+
+        Pending(long userId, R request, Combiner<R, T> combiner) {
+            this.userId = userId;
+            this.request = request;
+            this.combiner = combiner;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Outcome<?> outcome) {
+            result = (T) outcome.value();
+            error = outcome.error();
+            done = true;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.infrastructure.metrics;
+
+import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 서비스 지표 (Micrometer, /actuator/prometheus 로 노출)
+ * 느린 요청의 원인이 정책 검증(거절) / 경합(락·대기열) / 저장소(테이블) 중 어디인지 구분하기 위해 사용
+ * 지표:
+ * - point.service.latency{operation}      : PointService charge/use/point/history/summary 처리 시간 히스토그램 (거절된 요청 포함)
+ * - point.table.latency{table, operation} : UserPointTable / PointHistoryTable 호출 시간 히스토그램 (지연 시뮬레이션 포함)
+ * - point.rejections{operation, reason}   : 검증/정책 위반으로 거절된 요청 수
+ *                                           reason 은 ServiceErrorMessages / DomainErrorMessages 의 상수 이름 (그 외 메시지는 UNKNOWN)
+ * 락/대기열 대기 시간 등 다른 구성 요소의 누적 지표는 PointMetricsBinder 에서 등록
+ * 타이머/카운터는 미리 만들어 두어 기록 시 태그 배열이나 Meter.Id 를 만들지 않음
+ */
+@Component
+public class PointMetrics {
+
+    static final String SERVICE_LATENCY = "point.service.latency";
+    static final String TABLE_LATENCY = "point.table.latency";
+    static final String REJECTIONS = "point.rejections";
+    static final String UNKNOWN_REASON = "UNKNOWN";
+
+    // 에러 메시지 → 상수 이름 (거절 사유 태그)
+    private static final Map<String, String> REASONS = reasons(ServiceErrorMessages.class, DomainErrorMessages.class);
+
+    private final MeterRegistry registry;
+    private final Map<Operation, Timer> serviceTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, Counter>> rejectionCounters = new EnumMap<>(Operation.class);
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Operation operation : Operation.values()) {
+            serviceTimers.put(operation, Timer.builder(SERVICE_LATENCY)
+                    .description("PointService 처리 시간")
+                    .tag("operation", operation.tag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry));
+            rejectionCounters.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    // 지표를 어디에도 내보내지 않는 인스턴스 (테스트/벤치마크, 직접 구성한 테이블의 기본값)
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    // startNanos(System.nanoTime())부터 지금까지를 서비스 처리 시간으로 기록
+    public void recordLatency(Operation operation, long startNanos) {
+        serviceTimers.get(operation).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 검증/정책 위반 거절 기록 (message 는 ServiceErrorMessages / DomainErrorMessages 상수)
+    public void recordRejection(Operation operation, String message) {
+        String reason = message != null ? REASONS.getOrDefault(message, UNKNOWN_REASON) : UNKNOWN_REASON;
+        rejectionCounters.get(operation)
+                .computeIfAbsent(reason, key -> Counter.builder(REJECTIONS)
+                        .description("검증/정책 위반으로 거절된 요청 수")
+                        .tag("operation", operation.tag())
+                        .tag("reason", key)
+                        .register(registry))
+                .increment();
+    }
+
+    // 테이블 호출 시간 타이머 (테이블이 생성 시 한 번 만들어 보관)
+    public Timer tableTimer(String table, String operation) {
+        return Timer.builder(TABLE_LATENCY)
+                .description("테이블 호출 시간")
+                .tag("table", table)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+    }
+
+    /**
+     * 처리 시간/거절을 구분하는 서비스 연산
+     */
+    public enum Operation {
+        CHARGE, USE, POINT, HISTORY, SUMMARY;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+//  ================================================================
+
+    private static Map<String, String> reasons(Class<?>... messageClasses) {
+        Map<String, String> reasons = new HashMap<>();
+        for (Class<?> messageClass : messageClasses) {
+            for (Field field : messageClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && Modifier.isPublic(modifiers) && field.getType() == String.class) {
+                    try {
+                        reasons.putIfAbsent((String) field.get(null), field.getName());
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return Map.copyOf(reasons);
+    }
+}
@@ -0,0 +1,195 @@
+package io.hhplus.tdd.infrastructure.metrics;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.cache.UserPointCache;
+import io.hhplus.tdd.infrastructure.database.GroupCommitPointHistoryWriter;
+import io.hhplus.tdd.infrastructure.executor.PointTaskExecutor;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import io.hhplus.tdd.infrastructure.lock.OptimisticRetryPolicy;
+import io.hhplus.tdd.infrastructure.lock.UserLockManager;
+import io.hhplus.tdd.infrastructure.lock.UserRequestCoalescer;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구성 요소별 누적 지표를 Micrometer 에 등록 (스크랩 시점에 각 구성 요소의 지표 스냅샷을 읽음)
+ * 요청 경로에서 따로 기록하지 않고 이미 집계 중인 값을 노출하므로 요청 처리 비용이 늘지 않음
+ * 지표:
+ * - point.lock.wait / point.lock.wait.max / point.lock.contended : 사용자 락 대기 시간(누적/최대)과 경합 횟수
+ * - point.executor.active / point.executor.queued                : 비동기 실행기 실행 중 / 대기 큐 작업 수
+ * - point.shard.pending / point.shard.processed                  : 샤드 링 버퍼 대기 명령 수 / 처리 완료 명령 수
+ * - point.coalescing.batches / point.coalescing.requests         : 요청 결합 묶음 수 / 결합 처리된 요청 수
+ * - point.optimistic.attempts / conflicts / retries / exhausted  : 낙관적 갱신 시도 / 충돌 / 재시도 / 소진 횟수
+ * - point.history.group_commit.commits / rows                    : 이력 그룹 커밋 횟수 / 저장된 이력 수
+ * - point.cache.requests{result=hit|miss} / point.cache.evictions / point.cache.size : 잔액 캐시 적중/미스, 제거 수, 크기
+ * - point.idempotency.requests{result=executed|replayed} / point.idempotency.size : 멱등 키 새 처리/중복 반환 수, 보관 키 수
+ * - point.rate_limit.requests{operation, result=allowed|rejected} / point.rate_limit.users : 속도 제한 허용/거절 수, 버킷 보관 사용자 수
+ */
+@Component
+public class PointMetricsBinder implements MeterBinder {
+
+    private final UserLockManager userLockManager;
+    private final PointTaskExecutor pointTaskExecutor;
+    private final ShardedCommandProcessor shardedCommandProcessor;
+    private final UserRequestCoalescer userRequestCoalescer;
+    private final OptimisticRetryPolicy optimisticRetryPolicy;
+    private final GroupCommitPointHistoryWriter historyWriter;
+    private final UserPointCache userPointCache;
+    private final IdempotencyStore idempotencyStore;
+    private final UserRateLimiter userRateLimiter;
+
+    public PointMetricsBinder(UserLockManager userLockManager,
+                              PointTaskExecutor pointTaskExecutor,
+                              ShardedCommandProcessor shardedCommandProcessor,
+                              UserRequestCoalescer userRequestCoalescer,
+                              OptimisticRetryPolicy optimisticRetryPolicy,
+                              GroupCommitPointHistoryWriter historyWriter,
+                              UserPointCache userPointCache,
+                              IdempotencyStore idempotencyStore,
+                              UserRateLimiter userRateLimiter) {
+        this.userLockManager = userLockManager;
+        this.pointTaskExecutor = pointTaskExecutor;
+        this.shardedCommandProcessor = shardedCommandProcessor;
+        this.userRequestCoalescer = userRequestCoalescer;
+        this.optimisticRetryPolicy = optimisticRetryPolicy;
+        this.historyWriter = historyWriter;
+        this.userPointCache = userPointCache;
+        this.idempotencyStore = idempotencyStore;
+        this.userRateLimiter = userRateLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindLock(registry);
+        bindQueues(registry);
+        bindConcurrency(registry);
+        bindCache(registry);
+        bindIdempotency(registry);
+        bindRateLimit(registry);
+    }
+
+//  ================================================================
+
+    // 사용자 락 대기 (경합)
+    private void bindLock(MeterRegistry registry) {
+        FunctionTimer.builder("point.lock.wait", userLockManager,
+                        manager -> manager.snapshot().acquisitions(),
+                        manager -> manager.snapshot().totalWaitNanos(),
+                        TimeUnit.NANOSECONDS)
+                .description("사용자 락 획득 대기 시간")
+                .register(registry);
+        Gauge.builder("point.lock.wait.max", userLockManager,
+                        manager -> manager.snapshot().maxWaitNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                .description("사용자 락 최대 대기 시간")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("point.lock.contended", userLockManager,
+                        manager -> manager.snapshot().contendedAcquisitions())
+                .description("다른 스레드가 보유 중이어서 대기한 락 획득 횟수")
+                .register(registry);
+    }
+
+    // 비동기 실행기 / 샤드 링 버퍼 대기열
+    private void bindQueues(MeterRegistry registry) {
+        Gauge.builder("point.executor.active", pointTaskExecutor, PointTaskExecutor::activeCount)
+                .description("비동기 실행기에서 실행 중인 작업 수")
+                .register(registry);
+        Gauge.builder("point.executor.queued", pointTaskExecutor, PointTaskExecutor::queuedCount)
+                .description("비동기 실행기 대기 큐의 작업 수")
+                .register(registry);
+        Gauge.builder("point.shard.pending", shardedCommandProcessor, ShardedCommandProcessor::pendingCount)
+                .description("샤드 링 버퍼에서 처리를 기다리는 명령 수")
+                .register(registry);
+        FunctionCounter.builder("point.shard.processed", shardedCommandProcessor, ShardedCommandProcessor::processedCount)
+                .description("샤드에서 처리 완료된 명령 수")
+                .register(registry);
+        FunctionCounter.builder("point.history.group_commit.commits", historyWriter, GroupCommitPointHistoryWriter::commitCount)
+                .description("이력 그룹 커밋 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.history.group_commit.rows", historyWriter, GroupCommitPointHistoryWriter::committedRowCount)
+                .description("그룹 커밋으로 저장된 이력 수")
+                .register(registry);
+    }
+
+    // 요청 결합 / 낙관적 갱신
+    private void bindConcurrency(MeterRegistry registry) {
+        FunctionCounter.builder("point.coalescing.batches", userRequestCoalescer, coalescer -> coalescer.snapshot().batches())
+                .description("결합 처리된 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("point.coalescing.requests", userRequestCoalescer, coalescer -> coalescer.snapshot().requests())
+                .description("결합 처리된 요청 수")
+                .register(registry);
+        FunctionCounter.builder("point.optimistic.attempts", optimisticRetryPolicy, policy -> policy.snapshot().attempts())
+                .description("낙관적 갱신 저장 시도 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.optimistic.conflicts", optimisticRetryPolicy, policy -> policy.snapshot().conflicts())
+                .description("낙관적 갱신 충돌 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.optimistic.retries", optimisticRetryPolicy, policy -> policy.snapshot().retries())
+                .description("충돌 후 재시도 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.optimistic.exhausted", optimisticRetryPolicy, policy -> policy.snapshot().exhausted())
+                .description("최대 시도 횟수를 소진하여 실패한 요청 수")
+                .register(registry);
+    }
+
+    // 잔액 캐시
+    private void bindCache(MeterRegistry registry) {
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().hitCount())
+                .description("잔액 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.stats().missCount())
+                .description("잔액 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.cache.evictions", userPointCache, cache -> cache.stats().evictionCount())
+                .description("잔액 캐시에서 제거된 항목 수")
+                .register(registry);
+        Gauge.builder("point.cache.size", userPointCache, cache -> cache.stats().size())
+                .description("잔액 캐시 항목 수")
+                .register(registry);
+    }
+
+    // 멱등 키
+    private void bindIdempotency(MeterRegistry registry) {
+        FunctionCounter.builder("point.idempotency.requests", idempotencyStore, store -> store.snapshot().executed())
+                .description("멱등 키가 있는 충전/사용 요청 수")
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.requests", idempotencyStore, store -> store.snapshot().replayed())
+                .description("멱등 키가 있는 충전/사용 요청 수")
+                .tag("result", "replayed")
+                .register(registry);
+        Gauge.builder("point.idempotency.size", idempotencyStore, store -> store.snapshot().size())
+                .description("보관 중인 멱등 키 수")
+                .register(registry);
+    }
+
+    // 충전/사용 속도 제한
+    private void bindRateLimit(MeterRegistry registry) {
+        for (TransactionType type : TransactionType.values()) {
+            String operation = type.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("point.rate_limit.requests", userRateLimiter, limiter -> limiter.snapshot(type).allowed())
+                    .description("속도 제한을 거친 요청 수")
+                    .tags("operation", operation, "result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("point.rate_limit.requests", userRateLimiter, limiter -> limiter.snapshot(type).rejected())
+                    .description("속도 제한을 거친 요청 수")
+                    .tags("operation", operation, "result", "rejected")
+                    .register(registry);
+        }
+        Gauge.builder("point.rate_limit.users", userRateLimiter, UserRateLimiter::trackedUsers)
+                .description("속도 제한 버킷을 보관 중인 사용자 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.infrastructure.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 충전/사용 요청 속도 제한 설정 (토큰 버킷)
+ * 사용자마다 전체 버킷(충전 + 사용)과 API별 버킷(충전, 사용 각각)을 두고, 두 버킷 모두 토큰이 있어야 요청을 허용
+ * @param enabled 속도 제한 사용 여부
+ * @param userCapacity 사용자 전체 버킷 크기 (연속으로 허용하는 최대 요청 수)
+ * @param userPerSecond 사용자 전체 버킷의 초당 충전 토큰 수
+ * @param endpointCapacity API별 버킷 크기
+ * @param endpointPerSecond API별 버킷의 초당 충전 토큰 수
+ * @param maximumUsers 버킷을 보관할 최대 사용자 수 (초과 시 W-TinyLFU 정책으로 제거)
+ * @param idleTimeout 마지막 요청 후 버킷을 제거하기까지의 시간 (버킷이 가득 차는 시간 이상이어야 함)
+ */
+@ConfigurationProperties(prefix = "point.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") long userCapacity,
+        @DefaultValue("100") long userPerSecond,
+        @DefaultValue("100") long endpointCapacity,
+        @DefaultValue("50") long endpointPerSecond,
+        @DefaultValue("100000") long maximumUsers,
+        @DefaultValue("10m") Duration idleTimeout
+) {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public RateLimitProperties {
+        if (userCapacity <= 0 || endpointCapacity <= 0) {
+            throw new IllegalArgumentException("속도 제한 버킷 크기는 0보다 커야 합니다.");
+        }
+        if (userPerSecond <= 0 || userPerSecond > NANOS_PER_SECOND || endpointPerSecond <= 0 || endpointPerSecond > NANOS_PER_SECOND) {
+            throw new IllegalArgumentException("속도 제한 초당 토큰 수가 허용 범위를 벗어났습니다.");
+        }
+        if (maximumUsers <= 0) {
+            throw new IllegalArgumentException("속도 제한 최대 사용자 수는 0보다 커야 합니다.");
+        }
+        // 버킷이 가득 차기 전에 제거되면 새 버킷이 만들어지면서 허용량이 늘어나므로 제거 시간은 가득 차는 시간 이상이어야 함
+        long idleNanos = idleTimeout.toNanos();
+        if (idleNanos < refillNanos(userCapacity, userPerSecond) || idleNanos < refillNanos(endpointCapacity, endpointPerSecond)) {
+            throw new IllegalArgumentException("속도 제한 버킷 제거 시간은 버킷이 가득 차는 시간 이상이어야 합니다.");
+        }
+    }
+
+    // 빈 버킷이 가득 차는 데 걸리는 시간 (long 범위를 넘으면 Long.MAX_VALUE)
+    private static long refillNanos(long capacity, long perSecond) {
+        long intervalNanos = NANOS_PER_SECOND / perSecond;
+        return capacity > Long.MAX_VALUE / intervalNanos ? Long.MAX_VALUE : capacity * intervalNanos;
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 충전/사용 요청 속도 제한기 (잠금 없는 토큰 버킷)
+ * 요청이 PointService 에 도달하기 전에(RateLimitInterceptor) 과도한 요청을 거절하여 테이블 조회/저장 비용을 아낌
+ * - 사용자마다 전체 버킷(충전 + 사용) 하나와 API(TransactionType)별 버킷을 두고, 둘 다 통과해야 허용
+ *   (API 버킷을 통과한 뒤 전체 버킷에서 거절되면 API 버킷 토큰은 되돌림)
+ * - 버킷은 GCRA(가상 스케줄링) 방식으로 "다음 토큰이 생기는 이론상 시각(TAT)" long 하나로 표현하며,
+ *   토큰 차감은 AtomicLongArray 의 CAS 로 처리 (잠금/객체 생성 없음, 토큰 버킷과 같은 허용 결과)
+ *   → 요청 1건은 TAT 를 간격(1초 / 초당 토큰 수)만큼 미루고, TAT - now 가 버킷 크기 × 간격을 넘으면 거절
+ * - 거절 시 다시 시도할 수 있을 때까지의 시간을 반환 (Retry-After)
+ * - 버킷은 마지막 요청 후 idleTimeout 이 지나거나 최대 사용자 수를 넘으면 제거 (Caffeine)
+ *   idleTimeout 은 버킷이 가득 차는 시간 이상이므로, 유휴 제거된 버킷은 새로 만든 버킷과 상태가 같음
+ */
+@Component
+public class UserRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    // 버킷 배열 위치 (0: 사용자 전체, 1~: TransactionType 별)
+    private static final int USER_BUCKET = 0;
+
+    private final boolean enabled;
+    private final long userIntervalNanos;
+    private final long userToleranceNanos;
+    private final long endpointIntervalNanos;
+    private final long endpointToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<Long, AtomicLongArray> buckets;
+    private final LongAdder[] allowed = newAdders();
+    private final LongAdder[] rejected = newAdders();
+
+    @Autowired
+    public UserRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    // 시각을 직접 지정하는 경우(테스트)
+    public UserRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.enabled = properties.enabled();
+        this.userIntervalNanos = NANOS_PER_SECOND / properties.userPerSecond();
+        this.userToleranceNanos = userIntervalNanos * properties.userCapacity();
+        this.endpointIntervalNanos = NANOS_PER_SECOND / properties.endpointPerSecond();
+        this.endpointToleranceNanos = endpointIntervalNanos * properties.endpointCapacity();
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maximumUsers())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+    }
+
+    /**
+     * 사용자의 충전/사용 요청 1건에 대한 토큰 획득
+     * @return 0 이면 허용, 0보다 크면 거절 (다시 시도할 수 있을 때까지 남은 나노초)
+     */
+    public long tryAcquire(long userId, TransactionType type) {
+        if (!enabled) {
+            return 0;
+        }
+        AtomicLongArray tats = buckets.get(userId, key -> newBuckets());
+        long now = nanoClock.getAsLong();
+        int endpointBucket = type.ordinal() + 1;
+
+        long waitNanos = tryAcquire(tats, endpointBucket, now, endpointIntervalNanos, endpointToleranceNanos);
+        if (waitNanos == 0) {
+            waitNanos = tryAcquire(tats, USER_BUCKET, now, userIntervalNanos, userToleranceNanos);
+            if (waitNanos > 0) {
+                tats.getAndAdd(endpointBucket, -endpointIntervalNanos);
+            }
+        }
+        (waitNanos == 0 ? allowed : rejected)[type.ordinal()].increment();
+        return waitNanos;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public RateLimitSnapshot snapshot(TransactionType type) {
+        return new RateLimitSnapshot(allowed[type.ordinal()].sum(), rejected[type.ordinal()].sum());
+    }
+
+    // 버킷을 보관 중인 사용자 수(추정치)
+    public long trackedUsers() {
+        return buckets.estimatedSize();
+    }
+
+//  ================================================================
+
+    // 버킷 하나에서 토큰 1개 차감 (CAS 재시도, 실패 시 다시 시도할 수 있을 때까지 남은 나노초)
+    private static long tryAcquire(AtomicLongArray tats, int bucket, long now, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long tat = tats.get(bucket);
+            long next = Math.max(tat, now) + intervalNanos;
+            long waitNanos = next - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tats.compareAndSet(bucket, tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 새 사용자의 버킷 (가득 찬 상태, System.nanoTime 이 음수일 수 있으므로 최솟값으로 시작)
+    private static AtomicLongArray newBuckets() {
+        long[] tats = new long[TYPES.length + 1];
+        Arrays.fill(tats, Long.MIN_VALUE);
+        return new AtomicLongArray(tats);
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[TYPES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * 속도 제한 지표 스냅샷 (API별)
+     * @param allowed 허용된 요청 수
+     * @param rejected 거절된 요청 수
+     */
+    public record RateLimitSnapshot(long allowed, long rejected) {
+    }
+}
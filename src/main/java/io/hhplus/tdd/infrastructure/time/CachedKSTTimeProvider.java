@@ -0,0 +1,94 @@
+package io.hhplus.tdd.infrastructure.time;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 하루 구간을 캐시하는 한국 표준시 기반 시간 제공자 (스프링 환경의 기본 ITimeProvider)
+ * KSTTimeProvider 는 호출마다 LocalDate/ZonedDateTime 과 시간대 규칙 조회를 수행하고,
+ * PointService 는 충전/사용마다 하루 시작/끝 시각을 두 번씩 조회하므로 그 비용을 요청마다 치르지 않도록 함
+ * 동작 방식:
+ * 1. 오늘의 [시작, 끝) 구간과 날짜 일련번호를 불변 객체(DayWindow) 하나로 만들어 volatile 필드에 보관
+ * 2. 조회 시 현재 시각이 캐시한 구간 안이면 그대로 반환 (객체 생성 없음)
+ * 3. 현재 시각이 구간 끝을 넘으면(또는 시계가 뒤로 가서 시작 이전이면) 새 구간을 계산하여 교체
+ *    - 여러 스레드가 동시에 교체해도 모두 같은 구간을 계산하므로 별도 동기화 없이 마지막 쓰기를 사용
+ * 4. dayIndex 는 캐시한 구간 안의 시각이면 오늘 번호를, 그 외(과거 이력 등)에는 시간대 기준 날짜로 계산
+ */
+@Primary
+@Component
+public class CachedKSTTimeProvider implements ITimeProvider {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Clock clock;
+    private volatile DayWindow today;
+
+    public CachedKSTTimeProvider() {
+        this(Clock.system(ZONE));
+    }
+
+    // 테스트에서 시각을 직접 지정할 때 사용
+    public CachedKSTTimeProvider(Clock clock) {
+        this.clock = clock;
+        this.today = DayWindow.of(clock.millis(), clock.getZone());
+    }
+
+    @Override
+    public long getCurrentTimeMillis() {
+        return clock.millis();
+    }
+
+    @Override
+    public long getStartOfTodayMillis() {
+        return window().start;
+    }
+
+    @Override
+    public long getStartOfTomorrowMillis() {
+        return window().end;
+    }
+
+    @Override
+    public long dayIndex(long millis) {
+        DayWindow window = today;
+        if (window.contains(millis)) {
+            return window.index;
+        }
+        return LocalDate.ofInstant(Instant.ofEpochMilli(millis), clock.getZone()).toEpochDay();
+    }
+
+//  ================================================================
+
+    // 현재 시각이 속한 하루 구간 (구간을 벗어났을 때만 다시 계산)
+    private DayWindow window() {
+        long now = clock.millis();
+        DayWindow window = today;
+        if (!window.contains(now)) {
+            window = DayWindow.of(now, clock.getZone());
+            today = window;
+        }
+        return window;
+    }
+
+    /**
+     * 하루 구간 (start: 자정 시각(ms), end: 다음 날 자정 시각(ms), index: 날짜 일련번호)
+     */
+    private record DayWindow(long start, long end, long index) {
+
+        static DayWindow of(long millis, ZoneId zone) {
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(millis), zone);
+            long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            return new DayWindow(start, end, date.toEpochDay());
+        }
+
+        boolean contains(long millis) {
+            return millis >= start && millis < end;
+        }
+    }
+}
@@ -11,4 +11,6 @@ public interface ITimeProvider {
     long getCurrentTimeMillis();
     long getStartOfTodayMillis();
     long getStartOfTomorrowMillis();
+    // millis 가 속한 날짜의 일련번호 (1970-01-01 = 0, 시간대 기준 날짜로 이력/한도를 일 단위로 묶을 때 사용)
+    long dayIndex(long millis);
 }
@@ -2,6 +2,7 @@ package io.hhplus.tdd.infrastructure.time;
 
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -42,4 +43,9 @@ public class KSTTimeProvider implements ITimeProvider {
                 .toInstant()
                 .toEpochMilli();
     }
+
+    @Override
+    public long dayIndex(long millis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(millis), ZONE).toEpochDay();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.infrastructure.wal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 WAL(Write-Ahead Log) 설정
+ * @param enabled WAL 사용 여부 (false 이면 기존처럼 메모리에만 저장)
+ * @param directory 로그 세그먼트와 스냅샷을 저장할 디렉터리
+ * @param syncDelay fsync 전에 다른 요청의 레코드를 더 모으기 위해 기다리는 시간 (0 이면 쌓인 만큼만 바로 fsync)
+ * @param snapshotInterval 스냅샷 작성 주기 (이전 스냅샷 이후 기록이 없으면 건너뜀)
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record WalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/wal") String directory,
+        @DefaultValue("0ms") Duration syncDelay,
+        @DefaultValue("5m") Duration snapshotInterval
+) {
+    public WalProperties {
+        if (syncDelay.isNegative()) {
+            throw new IllegalArgumentException("fsync 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+            throw new IllegalArgumentException("스냅샷 주기는 0보다 커야 합니다.");
+        }
+    }
+}
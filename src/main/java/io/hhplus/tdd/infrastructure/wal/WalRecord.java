@@ -0,0 +1,86 @@
+package io.hhplus.tdd.infrastructure.wal;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * WAL 레코드 - 충전/사용 1건(또는 일괄 처리의 사용자 1명분)의 잔액 갱신과 이력 행
+ * 바이너리 형식 (빅 엔디언):
+ * <pre>
+ * [int 본문 길이][int CRC32C(본문)]
+ * 본문: [long lsn][long userId][long 잔액][long 잔액 갱신 시각][int 이력 수]
+ *       이력마다 [long id][long 금액][byte 타입][long 시각]
+ * </pre>
+ * - 단건 충전/사용 레코드는 69바이트
+ * @param lsn 로그 순번 (1부터 증가)
+ * @param userPoint 갱신된 잔액
+ * @param histories 함께 저장된 이력 행
+ */
+record WalRecord(long lsn, UserPoint userPoint, List<PointHistory> histories) {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int FIXED_BODY_BYTES = Long.BYTES * 4 + Integer.BYTES;
+    private static final int HISTORY_BYTES = Long.BYTES * 3 + Byte.BYTES;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    // 헤더(길이, 체크섬)를 포함한 레코드 직렬화
+    ByteBuffer encode() {
+        int bodyLength = FIXED_BODY_BYTES + HISTORY_BYTES * histories.size();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        buffer.putInt(bodyLength);
+        buffer.putInt(0); // 체크섬 자리
+        buffer.putLong(lsn);
+        buffer.putLong(userPoint.id());
+        buffer.putLong(userPoint.point());
+        buffer.putLong(userPoint.updateMillis());
+        buffer.putInt(histories.size());
+        for (PointHistory history : histories) {
+            buffer.putLong(history.id());
+            buffer.putLong(history.amount());
+            buffer.put((byte) history.type().ordinal());
+            buffer.putLong(history.updateMillis());
+        }
+        buffer.putInt(Integer.BYTES, checksum(buffer.array(), HEADER_BYTES, bodyLength));
+        return buffer.flip();
+    }
+
+    // 본문 역직렬화 (체크섬이 맞지 않으면 null)
+    static WalRecord decode(byte[] body, int expectedChecksum) {
+        if (checksum(body, 0, body.length) != expectedChecksum) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        long lsn = buffer.getLong();
+        long userId = buffer.getLong();
+        UserPoint userPoint = new UserPoint(userId, buffer.getLong(), buffer.getLong());
+        int count = buffer.getInt();
+        List<PointHistory> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = buffer.getLong();
+            long amount = buffer.getLong();
+            TransactionType type = TYPES[buffer.get()];
+            histories.add(new PointHistory(id, userId, amount, type, buffer.getLong()));
+        }
+        return new WalRecord(lsn, userPoint, histories);
+    }
+
+    // 본문 길이가 허용 범위인지 확인 (손상된 길이 값으로 큰 배열을 할당하지 않도록)
+    static boolean isValidBodyLength(int bodyLength) {
+        return bodyLength >= FIXED_BODY_BYTES
+                && (bodyLength - FIXED_BODY_BYTES) % HISTORY_BYTES == 0
+                && bodyLength <= FIXED_BODY_BYTES + HISTORY_BYTES * 100_000;
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
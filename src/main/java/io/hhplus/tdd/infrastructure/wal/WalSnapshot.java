@@ -0,0 +1,155 @@
+package io.hhplus.tdd.infrastructure.wal;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 테이블 전체 상태 스냅샷 파일 읽기/쓰기
+ * 파일 형식:
+ * <pre>
+ * [int MAGIC][long lsn]
+ * 행마다 [byte 1][long userId][long 잔액][long 갱신 시각]                  - 잔액
+ *       [byte 2][long id][long userId][long 금액][byte 타입][long 시각]  - 이력
+ * [byte 0][long CRC32C(앞의 모든 바이트)]
+ * </pre>
+ * - 임시 파일에 기록하고 fsync 한 뒤 원자적으로 이름을 바꾸므로, 작성 도중 종료되어도 이전 스냅샷은 그대로 유지됨
+ * - 테이블 변경을 막는 구간에는 기록할 상태(잔액 복사본 + 이력 스냅샷)만 고정하고, 파일 기록(writeTemp)과 반영(commit)은 그 밖에서 수행
+ */
+final class WalSnapshot {
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final byte USER_POINT = 1;
+    private static final byte HISTORY = 2;
+    private static final byte END = 0;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private WalSnapshot() {
+        throw new AssertionError("인스턴스 생성 불가");
+    }
+
+    // lsn 시점에 고정한 잔액/이력을 임시 파일에 기록하고 임시 파일 경로 반환 (fsync 전)
+    // userPoints, histories 는 테이블 변경이 멈춘 상태에서 고정한 것이어야 lsn 시점의 일관된 상태가 기록됨
+    static Path writeTemp(Path file, long lsn, List<UserPoint> userPoints, Stream<PointHistory> histories) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileOutputStream fileOut = new FileOutputStream(temp.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fileOut, 1 << 16), new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(MAGIC);
+            out.writeLong(lsn);
+            userPoints.forEach(userPoint -> write(out, userPoint));
+            histories.forEach(history -> write(out, history));
+            out.writeByte(END);
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+        }
+        return temp;
+    }
+
+    // 임시 파일을 fsync 한 뒤 스냅샷 파일로 원자적으로 이름 변경 (디렉터리 fsync 는 호출자가 수행)
+    static void commit(Path temp, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // 체크섬이 올바른 스냅샷인지 확인
+    static boolean isValid(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, null, null) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // 스냅샷을 테이블에 적재하고 스냅샷의 lsn 반환 (isValid 로 먼저 검증한 파일에만 사용)
+    static long load(Path file, UserPointTable userPointTable, PointHistoryTable pointHistoryTable) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, userPointTable, pointHistoryTable);
+        }
+    }
+
+//  ================================================================
+
+    // 테이블이 null 이면 검증만 수행, 손상된 파일이면 -1 반환
+    private static long read(InputStream source, UserPointTable userPointTable, PointHistoryTable pointHistoryTable) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(source, 1 << 16), new CRC32C());
+        DataInputStream in = new DataInputStream(checked);
+        try {
+            if (in.readInt() != MAGIC) {
+                return -1;
+            }
+            long lsn = in.readLong();
+            while (true) {
+                byte tag = in.readByte();
+                if (tag == END) {
+                    long expected = checked.getChecksum().getValue();
+                    return in.readLong() == expected ? lsn : -1;
+                }
+                if (tag == USER_POINT) {
+                    UserPoint userPoint = new UserPoint(in.readLong(), in.readLong(), in.readLong());
+                    if (userPointTable != null) {
+                        userPointTable.restore(userPoint);
+                    }
+                } else if (tag == HISTORY) {
+                    PointHistory history = new PointHistory(in.readLong(), in.readLong(), in.readLong(), TYPES[in.readByte()], in.readLong());
+                    if (pointHistoryTable != null) {
+                        pointHistoryTable.restore(history);
+                    }
+                } else {
+                    return -1;
+                }
+            }
+        } catch (EOFException | ArrayIndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    private static void write(DataOutputStream out, UserPoint userPoint) {
+        try {
+            out.writeByte(USER_POINT);
+            out.writeLong(userPoint.id());
+            out.writeLong(userPoint.point());
+            out.writeLong(userPoint.updateMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(DataOutputStream out, PointHistory history) {
+        try {
+            out.writeByte(HISTORY);
+            out.writeLong(history.id());
+            out.writeLong(history.userId());
+            out.writeLong(history.amount());
+            out.writeByte(history.type().ordinal());
+            out.writeLong(history.updateMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package io.hhplus.tdd.infrastructure.wal;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 WAL(Write-Ahead Log)
+ * 메모리 테이블(UserPointTable, PointHistoryTable)의 변경을 로컬 디스크의 추가 전용 로그에 기록하여 재시작 시 복구
+ * 동작 방식:
+ * 1. 기록
+ *    - 충전/사용 1건마다 잔액 갱신과 이력 행을 하나의 체크섬 레코드(WalRecord)로 현재 세그먼트에 추가
+ *    - 호출자는 자신의 레코드가 fsync 될 때까지 대기한 뒤 응답 (fsync 된 변경만 성공으로 응답)
+ * 2. 그룹 fsync
+ *    - 단일 sync 스레드가 그동안 쌓인 레코드를 한 번의 force 로 디스크에 반영하고 대기 중인 호출자를 모두 깨움
+ *    - fsync 도중 도착한 레코드는 다음 fsync 에 함께 반영되므로 부하가 높을수록 fsync 1회당 레코드 수가 늘어남
+ * 3. 스냅샷
+ *    - snapshotInterval 마다 세그먼트를 교체하고 테이블 전체 상태를 스냅샷으로 저장한 뒤 이전 세그먼트/스냅샷을 삭제
+ *      → 재시작 시 재적용할 로그 양이 스냅샷 주기 이내로 제한됨
+ *    - 세그먼트 교체와 상태 고정(잔액 복사 + 이력 스냅샷)은 변경 게이트(mutationLock)의 쓰기 락 안에서 수행
+ *      → 레코드 기록 ~ 테이블 반영 구간(beginMutation ~ endMutation)이 진행 중인 변경이 없는 시점의 상태가 스냅샷의 lsn 과 정확히 일치
+ *    - 이력은 사용자별 추가 전용 리스트의 상태(배열 + 크기)만 고정하므로 복사하지 않으며, 파일 기록/fsync/이름 변경은 게이트를 푼 뒤 수행
+ * 4. 복구
+ *    - 시작 시 마지막 정상 스냅샷을 적재한 뒤 이후 세그먼트의 레코드를 순서대로 재적용
+ *    - 기록 도중 종료되어 잘린(또는 체크섬이 맞지 않는) 마지막 레코드부터는 버리고 세그먼트를 그 위치로 잘라냄
+ * 주의:
+ * - 레코드는 테이블 반영 전에, 사용자 락을 보유한 상태에서 기록해야 함 (같은 사용자의 레코드 순서 = 반영 순서)
+ *   → append 가 실패(예외)하면 테이블을 바꾸지 않으므로, 응답에 실패한 변경이 메모리에만 남지 않음
+ * - 레코드 기록부터 테이블 반영까지를 beginMutation / endMutation 으로 감싸야 스냅샷에 반영되지 않은 기록이 섞이지 않음
+ */
+@Component
+public class WriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+    private static final long IDLE_POLL_MILLIS = 100L;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryTable pointHistoryTable;
+    private final WalProperties properties;
+    private final Path directory;
+
+    // ==== 기록 (appendLock 으로 보호) ====
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private FileChannel segment;
+    private long nextLsn = 1;
+    private volatile long writtenLsn;
+
+    // ==== fsync 완료 대기 (syncLock 으로 보호) ====
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition written = syncLock.newCondition();
+    private final Condition synced = syncLock.newCondition();
+    private volatile long durableLsn;
+    private volatile IOException syncFailure;
+
+    // ==== 스냅샷 ====
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    // 변경 게이트 - 변경(테이블 반영 ~ 레코드 기록)은 읽기 락, 스냅샷은 쓰기 락으로 서로 배제
+    private final ReentrantReadWriteLock mutationLock = new ReentrantReadWriteLock();
+    private volatile long snapshotLsn;
+
+    // ==== WAL 지표 ====
+    private final LongAdder appendedRecords = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+
+    private volatile boolean running;
+    private Thread syncer;
+    private ScheduledExecutorService snapshotScheduler;
+
+    public WriteAheadLog(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, WalProperties properties) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryTable = pointHistoryTable;
+        this.properties = properties;
+        this.directory = Paths.get(properties.directory());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.enabled()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        long lastLsn = recover();
+        nextLsn = lastLsn + 1;
+        writtenLsn = lastLsn;
+        durableLsn = lastLsn;
+        segment = openSegment(nextLsn);
+        running = true;
+
+        syncer = new Thread(this::syncLoop, "point-wal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+
+        long intervalMillis = properties.snapshotInterval().toMillis();
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-wal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        appendLock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false; // 이후 기록 요청은 거절
+        } finally {
+            appendLock.unlock();
+        }
+        snapshotScheduler.shutdownNow();
+        signalWritten();
+        syncer.join(); // 남은 레코드를 fsync 한 뒤 종료
+        appendLock.lock();
+        try {
+            segment.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    // 레코드 기록 시작 - 테이블 반영을 마친 endMutation 까지 스냅샷이 끼어들지 않음 (WAL 미사용 시 아무것도 하지 않음)
+    public void beginMutation() {
+        if (properties.enabled()) {
+            mutationLock.readLock().lock();
+        }
+    }
+
+    // 레코드 기록(append)과 테이블 반영 완료 - beginMutation 과 짝을 이뤄 finally 에서 호출
+    public void endMutation() {
+        if (properties.enabled()) {
+            mutationLock.readLock().unlock();
+        }
+    }
+
+    // 잔액 갱신과 이력 행을 하나의 레코드로 기록하고 fsync 완료까지 대기
+    public void append(UserPoint userPoint, List<PointHistory> histories) {
+        long lsn;
+        appendLock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("WAL이 종료되었습니다.");
+            }
+            lsn = nextLsn;
+            writeFully(segment, new WalRecord(lsn, userPoint, histories).encode());
+            nextLsn++;
+            writtenLsn = lsn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 기록에 실패했습니다.", e);
+        } finally {
+            appendLock.unlock();
+        }
+        appendedRecords.increment();
+        signalWritten();
+        awaitDurable(lsn);
+    }
+
+    // 세그먼트를 교체하고 현재 테이블 상태를 스냅샷으로 저장 (이전 스냅샷 이후 기록이 없으면 건너뜀)
+    // 진행 중인 변경이 끝나기를 기다린 뒤 새 변경을 막고 세그먼트 교체와 상태 고정(잔액 복사 + 이력 스냅샷)만 수행하므로,
+    // 변경이 멈추는 시간은 사용자 수에 비례하고 이력 수와 무관 (파일 기록은 변경을 다시 허용한 뒤 수행)
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long lsn;
+            List<UserPoint> userPoints = new ArrayList<>();
+            Stream<PointHistory> histories;
+            mutationLock.writeLock().lock();
+            try {
+                appendLock.lock();
+                try {
+                    lsn = writtenLsn;
+                    if (!running || lsn == snapshotLsn) {
+                        return;
+                    }
+                    // 이전 세그먼트는 fsync 후 닫고, 이후 레코드는 새 세그먼트(lsn + 1 부터)에 기록
+                    FileChannel previous = segment;
+                    previous.force(false);
+                    segment = openSegment(lsn + 1);
+                    previous.close();
+                } finally {
+                    appendLock.unlock();
+                }
+                userPointTable.forEach(userPoints::add);
+                histories = pointHistoryTable.snapshot();
+            } finally {
+                mutationLock.writeLock().unlock();
+            }
+            markDurable(lsn);
+
+            Path file = directory.resolve(fileName(SNAPSHOT_PREFIX, lsn, SNAPSHOT_SUFFIX));
+            Path temp = WalSnapshot.writeTemp(file, lsn, userPoints, histories);
+
+            WalSnapshot.commit(temp, file);
+            syncDirectory(directory);
+            snapshotLsn = lsn;
+            deleteObsoleteFiles(lsn);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    // 기록된 레코드 수
+    public long appendedCount() {
+        return appendedRecords.sum();
+    }
+
+    // fsync 횟수 (appendedCount 보다 작을수록 그룹 fsync 효과가 큼)
+    public long syncCount() {
+        return syncs.sum();
+    }
+
+    public long lastSnapshotLsn() {
+        return snapshotLsn;
+    }
+
+//  ================================================================
+
+    // ==== 복구 ====
+
+    // 마지막 정상 스냅샷 + 이후 세그먼트를 재적용하고 마지막 lsn 반환
+    private long recover() throws IOException {
+        long lsn = 0;
+        List<Path> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path snapshot = snapshots.get(i);
+            if (WalSnapshot.isValid(snapshot)) {
+                lsn = WalSnapshot.load(snapshot, userPointTable, pointHistoryTable);
+                snapshotLsn = lsn;
+                log.info("WAL 스냅샷 적재 완료 - {} (lsn={})", snapshot.getFileName(), lsn);
+                break;
+            }
+            log.warn("손상된 WAL 스냅샷을 건너뜁니다 - {}", snapshot.getFileName());
+        }
+
+        long replayed = 0;
+        for (Path file : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            long[] result = replaySegment(file, lsn);
+            lsn = result[0];
+            replayed += result[1];
+        }
+        log.info("WAL 복구 완료 - 재적용 레코드 {}건, 마지막 lsn={}", replayed, lsn);
+        return lsn;
+    }
+
+    // 세그먼트의 레코드 중 afterLsn 이후 레코드를 재적용하고 {마지막 lsn, 재적용 수} 반환
+    private long[] replaySegment(Path file, long afterLsn) throws IOException {
+        long lastLsn = afterLsn;
+        long replayed = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(WalRecord.HEADER_BYTES);
+            long position = 0;
+            while (true) {
+                header.clear();
+                if (!readFully(channel, header, position)) {
+                    break;
+                }
+                int bodyLength = header.getInt(0);
+                int checksum = header.getInt(Integer.BYTES);
+                if (!WalRecord.isValidBodyLength(bodyLength)) {
+                    break;
+                }
+                ByteBuffer body = ByteBuffer.allocate(bodyLength);
+                if (!readFully(channel, body, position + WalRecord.HEADER_BYTES)) {
+                    break;
+                }
+                WalRecord record = WalRecord.decode(body.array(), checksum);
+                if (record == null) {
+                    break;
+                }
+                if (record.lsn() > lastLsn) {
+                    apply(record);
+                    lastLsn = record.lsn();
+                    replayed++;
+                }
+                position += WalRecord.HEADER_BYTES + bodyLength;
+            }
+            if (position < channel.size()) {
+                log.warn("WAL 세그먼트 {} 의 손상된 꼬리 {}바이트를 잘라냅니다.", file.getFileName(), channel.size() - position);
+                channel.truncate(position);
+                channel.force(true);
+            }
+        }
+        return new long[]{lastLsn, replayed};
+    }
+
+    private void apply(WalRecord record) {
+        userPointTable.restore(record.userPoint());
+        record.histories().forEach(pointHistoryTable::restore);
+    }
+
+    // ==== 그룹 fsync ====
+
+    private void syncLoop() {
+        while (running || durableLsn < writtenLsn) {
+            try {
+                if (!awaitWritten()) {
+                    continue;
+                }
+                if (!properties.syncDelay().isZero()) {
+                    TimeUnit.NANOSECONDS.sleep(properties.syncDelay().toNanos());
+                }
+                sync();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                log.error("WAL fsync 에 실패했습니다.", e);
+                failWaiters(e);
+                return;
+            }
+        }
+    }
+
+    private void sync() throws IOException {
+        FileChannel target;
+        long lsn;
+        appendLock.lock();
+        try {
+            target = segment;
+            lsn = writtenLsn;
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            target.force(false);
+        } catch (ClosedChannelException e) {
+            // 스냅샷의 세그먼트 교체로 닫힌 경우 - 교체 전에 이미 fsync 됨
+        }
+        syncs.increment();
+        markDurable(lsn);
+    }
+
+    // fsync 할 레코드가 생길 때까지 대기 (IDLE_POLL_MILLIS 마다 종료 여부 확인)
+    private boolean awaitWritten() throws InterruptedException {
+        syncLock.lock();
+        try {
+            if (writtenLsn <= durableLsn) {
+                written.await(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return writtenLsn > durableLsn;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void signalWritten() {
+        syncLock.lock();
+        try {
+            written.signal();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void markDurable(long lsn) {
+        syncLock.lock();
+        try {
+            if (lsn > durableLsn) {
+                durableLsn = lsn;
+            }
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void failWaiters(IOException e) {
+        syncLock.lock();
+        try {
+            syncFailure = e;
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void awaitDurable(long lsn) {
+        syncLock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (syncFailure != null) {
+                    throw new UncheckedIOException("WAL fsync 에 실패했습니다.", syncFailure);
+                }
+                synced.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WAL fsync 대기 중 인터럽트 되었습니다.", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // ==== 파일 ====
+
+    // 새 세그먼트를 만들고 디렉터리 항목까지 fsync (파일 내용만 fsync 하면 장애 후 파일 자체가 사라질 수 있음)
+    private FileChannel openSegment(long firstLsn) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        try {
+            syncDirectory(directory);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    // 디렉터리의 파일 생성/이름 변경을 디스크에 반영 (디렉터리를 열 수 없는 OS(Windows)에서는 건너뜀)
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    // 스냅샷 lsn 이하의 레코드만 담긴 세그먼트와 이전 스냅샷 삭제
+    private void deleteObsoleteFiles(long lsn) throws IOException {
+        for (Path file : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (lsnOf(file, SEGMENT_PREFIX, SEGMENT_SUFFIX) <= lsn) {
+                Files.deleteIfExists(file);
+            }
+        }
+        for (Path file : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (lsnOf(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < lsn) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // 접두사/접미사가 일치하는 파일을 lsn 오름차순으로 반환 (파일명의 lsn 은 0으로 채운 고정 길이)
+    private List<Path> list(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(suffix);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("WAL 스냅샷 작성에 실패했습니다.", e);
+        }
+    }
+
+    private static String fileName(String prefix, long lsn, String suffix) {
+        return String.format("%s%020d%s", prefix, lsn, suffix);
+    }
+
+    private static long lsnOf(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // position 부터 buffer 를 가득 채워 읽음 (파일 끝에 도달하여 다 채우지 못하면 false)
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.api.config;
+
+import io.hhplus.tdd.api.controller.PointController;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import io.hhplus.tdd.infrastructure.ratelimit.RateLimitProperties;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * RateLimitConfig / RateLimitInterceptor 테스트
+ * 작은 버킷(API별 2개, 사용자 전체 3개, 초당 1개 충전)으로 충전/사용 API 의 속도 제한을 MockMvc 로 검증 (서비스는 mock)
+ * - 컨텍스트(버킷)는 테스트 간에 공유되므로 테스트마다 다른 사용자를 사용
+ * 테스트 항목:
+ * 1. 제한을 넘으면 컨트롤러 호출 없이 429, 미리 만든 JSON 본문, Retry-After 헤더로 응답하는지 확인
+ * 2. 충전/사용은 API별 버킷을 따로 쓰고 사용자 전체 버킷은 함께 쓰는지 확인 (다른 사용자는 영향 없음)
+ * 3. 사용자 ID 가 숫자가 아니거나 양수가 아니면 제한하지 않고 컨트롤러 검증 결과로 응답하는지 확인
+ * 4. point.rate-limit.enabled=false 이면 인터셉터를 등록하지 않는지 확인
+ */
+@WebMvcTest(PointController.class)
+@Import({IdempotencyStore.class, UserRateLimiter.class})
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class})
+@TestPropertySource(properties = {
+        "point.rate-limit.enabled=true",
+        "point.rate-limit.user-capacity=3",
+        "point.rate-limit.user-per-second=1",
+        "point.rate-limit.endpoint-capacity=2",
+        "point.rate-limit.endpoint-per-second=1",
+        "point.rate-limit.idle-timeout=10m"
+})
+class RateLimitConfigTest {
+
+    private static final String AMOUNT_BODY = "{\"amount\":100}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @Test
+    void charge_API별_버킷초과_429() throws Exception {
+        // given
+        stubService(pointService);
+        charge(mockMvc, "1").andExpect(request().asyncStarted());
+        charge(mockMvc, "1").andExpect(request().asyncStarted());
+
+        // when & then - 충전 버킷(2개) 소진
+        charge(mockMvc, "1")
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("429"))
+                .andExpect(jsonPath("$.message").value(ApiErrorMessages.RATE_LIMITED));
+        verify(pointService, times(2)).chargeAsync(1L, 100L);
+    }
+
+    /**
+     * [버킷 공유] 충전 버킷이 비어도 사용은 자기 버킷으로 허용되지만, 사용자 전체 버킷(3개)은 충전과 함께 소진되는지 검증
+     */
+    @Test
+    void use_사용자버킷_충전과_공유() throws Exception {
+        // given - 충전 2회 허용, 3회째는 충전 버킷에서 거절 (사용자 버킷은 1개 남음)
+        stubService(pointService);
+        charge(mockMvc, "2").andExpect(request().asyncStarted());
+        charge(mockMvc, "2").andExpect(request().asyncStarted());
+        charge(mockMvc, "2").andExpect(status().isTooManyRequests());
+
+        // when & then - 사용 버킷은 따로이므로 1회 허용, 2회째는 사용자 버킷 소진으로 거절
+        use(mockMvc, "2").andExpect(request().asyncStarted());
+        use(mockMvc, "2")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.code").value("429"));
+
+        // 다른 사용자는 영향 없음
+        charge(mockMvc, "3").andExpect(request().asyncStarted());
+        use(mockMvc, "3").andExpect(request().asyncStarted());
+        verify(pointService, times(1)).useAsync(2L, 100L);
+    }
+
+    @Test
+    void charge_잘못된사용자ID_제한없이_컨트롤러검증() throws Exception {
+        // 버킷 크기보다 많이 보내도 429 가 아닌 컨트롤러 검증 결과로 응답
+        for (int i = 0; i < 5; i++) {
+            charge(mockMvc, "abc").andExpect(status().isBadRequest());
+            charge(mockMvc, "0").andExpect(status().isInternalServerError()).andExpect(jsonPath("$.code").value("500"));
+            use(mockMvc, "-1").andExpect(status().isInternalServerError()).andExpect(jsonPath("$.code").value("500"));
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "point.rate-limit.enabled=false")
+    class RateLimitDisabled {
+
+        @Autowired
+        private MockMvc disabledMockMvc;
+
+        // 바깥 클래스의 @MockBean 을 그대로 사용 (설정만 다른 별도 컨텍스트)
+        @Autowired
+        private PointService disabledPointService;
+
+        @Test
+        void charge_속도제한_미사용_제한없음() throws Exception {
+            // given
+            stubService(disabledPointService);
+
+            // when & then - 버킷 크기(2, 3)보다 많이 보내도 모두 컨트롤러까지 전달
+            for (int i = 0; i < 5; i++) {
+                charge(disabledMockMvc, "1").andExpect(request().asyncStarted());
+                use(disabledMockMvc, "1").andExpect(request().asyncStarted());
+            }
+            verify(disabledPointService, times(5)).chargeAsync(1L, 100L);
+            verify(disabledPointService, times(5)).useAsync(1L, 100L);
+        }
+    }
+
+//  ================================================================
+
+    private static void stubService(PointService pointService) {
+        when(pointService.chargeAsync(anyLong(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 100L, 0L)));
+        when(pointService.useAsync(anyLong(), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 0L, 0L)));
+    }
+
+    private static ResultActions charge(MockMvc mockMvc, String id) throws Exception {
+        return mockMvc.perform(patch("/point/" + id + "/charge").contentType(MediaType.APPLICATION_JSON).content(AMOUNT_BODY));
+    }
+
+    private static ResultActions use(MockMvc mockMvc, String id) throws Exception {
+        return mockMvc.perform(patch("/point/" + id + "/use").contentType(MediaType.APPLICATION_JSON).content(AMOUNT_BODY));
+    }
+}
@@ -0,0 +1,131 @@
+package io.hhplus.tdd.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.hhplus.tdd.api.controller.PointController;
+import io.hhplus.tdd.domain.point.dto.ChargeRequest;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import io.hhplus.tdd.infrastructure.ratelimit.RateLimitProperties;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * WireFormatConfig 테스트
+ * 포인트 API 를 CBOR/Smile 로 주고받을 수 있는지 MockMvc 로 검증 (서비스는 mock)
+ * 테스트 항목:
+ * 1. CBOR 요청 본문을 읽고 Smile 로 응답하는지 확인 (응답을 Smile 로 디코딩하여 비교)
+ * 2. 에러 응답(ErrorResponse)도 요청한 바이너리 형식으로 내려가는지 확인
+ * 3. Accept: *&#47;* 이면 JSON 으로 응답하는지 확인 (바이너리 컨버터가 JSON 보다 앞에 등록되지 않음)
+ */
+@WebMvcTest(PointController.class)
+@Import({WireFormatConfig.class, IdempotencyStore.class, UserRateLimiter.class})
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class})
+class WireFormatConfigTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @Test
+    void charge_CBOR요청_Smile응답() throws Exception {
+        // given
+        UserPoint expected = new UserPoint(1L, 1_100L, 1_000L);
+        when(pointService.chargeAsync(1L, 100L)).thenReturn(CompletableFuture.completedFuture(expected));
+
+        // when
+        MvcResult started = mockMvc.perform(patch("/point/{id}/charge", 1L)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(APPLICATION_SMILE)
+                        .content(cborMapper.writeValueAsBytes(new ChargeRequest(100L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // then
+        assertEquals(expected, smileMapper.readValue(body, UserPoint.class));
+    }
+
+    @Test
+    void charge_에러응답_요청형식으로_작성() throws Exception {
+        // given
+        when(pointService.chargeAsync(1L, 100L))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()));
+
+        // when
+        MvcResult started = mockMvc.perform(patch("/point/{id}/charge", 1L)
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(APPLICATION_SMILE)
+                        .content(cborMapper.writeValueAsBytes(new ChargeRequest(100L))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().contentType(APPLICATION_SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // then
+        Map<?, ?> error = smileMapper.readValue(body, Map.class);
+        assertEquals("503", error.get("code"));
+    }
+
+    /**
+     * [컨버터 순서] 브라우저/curl 처럼 Accept 를 특정하지 않는 클라이언트가 바이너리 응답을 받지 않는지 검증
+     */
+    @Test
+    void point_Accept_전체허용_JSON응답() throws Exception {
+        // given
+        when(pointService.pointAsync(1L)).thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 500L, 1_000L)));
+
+        // when
+        MvcResult started = mockMvc.perform(get("/point/{id}", 1L).accept(MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.point").value(500));
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.api.controller;
+
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.ratelimit.RateLimitProperties;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import io.hhplus.tdd.point.service.PointServiceFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 충전/사용 API 테스트
+ * PointController 의 bulk API 를 실제 서비스와 테이블(지연 없음)로 검증
+ * - 컨텍스트(테이블)는 테스트 간에 공유되므로 테스트마다 다른 사용자를 사용
+ * 테스트 항목:
+ * 1. 충전/사용 모두 사용자 ID 가 양수가 아닌 항목은 요청 전체가 아닌 해당 항목만 실패하고, 나머지 항목은 반영되는지 확인
+ */
+@WebMvcTest(PointController.class)
+@Import({IdempotencyStore.class, UserRateLimiter.class})
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class})
+class PointControllerBulkTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserPointTable userPointTable;
+
+    @TestConfiguration
+    static class PointServiceConfig {
+
+        @Bean
+        UserPointTable userPointTable() {
+            return new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore());
+        }
+
+        @Bean
+        PointHistoryTable pointHistoryTable() {
+            return new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        }
+
+        // 컨텍스트 종료 시 close() 로 구성이 만든 실행기 종료 (AutoCloseable 빈의 종료 메서드)
+        @Bean
+        PointServiceFixtures.Fixture pointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+            return PointServiceFixtures.builder(userPointTable, pointHistoryTable).build();
+        }
+
+        @Bean
+        PointService pointService(PointServiceFixtures.Fixture pointServiceFixture) {
+            return pointServiceFixture.pointService();
+        }
+    }
+
+    @Test
+    void chargeAll_잘못된사용자ID_항목만_실패() throws Exception {
+        // given
+        String body = """
+                {"operations":[
+                  {"userId":1,"amount":1000},
+                  {"userId":0,"amount":1000},
+                  {"userId":-5,"amount":1000},
+                  {"userId":1,"amount":2000}
+                ]}""";
+
+        // when & then
+        mockMvc.perform(post("/point/bulk/charge").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].balance").value(1_000))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].userId").value(0))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].errorMessage").value(ApiErrorMessages.USER_ID_NEGATIVE))
+                .andExpect(jsonPath("$[2].userId").value(-5))
+                .andExpect(jsonPath("$[2].success").value(false))
+                .andExpect(jsonPath("$[2].errorMessage").value(ApiErrorMessages.USER_ID_NEGATIVE))
+                .andExpect(jsonPath("$[3].success").value(true))
+                .andExpect(jsonPath("$[3].balance").value(3_000));
+        assertEquals(3_000L, userPointTable.selectById(1L).point());
+    }
+
+    @Test
+    void useAll_잘못된사용자ID_항목만_실패() throws Exception {
+        // given
+        userPointTable.insertOrUpdate(2L, 1_000L);
+        String body = """
+                {"operations":[{"userId":-2,"amount":500},{"userId":2,"amount":500}]}""";
+
+        // when & then
+        mockMvc.perform(post("/point/bulk/use").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(false))
+                .andExpect(jsonPath("$[0].errorMessage").value(ApiErrorMessages.USER_ID_NEGATIVE))
+                .andExpect(jsonPath("$[1].success").value(true))
+                .andExpect(jsonPath("$[1].balance").value(500));
+        assertEquals(500L, userPointTable.selectById(2L).point());
+    }
+}
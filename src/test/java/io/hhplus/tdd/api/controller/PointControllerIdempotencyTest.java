@@ -0,0 +1,144 @@
+package io.hhplus.tdd.api.controller;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import io.hhplus.tdd.infrastructure.ratelimit.RateLimitProperties;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PointController 멱등 키(Idempotency-Key 헤더) 연동 테스트
+ * 실제 IdempotencyStore 와 mock PointService 로 충전/사용 API 의 중복 요청 처리를 MockMvc 로 검증
+ * - 저장소는 테스트 간에 공유되므로 테스트마다 다른 멱등 키를 사용
+ * 테스트 항목:
+ * 1. 같은 키로 다시 요청하면 서비스를 다시 호출하지 않고 같은 UserPoint 를 반환하는지 확인
+ * 2. 같은 키로 다른 금액/유형을 요청하면 422 로 거절하는지 확인
+ * 3. 빈 키, 최대 길이(255자)를 넘는 키는 서비스 호출 없이 거절하는지 확인 (최대 길이는 허용)
+ */
+@WebMvcTest(PointController.class)
+@Import({IdempotencyStore.class, UserRateLimiter.class})
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class})
+class PointControllerIdempotencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @Test
+    void charge_같은키_재요청_서비스호출없이_같은결과() throws Exception {
+        // given
+        when(pointService.chargeAsync(1L, 100L))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 1_100L, 1_000L)));
+
+        // when
+        MvcResult first = charge(1L, "charge-replay", 100L).andExpect(request().asyncStarted()).andReturn();
+        MvcResult retry = charge(1L, "charge-replay", 100L).andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        for (MvcResult result : new MvcResult[]{first, retry}) {
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1))
+                    .andExpect(jsonPath("$.point").value(1_100))
+                    .andExpect(jsonPath("$.updateMillis").value(1_000));
+        }
+        verify(pointService, times(1)).chargeAsync(1L, 100L);
+    }
+
+    @Test
+    void use_같은키_다른요청_422() throws Exception {
+        // given
+        when(pointService.useAsync(1L, 100L))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 900L, 1_000L)));
+        MvcResult first = use(1L, "use-reused", 100L).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+
+        // when & then - 다른 금액
+        use(1L, "use-reused", 200L)
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("422"))
+                .andExpect(jsonPath("$.message").value(ApiErrorMessages.IDEMPOTENCY_KEY_REUSED));
+
+        // when & then - 같은 금액이지만 다른 유형(충전)
+        charge(1L, "use-reused", 100L)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("422"));
+
+        verify(pointService, times(1)).useAsync(anyLong(), anyLong());
+        verify(pointService, never()).chargeAsync(anyLong(), anyLong());
+    }
+
+    @Test
+    void charge_잘못된키_서비스호출없이_거절() throws Exception {
+        // when & then
+        charge(1L, "   ", 100L)
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+        charge(1L, "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), 100L)
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+        verify(pointService, never()).chargeAsync(anyLong(), anyLong());
+    }
+
+    @Test
+    void charge_최대길이키_허용() throws Exception {
+        // given
+        when(pointService.chargeAsync(1L, 100L))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 100L, 1_000L)));
+
+        // when
+        MvcResult result = charge(1L, "m".repeat(IdempotencyStore.MAX_KEY_LENGTH), 100L)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        verify(pointService, times(1)).chargeAsync(1L, 100L);
+    }
+
+//  ================================================================
+
+    private ResultActions charge(long id, String idempotencyKey, long amount) throws Exception {
+        return mockMvc.perform(patch("/point/{id}/charge", id)
+                .header(PointController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + amount + "}"));
+    }
+
+    private ResultActions use(long id, String idempotencyKey, long amount) throws Exception {
+        return mockMvc.perform(patch("/point/{id}/use", id)
+                .header(PointController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + amount + "}"));
+    }
+}
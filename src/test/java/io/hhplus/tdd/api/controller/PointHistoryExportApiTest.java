@@ -0,0 +1,209 @@
+package io.hhplus.tdd.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.api.config.AdminExportProperties;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.infrastructure.idempotency.IdempotencyStore;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.ratelimit.RateLimitProperties;
+import io.hhplus.tdd.infrastructure.ratelimit.UserRateLimiter;
+import io.hhplus.tdd.point.service.PointServiceFixtures;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이력 내보내기 API(NDJSON) 테스트
+ * PointController / AdminPointController 의 내보내기를 실제 서비스와 테이블(지연 없음)로 비동기 디스패치까지 검증
+ * - 컨텍스트(테이블)는 테스트 간에 공유되므로 테스트마다 다른 사용자와 시간 범위를 사용
+ * 테스트 항목:
+ * 1. 사용자 이력이 application/x-ndjson 으로 한 줄에 하나씩, 모든 줄이 개행으로 끝나도록 내려가는지 확인
+ * 2. 조회 범위가 잘못되면 본문을 쓰기 전에(비동기 시작 없이) 에러 응답을 반환하는지 확인
+ * 3. 운영 내보내기가 시간 범위 [from, to) 안의 이력만 사용자와 무관하게 내보내는지 확인
+ * 4. 운영 내보내기는 최대 조회 범위(max-window)를 넘으면 거절하고, 비활성(기본값)이면 등록되지 않는지(404) 확인
+ */
+@WebMvcTest({PointController.class, AdminPointController.class})
+@Import({IdempotencyStore.class, UserRateLimiter.class})
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class, AdminExportProperties.class})
+@TestPropertySource(properties = {
+        "point.admin.export.enabled=true",
+        "point.admin.export.max-window=1h"
+})
+class PointHistoryExportApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserPointTable userPointTable;
+
+    @Autowired
+    private PointHistoryTable pointHistoryTable;
+
+    @TestConfiguration
+    static class PointServiceConfig {
+
+        @Bean
+        UserPointTable userPointTable() {
+            return new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore());
+        }
+
+        @Bean
+        PointHistoryTable pointHistoryTable() {
+            return new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        }
+
+        // 컨텍스트 종료 시 close() 로 구성이 만든 실행기 종료 (AutoCloseable 빈의 종료 메서드)
+        @Bean
+        PointServiceFixtures.Fixture pointServiceFixture(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+            return PointServiceFixtures.builder(userPointTable, pointHistoryTable).build();
+        }
+
+        @Bean
+        PointService pointService(PointServiceFixtures.Fixture pointServiceFixture) {
+            return pointServiceFixture.pointService();
+        }
+    }
+
+    @Test
+    void exportHistory_NDJSON_한줄에_이력하나() throws Exception {
+        // given
+        userPointTable.insertOrUpdate(1L, 700L);
+        PointHistory charge = pointHistoryTable.insert(1L, 1_000L, TransactionType.CHARGE, 10L);
+        PointHistory use = pointHistoryTable.insert(1L, 300L, TransactionType.USE, 20L);
+
+        // when
+        MvcResult started = mockMvc.perform(get("/point/{id}/histories/export", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String expected = objectMapper.writeValueAsString(charge) + "\n" + objectMapper.writeValueAsString(use) + "\n";
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+    }
+
+    /**
+     * [검증 순서] 범위 검증은 스트리밍을 시작하기 전에 끝나므로, 잘못된 범위는 NDJSON 본문 없이 에러 응답(JSON)으로 처리되는지 검증
+     */
+    @Test
+    void exportHistory_잘못된범위_본문전_에러응답() throws Exception {
+        mockMvc.perform(get("/point/{id}/histories/export", 1L).param("from", "20").param("to", "10"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("500"));
+
+        mockMvc.perform(get("/admin/point/histories/export").param("from", "10").param("to", "10"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("500"));
+    }
+
+    @Test
+    void adminExportHistory_시간범위_전체사용자() throws Exception {
+        // given - 사용자 2, 3 의 이력 중 [1,000, 2,000) 범위는 first, second 만 해당
+        pointHistoryTable.insert(2L, 100L, TransactionType.CHARGE, 999L);
+        PointHistory first = pointHistoryTable.insert(2L, 200L, TransactionType.CHARGE, 1_000L);
+        PointHistory second = pointHistoryTable.insert(3L, 300L, TransactionType.USE, 1_500L);
+        pointHistoryTable.insert(3L, 400L, TransactionType.CHARGE, 2_000L);
+
+        // when
+        MvcResult started = mockMvc.perform(get("/admin/point/histories/export").param("from", "1000").param("to", "2000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then - 사용자 간 순서는 보장하지 않으므로 집합으로 비교
+        assertTrue(body.endsWith("\n"));
+        List<PointHistory> exported = body.lines().map(this::readHistory).toList();
+        assertEquals(2, exported.size());
+        assertEquals(Set.of(first, second), Set.copyOf(exported));
+    }
+
+    /**
+     * [범위 제한] 전체 사용자 내보내기는 최대 조회 범위(1시간)까지만 허용하고, 넘으면 본문 없이 에러 응답하는지 검증
+     * (차이가 long 범위를 넘는 범위도 거절)
+     */
+    @Test
+    void adminExportHistory_최대범위초과_거절() throws Exception {
+        mockMvc.perform(get("/admin/point/histories/export").param("from", "0").param("to", "3600000"))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/admin/point/histories/export").param("from", "0").param("to", "3600001"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"))
+                .andExpect(jsonPath("$.message").value(ApiErrorMessages.HISTORY_EXPORT_RANGE_TOO_LONG));
+        mockMvc.perform(get("/admin/point/histories/export")
+                        .param("from", String.valueOf(Long.MIN_VALUE))
+                        .param("to", String.valueOf(Long.MAX_VALUE)))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(jsonPath("$.message").value(ApiErrorMessages.HISTORY_EXPORT_RANGE_TOO_LONG));
+    }
+
+    @Nested
+    @TestPropertySource(properties = "point.admin.export.enabled=false")
+    class AdminExportDisabled {
+
+        @Autowired
+        private MockMvc disabledMockMvc;
+
+        @Test
+        void adminExportHistory_비활성_404() throws Exception {
+            disabledMockMvc.perform(get("/admin/point/histories/export").param("from", "1000").param("to", "2000"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+//  ================================================================
+
+    private PointHistory readHistory(String line) {
+        try {
+            return objectMapper.readValue(line, PointHistory.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
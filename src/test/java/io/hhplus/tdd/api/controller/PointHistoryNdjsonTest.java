@@ -0,0 +1,76 @@
+package io.hhplus.tdd.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointHistoryNdjson 테스트
+ * 테스트 항목:
+ * 1. 이력마다 JSON 객체 하나를 한 줄로 쓰고, 모든 줄(마지막 줄 포함)이 개행으로 끝나는지 확인
+ * 2. 다 쓴 뒤와 쓰기에 실패한 경우 모두 이력 스트림이 닫히는지 확인
+ */
+class PointHistoryNdjsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void body_이력마다_한줄_개행으로_끝남_스트림닫힘() throws IOException {
+        // given
+        PointHistory first = new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 10L);
+        PointHistory second = new PointHistory(2L, 1L, 300L, TransactionType.USE, 20L);
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryNdjson.body(objectMapper, Stream.of(first, second).onClose(() -> closed.set(true))).writeTo(out);
+
+        // then
+        String expected = objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n";
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get(), "응답을 다 쓴 뒤 스트림을 닫아야 함");
+    }
+
+    @Test
+    void body_빈스트림_빈본문() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryNdjson.body(objectMapper, Stream.empty()).writeTo(out);
+
+        // then
+        assertEquals(0, out.size());
+    }
+
+    /**
+     * [자원 정리] 클라이언트 연결이 끊겨 응답 쓰기에 실패해도 IOException 을 그대로 전달하고 이력 스트림을 닫는지 검증
+     */
+    @Test
+    void body_쓰기실패_IOException_스트림닫힘() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<PointHistory> histories = Stream.of(new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 10L))
+                .onClose(() -> closed.set(true));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        };
+
+        // when & then
+        assertThrows(IOException.class, () -> PointHistoryNdjson.body(objectMapper, histories).writeTo(broken));
+        assertTrue(closed.get(), "쓰기에 실패해도 스트림을 닫아야 함");
+    }
+}
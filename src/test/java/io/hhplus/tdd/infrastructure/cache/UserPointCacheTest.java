@@ -0,0 +1,87 @@
+package io.hhplus.tdd.infrastructure.cache;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserPointCache 테스트
+ * 잔액 캐시의 read-through / write-through 동작과 적중/미스 지표 검증
+ */
+class UserPointCacheTest {
+
+    private static final long USER_ID = 1L;
+
+    /**
+     * [기능 검증] 최초 조회만 loader 를 호출하고, 이후 조회는 캐시에서 반환되는지 검증
+     */
+    @Test
+    void get_최초조회만_테이블조회_이후_캐시적중() {
+        // given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(true, 100));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            cache.get(USER_ID, id -> {
+                loads.incrementAndGet();
+                return new UserPoint(id, 1_000L, 0L);
+            });
+        }
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    /**
+     * [정합성 검증] 잔액 저장 후 put 한 값이 바로 조회되어 이전 잔액이 보이지 않는지 검증
+     */
+    @Test
+    void put_저장직후_최신잔액_조회() {
+        // given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(true, 100));
+        cache.get(USER_ID, id -> new UserPoint(id, 1_000L, 0L));
+
+        // when
+        cache.put(new UserPoint(USER_ID, 5_000L, 1L));
+
+        // then
+        UserPoint result = cache.get(USER_ID, id -> fail("캐시에 있는 사용자는 테이블을 조회하지 않아야 함"));
+        assertEquals(5_000L, result.point());
+    }
+
+    @Test
+    void get_캐시비활성시_항상_테이블조회() {
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(false, 100));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(USER_ID, id -> new UserPoint(id, loads.incrementAndGet(), 0L));
+        cache.put(new UserPoint(USER_ID, 5_000L, 1L));
+        UserPoint result = cache.get(USER_ID, id -> new UserPoint(id, loads.incrementAndGet(), 0L));
+
+        assertEquals(2, loads.get());
+        assertEquals(2L, result.point());
+    }
+
+    @Test
+    void get_존재하지않는_사용자는_캐시하지_않음() {
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(true, 100));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(USER_ID, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(2, loads.get());
+    }
+}
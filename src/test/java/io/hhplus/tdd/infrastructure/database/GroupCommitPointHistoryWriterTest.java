@@ -0,0 +1,149 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GroupCommitPointHistoryWriter 테스트
+ * 동시에 들어온 이력이 배치로 묶여 저장되고, 각 호출자가 자신의 저장 결과를 받는지 검증
+ */
+class GroupCommitPointHistoryWriterTest {
+
+    private static final int CLIENTS = 64;
+    private static final long SEED = 42L;
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.uniform(SEED), new InMemoryPointHistoryStore());
+    private final GroupCommitPointHistoryWriter writer = new GroupCommitPointHistoryWriter(
+            pointHistoryTable, new GroupCommitProperties(true, CLIENTS, Duration.ofMillis(20)));
+
+    @BeforeEach
+    void setUp() {
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    /**
+     * [기능 검증] 동시에 요청된 이력이 insert 횟수보다 적은 배치로 저장되고,
+     * 모든 호출자가 고유한 ID가 발급된 자신의 이력을 돌려받는지 검증
+     */
+    @Test
+    void write_동시요청_배치저장_후_개별응답_성공() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        Set<PointHistory> results = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (int i = 0; i < CLIENTS; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    results.add(writer.write(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(CLIENTS, results.size());
+        assertEquals(CLIENTS, results.stream().map(PointHistory::id).distinct().count(), "ID는 중복 없이 발급되어야 함");
+        results.forEach(history -> assertEquals(List.of(history), pointHistoryTable.selectAllByUserId(history.userId())));
+        assertEquals(CLIENTS, writer.committedRowCount());
+        assertTrue(writer.commitCount() < CLIENTS, "여러 이력이 한 번의 저장으로 묶여야 함");
+    }
+
+    /**
+     * [기능 검증] 같은 사용자의 이력은 제출 순서대로 저장되는지 검증
+     */
+    @Test
+    void submit_같은사용자_제출순서대로_저장() {
+        // when
+        List<CompletableFuture<PointHistory>> futures = List.of(
+                writer.submit(1L, 1_000L, TransactionType.CHARGE, 1L),
+                writer.submit(1L, 500L, TransactionType.USE, 2L),
+                writer.submit(1L, 300L, TransactionType.USE, 3L)
+        );
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(1L);
+        assertEquals(List.of(1_000L, 500L, 300L), histories.stream().map(PointHistory::amount).toList());
+    }
+
+    @Test
+    void submit_종료후_요청_실패() throws InterruptedException {
+        writer.stop();
+        assertThrows(IllegalStateException.class, () -> writer.submit(1L, 1_000L, TransactionType.CHARGE, 1L));
+    }
+
+    /**
+     * [동시성 검증] 제출과 종료가 겹쳐도 큐에 들어간 모든 이력의 Future 가 저장 결과 또는 종료 예외로 완료되는지 검증
+     * (완료되지 않는 Future 가 있으면 write 호출자가 사용자 락을 잡은 채 무기한 대기)
+     */
+    @Test
+    void submit_종료와_동시요청_모든Future_완료() throws Exception {
+        // given
+        int submitsPerClient = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<CompletableFuture<PointHistory>> futures = ConcurrentHashMap.newKeySet();
+
+        // when - 클라이언트의 제출과 종료를 동시에 시작
+        for (int i = 0; i < CLIENTS; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < submitsPerClient; j++) {
+                        futures.add(writer.submit(userId, 100L, TransactionType.CHARGE, 1L));
+                    }
+                } catch (IllegalStateException | InterruptedException e) {
+                    // 종료 후 제출 거절
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        writer.stop();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        for (CompletableFuture<PointHistory> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이력 저장 처리량 비교 (개별 insert vs 그룹 커밋)
+ * 64개의 동시 클라이언트가 각각 이력을 연속으로 저장할 때의 처리량과 테이블 저장 호출 횟수를 비교
+ * - 두 방식 모두 같은 시드의 균등 분포 지연 모델을 사용하여 같은 조건에서 비교
+ * - 시간이 오래 걸리므로 기본 test 태스크에서는 제외하고 `./gradlew perfTest`로 실행
+ */
+@Tag("perf")
+class GroupCommitThroughputTest {
+
+    private static final int CLIENTS = 64;
+    private static final long SEED = 42L;
+    private static final int WRITES_PER_CLIENT = 20;
+
+    @Test
+    void 개별insert_그룹커밋_처리량_비교() throws InterruptedException {
+        // 개별 insert - 요청마다 저장 지연 발생
+        PointHistoryTable directTable = new PointHistoryTable(LatencyModel.uniform(SEED), new InMemoryPointHistoryStore());
+        Result direct = run(userId -> directTable.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis()));
+
+        // 그룹 커밋 - 동시에 들어온 이력을 한 번에 저장
+        PointHistoryTable batchTable = new PointHistoryTable(LatencyModel.uniform(SEED), new InMemoryPointHistoryStore());
+        GroupCommitPointHistoryWriter writer = new GroupCommitPointHistoryWriter(
+                batchTable, new GroupCommitProperties(true, 256, Duration.ofMillis(5)));
+        writer.start();
+        Result groupCommit = run(userId -> writer.write(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis()));
+        writer.stop();
+
+        System.out.printf("[개별 insert] %d건, %.1f ops/s, 테이블 저장 호출 %d회%n",
+                direct.rows, direct.opsPerSecond(), direct.rows);
+        System.out.printf("[그룹 커밋]   %d건, %.1f ops/s, 테이블 저장 호출 %d회 (평균 배치 %.1f건)%n",
+                groupCommit.rows, groupCommit.opsPerSecond(), writer.commitCount(),
+                (double) writer.committedRowCount() / writer.commitCount());
+
+        assertEquals(CLIENTS * WRITES_PER_CLIENT, writer.committedRowCount());
+        assertTrue(writer.commitCount() < direct.rows);
+    }
+
+//  ================================================================
+
+    private Result run(HistoryWrite write) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        LongAdder rows = new LongAdder();
+
+        for (int i = 0; i < CLIENTS; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    for (int j = 0; j < WRITES_PER_CLIENT; j++) {
+                        write.write(userId);
+                        rows.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        return new Result(rows.sum(), elapsed);
+    }
+
+    @FunctionalInterface
+    private interface HistoryWrite {
+        void write(long userId);
+    }
+
+    private record Result(long rows, long elapsedNanos) {
+        double opsPerSecond() {
+            return rows / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
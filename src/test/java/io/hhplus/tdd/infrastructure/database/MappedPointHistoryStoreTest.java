@@ -0,0 +1,256 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MappedPointHistoryStore 테스트
+ * 메모리 맵 컬럼 파일 저장 구조가 힙 저장 구조(InMemoryPointHistoryStore)와 같은 조회 결과를 내는지 검증
+ * (세그먼트 경계를 자주 넘도록 세그먼트 행 수를 작게 설정)
+ * 테스트 항목:
+ * 1. 사용자별 이력이 해당 사용자 것만 입력 순서대로 조회되는지 확인
+ * 2. 동시 insert 시 ID 중복이나 행 유실이 없는지 확인
+ * 3. 타입/시간 범위 조건 조회와 커서 기반 페이지 조회가 올바른지 확인 (커서 행 ID 가 Long.MAX_VALUE 인 경우 포함)
+ * 4. 시간 순서가 어긋난 행과 중복 복구 행이 올바르게 처리되는지 확인
+ * 5. 시간 범위 스트림(사용자별/전체)이 범위 안의 행만 사용자별 순서대로 내보내는지 확인
+ * 6. 스냅샷 스트림이 호출 이후 추가된 행을 포함하지 않는지 확인
+ * 7. 세그먼트 행 수가 2의 거듭제곱이 아니거나 세그먼트 크기가 int 범위를 넘으면(2^27 행 초과) 거절하는지 확인
+ */
+class MappedPointHistoryStoreTest {
+
+    private static final int SEGMENT_ROWS = 16;
+
+    @TempDir
+    Path directory;
+
+    private MappedPointHistoryStore store;
+    private PointHistoryTable pointHistoryTable;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = MappedPointHistoryStore.open(directory, SEGMENT_ROWS);
+        pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), store);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void selectAllByUserId_해당사용자_이력만_입력순서대로_조회() {
+        // given
+        for (int i = 0; i < 50; i++) {
+            pointHistoryTable.insert(i % 2 + 1, 1_000L + i, TransactionType.CHARGE, i);
+        }
+        pointHistoryTable.insert(1L, 500L, TransactionType.USE, 100L);
+
+        // when
+        List<PointHistory> result = pointHistoryTable.selectAllByUserId(1L);
+
+        // then
+        assertEquals(26, result.size());
+        assertEquals(new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 0L), result.get(0));
+        assertEquals(new PointHistory(51L, 1L, 500L, TransactionType.USE, 100L), result.get(25));
+        assertTrue(pointHistoryTable.selectAllByUserId(3L).isEmpty());
+        assertEquals(51L * MappedPointHistoryStore.ROW_BYTES, store.usedBytes(), "행당 33바이트만 사용해야 함");
+    }
+
+    /**
+     * [동시성 검증] 여러 스레드가 동시에 insert 해도 모든 행이 고유한 ID로 저장되는지 검증 (세그먼트 매핑 경쟁 포함)
+     */
+    @Test
+    void insert_동시요청_ID중복_유실_없음() throws InterruptedException {
+        // given
+        int threads = 16;
+        int insertsPerThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            long userId = i % 2 + 1;
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < insertsPerThread; j++) {
+                        pointHistoryTable.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        List<PointHistory> user1 = pointHistoryTable.selectAllByUserId(1L);
+        List<PointHistory> user2 = pointHistoryTable.selectAllByUserId(2L);
+        Set<Long> ids = user1.stream().map(PointHistory::id).collect(Collectors.toSet());
+        user2.forEach(row -> ids.add(row.id()));
+
+        assertEquals(threads * insertsPerThread, user1.size() + user2.size());
+        assertEquals(threads * insertsPerThread, ids.size(), "ID는 중복 없이 발급되어야 함");
+        assertTrue(user1.stream().allMatch(row -> row.userId() == 1L));
+    }
+
+    /**
+     * [기능 검증] 타입과 시간 범위 조건에 맞는 이력만 limit 단위로 나뉘어 조회되고,
+     * 커서로 다음 페이지를 이어서 조회할 수 있는지 검증 (ChunkedHistoryList 와 같은 결과)
+     */
+    @Test
+    void selectByUserId_타입_시간범위_커서페이지_조회_성공() {
+        // given - 시간 10ms 간격, 짝수 ID는 충전 / 홀수 ID는 사용
+        for (long id = 1; id <= 100; id++) {
+            TransactionType type = id % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            store.append(new PointHistory(id, 1L, 1_000L, type, id * 10));
+        }
+
+        // when - [100, 300) 범위의 충전 이력 (ID 10, 12, ..., 28 → 10건)
+        PointHistoryPage first = store.selectByUserId(1L, PointHistoryQuery.of(TransactionType.CHARGE, 100L, 300L, null, 5));
+        PointHistoryPage second = store.selectByUserId(1L, PointHistoryQuery.of(TransactionType.CHARGE, 100L, 300L, first.nextCursor(), 5));
+
+        // then
+        assertEquals(List.of(10L, 12L, 14L, 16L, 18L), first.items().stream().map(PointHistory::id).toList());
+        assertNotNull(first.nextCursor());
+        assertEquals(List.of(20L, 22L, 24L, 26L, 28L), second.items().stream().map(PointHistory::id).toList());
+        assertNull(second.nextCursor(), "마지막 페이지에는 다음 커서가 없어야 함");
+    }
+
+    /**
+     * [경계 검증] 커서 행의 ID 가 Long.MAX_VALUE 여도 다음 페이지가 커서 행을 다시 포함하지 않는지 검증
+     * (커서 다음 위치를 id + 1 로 찾으면 Long.MIN_VALUE 로 넘쳐 같은 페이지가 반복됨)
+     */
+    @Test
+    void selectByUserId_최대ID_커서_다음페이지() {
+        // given
+        store.append(new PointHistory(Long.MAX_VALUE - 1, 1L, 1_000L, TransactionType.CHARGE, 10L));
+        store.append(new PointHistory(Long.MAX_VALUE, 1L, 1_000L, TransactionType.CHARGE, 10L));
+        store.append(new PointHistory(5L, 1L, 1_000L, TransactionType.USE, 20L));
+
+        // when
+        PointHistoryPage first = store.selectByUserId(1L, PointHistoryQuery.of(null, null, null, null, 2));
+        PointHistoryPage second = store.selectByUserId(1L, PointHistoryQuery.of(null, null, null, first.nextCursor(), 2));
+
+        // then
+        assertEquals(List.of(Long.MAX_VALUE - 1, Long.MAX_VALUE), first.items().stream().map(PointHistory::id).toList());
+        assertEquals(List.of(5L), second.items().stream().map(PointHistory::id).toList());
+        assertNull(second.nextCursor());
+    }
+
+    /**
+     * [정렬/복구 검증] 시간 순서가 어긋난 행은 정렬 위치에 저장되고, 이미 있는 행의 복구는 무시되는지 검증
+     */
+    @Test
+    void appendIfAbsent_시간순서_어긋난_행_정렬_중복_무시() {
+        // given
+        for (long id = 1; id <= 40; id++) {
+            store.append(new PointHistory(id, 1L, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+
+        // when
+        boolean outOfOrder = store.appendIfAbsent(new PointHistory(41L, 1L, 1_000L, TransactionType.USE, 55L));
+        boolean duplicate = store.appendIfAbsent(new PointHistory(5L, 1L, 1_000L, TransactionType.CHARGE, 50L));
+
+        // then
+        List<PointHistory> result = store.selectAllByUserId(1L);
+        assertTrue(outOfOrder);
+        assertFalse(duplicate);
+        assertEquals(41, result.size());
+        assertEquals(41L, result.get(5).id());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).updateMillis() <= result.get(i).updateMillis());
+        }
+    }
+
+    /**
+     * [내보내기 검증] 시간 범위 스트림이 (updateMillis, id) 순으로 범위 안의 행만 내보내고,
+     * 전체 사용자 스트림은 모든 사용자의 범위 안 행을 사용자별 순서대로 내보내는지 검증
+     */
+    @Test
+    void stream_시간범위_사용자별_순서대로_내보내기() {
+        // given - 사용자 1, 2 에 시간 10ms 간격으로 번갈아 저장
+        for (long id = 1; id <= 100; id++) {
+            store.append(new PointHistory(id, id % 2 + 1, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+
+        // when - [100, 300) 범위 (ID 10 ~ 29)
+        List<PointHistory> user2;
+        try (Stream<PointHistory> rows = store.streamByUserId(2L, 100L, 300L)) {
+            user2 = rows.toList();
+        }
+        List<PointHistory> all;
+        try (Stream<PointHistory> rows = store.streamAll(100L, 300L)) {
+            all = rows.toList();
+        }
+
+        // then
+        assertEquals(List.of(11L, 13L, 15L, 17L, 19L, 21L, 23L, 25L, 27L, 29L), user2.stream().map(PointHistory::id).toList());
+        assertEquals(LongStream.range(10, 30).boxed().collect(Collectors.toSet()), all.stream().map(PointHistory::id).collect(Collectors.toSet()));
+        assertEquals(20, all.size());
+        assertEquals(user2, all.stream().filter(row -> row.userId() == 2L).toList(), "사용자별로는 (updateMillis, id) 순이어야 함");
+        assertEquals(0L, store.streamByUserId(3L, Long.MIN_VALUE, Long.MAX_VALUE).count());
+    }
+
+    /**
+     * [스냅샷 검증] WAL 스냅샷은 변경을 막은 상태에서 snapshot() 만 호출하고 변경을 다시 허용한 뒤 읽으므로,
+     * 호출 이후 추가된 행(순서대로/순서가 어긋난 행, 새 사용자)이 읽는 시점과 무관하게 포함되지 않는지 검증
+     */
+    @Test
+    void snapshot_호출이후_추가된_행_미포함() {
+        // given
+        for (long id = 1; id <= 40; id++) {
+            store.append(new PointHistory(id, id % 2 + 1, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+        Stream<PointHistory> snapshot = store.snapshot();
+
+        // when - 스냅샷을 읽기 전에 행 추가
+        store.append(new PointHistory(41L, 1L, 1_000L, TransactionType.CHARGE, 1_000L));
+        store.append(new PointHistory(42L, 2L, 1_000L, TransactionType.USE, 55L));
+        store.append(new PointHistory(43L, 3L, 1_000L, TransactionType.CHARGE, 10L));
+        List<PointHistory> rows = snapshot.toList();
+
+        // then
+        assertEquals(LongStream.rangeClosed(1, 40).boxed().collect(Collectors.toSet()), rows.stream().map(PointHistory::id).collect(Collectors.toSet()));
+        assertEquals(40, rows.size());
+        assertEquals(store.selectAllByUserId(1L).subList(0, 20), rows.stream().filter(row -> row.userId() == 1L).toList());
+    }
+
+    @Test
+    void open_세그먼트행수_2의거듭제곱_아니면_실패() {
+        assertThrows(IllegalArgumentException.class, () -> MappedPointHistoryStore.open(directory, 1_000));
+    }
+
+    /**
+     * [매핑 크기] 세그먼트 하나의 바이트 수(segmentRows * 8)가 int 범위를 넘으면 매핑/오프셋 계산이 넘치므로 설정 시점에 거절하는지 검증
+     */
+    @Test
+    void open_세그먼트행수_최대초과_실패() {
+        assertEquals(1 << 27, MappedPointHistoryStore.MAX_SEGMENT_ROWS);
+        assertThrows(IllegalArgumentException.class, () -> MappedPointHistoryStore.open(directory, MappedPointHistoryStore.MAX_SEGMENT_ROWS << 1));
+        assertThrows(IllegalArgumentException.class, () -> MappedPointHistoryStore.open(directory, Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PointHistoryStoreProperties(PointHistoryStoreProperties.Type.MAPPED, directory.toString(), 1 << 28));
+    }
+}
@@ -0,0 +1,188 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OpenAddressingUserPointStore 테스트
+ * long 배열 기반 개방 주소법 테이블이 Map 과 같은 조회/저장 결과를 내는지 검증
+ * 테스트 항목:
+ * 1. 저장한 잔액이 조회되고, 같은 ID 저장 시 덮어쓰는지 확인
+ * 2. 초기 용량을 넘겨 확장되어도 모든 행이 유지되는지 확인
+ * 3. 여러 스레드가 동시에 저장/조회해도 행 유실이 없는지 확인
+ * 4. 저장할 때마다 버전이 증가하고, 버전이 다르면 compareAndSet 이 실패하는지 확인
+ * 5. 세그먼트가 확장되는 동안의 낙관적 조회가 멈추지 않고 올바른 값을 돌려주는지 확인
+ */
+class OpenAddressingUserPointStoreTest {
+
+    @Test
+    void put_get_저장후_조회_덮어쓰기() {
+        // given
+        OpenAddressingUserPointStore store = new OpenAddressingUserPointStore(16, 4);
+
+        // when
+        store.put(1L, 1_000L, 10L);
+        store.put(2L, 2_000L, 20L);
+        store.put(1L, 500L, 30L);
+
+        // then
+        assertEquals(new UserPoint(1L, 500L, 30L), store.get(1L));
+        assertEquals(new UserPoint(2L, 2_000L, 20L), store.get(2L));
+        assertNull(store.get(3L));
+        assertEquals(2, store.size());
+    }
+
+    /**
+     * [확장 검증] 초기 용량보다 많은 사용자를 저장해도 세그먼트 확장 후 모든 행이 그대로 조회되는지 검증
+     */
+    @Test
+    void put_초기용량_초과_확장후_전체조회() {
+        // given
+        OpenAddressingUserPointStore store = new OpenAddressingUserPointStore(0, 1);
+        int users = 10_000;
+
+        // when
+        for (long id = 1; id <= users; id++) {
+            store.put(id, id * 10, id);
+        }
+
+        // then
+        assertEquals(users, store.size());
+        for (long id = 1; id <= users; id++) {
+            assertEquals(id * 10, store.get(id).point());
+        }
+        Map<Long, Long> visited = new HashMap<>();
+        store.forEach(userPoint -> visited.put(userPoint.id(), userPoint.point()));
+        assertEquals(users, visited.size());
+        assertEquals(50L, visited.get(5L));
+    }
+
+    /**
+     * [동시성 검증] 여러 스레드가 서로 다른 사용자를 저장하면서 조회해도 확장 중 행 유실이나 잘못된 값이 없는지 검증
+     */
+    @Test
+    void put_get_동시요청_유실없음() throws InterruptedException {
+        // given
+        OpenAddressingUserPointStore store = new OpenAddressingUserPointStore(0, 4);
+        int threads = 16;
+        int usersPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            long base = (long) i * usersPerThread;
+            executor.submit(() -> {
+                try {
+                    for (long id = base + 1; id <= base + usersPerThread; id++) {
+                        store.put(id, id, id);
+                        UserPoint saved = store.get(id);
+                        if (saved == null || saved.point() != id) {
+                            throw new AssertionError("저장 직후 조회 실패: " + id);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(threads * usersPerThread, store.size());
+        for (long id = 1; id <= (long) threads * usersPerThread; id++) {
+            assertEquals(id, store.get(id).point());
+        }
+    }
+
+    /**
+     * [낙관적 갱신] 저장마다 버전이 1씩 증가하고, 조회 이후 다른 저장이 있었으면 compareAndSet 이 실패하는지 검증
+     */
+    @Test
+    void compareAndSet_버전일치시에만_저장() {
+        // given
+        OpenAddressingUserPointStore store = new OpenAddressingUserPointStore(16, 4);
+
+        // when & then - 없는 사용자는 버전 0 기준으로 저장
+        assertNull(store.getVersioned(1L));
+        assertFalse(store.compareAndSet(1L, 1L, 1_000L, 10L));
+        assertTrue(store.compareAndSet(1L, 0L, 1_000L, 10L));
+        assertEquals(new VersionedUserPoint(new UserPoint(1L, 1_000L, 10L), 1L), store.getVersioned(1L));
+
+        store.put(1L, 2_000L, 20L);
+        assertFalse(store.compareAndSet(1L, 1L, 9_999L, 30L));
+        assertTrue(store.compareAndSet(1L, 2L, 3_000L, 30L));
+        assertEquals(new VersionedUserPoint(new UserPoint(1L, 3_000L, 30L), 3L), store.getVersioned(1L));
+        assertEquals(1, store.size());
+    }
+
+    /**
+     * [동시성 검증] 한 세그먼트가 반복해서 확장되는 동안 조회 스레드들이 있는/없는 사용자를 계속 읽어도
+     * 탐사가 끝나지 않고 멈추는 일 없이 기존 행은 그대로, 없는 행은 없음으로 조회되는지 검증
+     */
+    @Test
+    void get_확장중_조회_멈춤없음() throws Exception {
+        // given - 세그먼트 1개, 최소 용량에서 시작하여 저장마다 여러 번 확장
+        OpenAddressingUserPointStore store = new OpenAddressingUserPointStore(0, 1);
+        store.put(1L, 100L, 1L);
+        int readers = 4;
+        int users = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // when
+        Future<?> writer = executor.submit(() -> {
+            try {
+                for (long id = 2; id <= users; id++) {
+                    store.put(id, id, id);
+                }
+            } finally {
+                writing.set(false);
+            }
+        });
+        Future<?>[] reads = new Future<?>[readers];
+        for (int i = 0; i < readers; i++) {
+            reads[i] = executor.submit(() -> {
+                while (writing.get()) {
+                    UserPoint existing = store.get(1L);
+                    if (existing == null || existing.point() != 100L) {
+                        throw new AssertionError("확장 중 기존 행 조회 실패: " + existing);
+                    }
+                    if (store.getPoint(1L) != 100L || store.getVersioned(1L).version() != 1L) {
+                        throw new AssertionError("확장 중 잔액/버전 조회 실패");
+                    }
+                    if (store.get(-1L) != null || store.getPoint(-1L) != 0L) {
+                        throw new AssertionError("확장 중 없는 행이 조회됨");
+                    }
+                }
+            });
+        }
+
+        // then - 조회가 멈추면 시간 초과로 실패
+        writer.get(30, TimeUnit.SECONDS);
+        for (Future<?> read : reads) {
+            read.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(users, store.size());
+    }
+
+    @Test
+    void 생성_잘못된_설정_실패() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenAddressingUserPointStore(16, 3));
+        assertThrows(IllegalArgumentException.class, () -> new OpenAddressingUserPointStore(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new OpenAddressingUserPointStore(16, 4).put(Long.MIN_VALUE, 0L, 0L));
+    }
+}
@@ -0,0 +1,251 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.dto.PointHistoryPage;
+import io.hhplus.tdd.domain.point.dto.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointHistoryTable 테스트
+ * 사용자 단위 인덱스 기반 이력 저장/조회 검증
+ * 테스트 항목:
+ * 1. 사용자별 이력이 해당 사용자 것만 입력 순서대로 조회되는지 확인
+ * 2. 동시 insert 시 ID 중복이나 행 유실이 없는지 확인
+ * 3. 타입/시간 범위 조건 조회와 커서 기반 페이지 조회가 올바른지 확인
+ * 4. 시간 범위 스트림(사용자별/전체)이 범위 안의 행만 사용자별 순서대로 내보내는지 확인
+ * 5. 스냅샷 스트림이 호출 이후 추가된 행을 포함하지 않는지 확인
+ * 6. 시간 순서가 어긋난 행이 청크 경계에서도 정렬 위치에 들어가고, 커서가 최대 ID 에서도 다음 행부터 조회하는지 확인
+ */
+class PointHistoryTableTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+
+    @Test
+    void selectAllByUserId_해당사용자_이력만_입력순서대로_조회() {
+        // given
+        pointHistoryTable.insert(1L, 1_000L, TransactionType.CHARGE, 1L);
+        pointHistoryTable.insert(2L, 2_000L, TransactionType.CHARGE, 2L);
+        pointHistoryTable.insert(1L, 500L, TransactionType.USE, 3L);
+
+        // when
+        List<PointHistory> result = pointHistoryTable.selectAllByUserId(1L);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(TransactionType.CHARGE, result.get(0).type());
+        assertEquals(TransactionType.USE, result.get(1).type());
+        assertTrue(pointHistoryTable.selectAllByUserId(3L).isEmpty());
+    }
+
+    /**
+     * [동시성 검증] 여러 스레드가 동시에 insert 해도 모든 행이 고유한 ID로 저장되는지 검증
+     */
+    @Test
+    void insert_동시요청_ID중복_유실_없음() throws InterruptedException {
+        // given
+        int threads = 16;
+        int insertsPerThread = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            long userId = i % 2 + 1;
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < insertsPerThread; j++) {
+                        pointHistoryTable.insert(userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        List<PointHistory> user1 = pointHistoryTable.selectAllByUserId(1L);
+        List<PointHistory> user2 = pointHistoryTable.selectAllByUserId(2L);
+        Set<Long> ids = Stream.concat(user1.stream(), user2.stream())
+                .map(PointHistory::id)
+                .collect(Collectors.toSet());
+
+        assertEquals(threads * insertsPerThread, user1.size() + user2.size());
+        assertEquals(threads * insertsPerThread, ids.size(), "ID는 중복 없이 발급되어야 함");
+    }
+
+    /**
+     * [기능 검증] 타입과 시간 범위 조건에 맞는 이력만 limit 단위로 나뉘어 조회되고,
+     * 커서로 다음 페이지를 이어서 조회할 수 있는지 검증
+     */
+    @Test
+    void query_타입_시간범위_커서페이지_조회_성공() {
+        // given - 시간 10ms 간격, 짝수 ID는 충전 / 홀수 ID는 사용
+        ChunkedHistoryList rows = new ChunkedHistoryList();
+        for (long id = 1; id <= 100; id++) {
+            TransactionType type = id % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            rows.append(new PointHistory(id, 1L, 1_000L, type, id * 10));
+        }
+
+        // when - [100, 300) 범위의 충전 이력 (ID 10, 12, ..., 28 → 10건)
+        PointHistoryPage first = rows.query(PointHistoryQuery.of(TransactionType.CHARGE, 100L, 300L, null, 5));
+        PointHistoryPage second = rows.query(PointHistoryQuery.of(TransactionType.CHARGE, 100L, 300L, first.nextCursor(), 5));
+
+        // then
+        assertEquals(List.of(10L, 12L, 14L, 16L, 18L), first.items().stream().map(PointHistory::id).toList());
+        assertNotNull(first.nextCursor());
+        assertEquals(List.of(20L, 22L, 24L, 26L, 28L), second.items().stream().map(PointHistory::id).toList());
+        assertNull(second.nextCursor(), "마지막 페이지에는 다음 커서가 없어야 함");
+    }
+
+    /**
+     * [정렬 검증] 시간 순서가 어긋난 이력이 추가되어도 (updateMillis, id) 순서가 유지되는지 검증
+     */
+    @Test
+    void append_시간순서_어긋난_이력_정렬위치에_저장() {
+        ChunkedHistoryList rows = new ChunkedHistoryList();
+        for (long id = 1; id <= 40; id++) {
+            rows.append(new PointHistory(id, 1L, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+
+        rows.append(new PointHistory(41L, 1L, 1_000L, TransactionType.USE, 55L));
+
+        List<PointHistory> result = rows.toList();
+        assertEquals(41, result.size());
+        assertEquals(41L, result.get(5).id());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).updateMillis() <= result.get(i).updateMillis());
+        }
+    }
+
+    /**
+     * [경계 검증] 커서 행의 ID 가 Long.MAX_VALUE 여도 다음 페이지가 커서 행을 다시 포함하지 않는지 검증
+     * (커서 다음 위치를 id + 1 로 찾으면 Long.MIN_VALUE 로 넘쳐 같은 페이지가 반복됨)
+     */
+    @Test
+    void query_최대ID_커서_다음페이지() {
+        // given
+        ChunkedHistoryList rows = new ChunkedHistoryList();
+        rows.append(new PointHistory(Long.MAX_VALUE - 1, 1L, 1_000L, TransactionType.CHARGE, 10L));
+        rows.append(new PointHistory(Long.MAX_VALUE, 1L, 1_000L, TransactionType.CHARGE, 10L));
+        rows.append(new PointHistory(5L, 1L, 1_000L, TransactionType.USE, 20L));
+
+        // when
+        PointHistoryPage first = rows.query(PointHistoryQuery.of(null, null, null, null, 2));
+        PointHistoryPage second = rows.query(PointHistoryQuery.of(null, null, null, first.nextCursor(), 2));
+
+        // then
+        assertEquals(List.of(Long.MAX_VALUE - 1, Long.MAX_VALUE), first.items().stream().map(PointHistory::id).toList());
+        assertEquals(List.of(5L), second.items().stream().map(PointHistory::id).toList());
+        assertNull(second.nextCursor());
+    }
+
+    /**
+     * [정렬 검증] 순서가 어긋난 행을 청크 경계(32행) 앞뒤와 맨 앞에 끼워 넣어도 순서가 유지되고,
+     * 끼워 넣기 전에 만든 스트림은 바뀌지 않는지 검증 (들어갈 위치의 청크부터만 새 청크로 교체)
+     */
+    @Test
+    void append_순서어긋난_행_청크경계_끼워넣기_이전스냅샷_유지() {
+        // given - 시간 10ms 간격 70행 (청크 3개)
+        ChunkedHistoryList rows = new ChunkedHistoryList();
+        for (long id = 1; id <= 70; id++) {
+            rows.append(new PointHistory(id, 1L, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+        Stream<PointHistory> before = rows.stream(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // when - 청크 0 끝(위치 31), 청크 1 시작(위치 32), 맨 앞, 맨 뒤 직전
+        rows.append(new PointHistory(101L, 1L, 1_000L, TransactionType.USE, 315L));
+        rows.append(new PointHistory(102L, 1L, 1_000L, TransactionType.USE, 325L));
+        rows.append(new PointHistory(103L, 1L, 1_000L, TransactionType.USE, 0L));
+        rows.append(new PointHistory(104L, 1L, 1_000L, TransactionType.USE, 695L));
+
+        // then
+        List<PointHistory> result = rows.toList();
+        assertEquals(74, result.size());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).updateMillis() <= result.get(i).updateMillis());
+        }
+        assertEquals(103L, result.get(0).id());
+        assertEquals(101L, result.get(32).id());
+        assertEquals(102L, result.get(34).id());
+        assertEquals(104L, result.get(72).id());
+        assertEquals(LongStream.rangeClosed(1, 70).boxed().toList(), before.map(PointHistory::id).toList());
+    }
+
+    /**
+     * [내보내기 검증] 시간 범위 스트림이 (updateMillis, id) 순으로 범위 안의 행만 내보내고,
+     * 전체 사용자 스트림은 모든 사용자의 범위 안 행을 사용자별 순서대로 내보내는지 검증
+     */
+    @Test
+    void stream_시간범위_사용자별_순서대로_내보내기() {
+        // given - 사용자 1, 2 에 시간 10ms 간격으로 번갈아 저장
+        InMemoryPointHistoryStore store = new InMemoryPointHistoryStore();
+        for (long id = 1; id <= 100; id++) {
+            store.append(new PointHistory(id, id % 2 + 1, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+
+        // when - [100, 300) 범위 (ID 10 ~ 29)
+        List<PointHistory> user2;
+        try (Stream<PointHistory> rows = store.streamByUserId(2L, 100L, 300L)) {
+            user2 = rows.toList();
+        }
+        List<PointHistory> all;
+        try (Stream<PointHistory> rows = store.streamAll(100L, 300L)) {
+            all = rows.toList();
+        }
+
+        // then
+        assertEquals(List.of(11L, 13L, 15L, 17L, 19L, 21L, 23L, 25L, 27L, 29L), user2.stream().map(PointHistory::id).toList());
+        assertEquals(LongStream.range(10, 30).boxed().collect(Collectors.toSet()), all.stream().map(PointHistory::id).collect(Collectors.toSet()));
+        assertEquals(20, all.size());
+        assertEquals(user2, all.stream().filter(row -> row.userId() == 2L).toList(), "사용자별로는 (updateMillis, id) 순이어야 함");
+        assertEquals(0L, store.streamByUserId(3L, Long.MIN_VALUE, Long.MAX_VALUE).count());
+    }
+
+    /**
+     * [스냅샷 검증] WAL 스냅샷은 변경을 막은 상태에서 snapshot() 만 호출하고 변경을 다시 허용한 뒤 읽으므로,
+     * 호출 이후 추가된 행(순서대로/순서가 어긋난 행, 새 사용자)이 읽는 시점과 무관하게 포함되지 않는지 검증
+     */
+    @Test
+    void snapshot_호출이후_추가된_행_미포함() {
+        // given
+        InMemoryPointHistoryStore store = new InMemoryPointHistoryStore();
+        for (long id = 1; id <= 40; id++) {
+            store.append(new PointHistory(id, id % 2 + 1, 1_000L, TransactionType.CHARGE, id * 10));
+        }
+        Stream<PointHistory> snapshot = store.snapshot();
+
+        // when - 스냅샷을 읽기 전에 행 추가
+        store.append(new PointHistory(41L, 1L, 1_000L, TransactionType.CHARGE, 1_000L));
+        store.append(new PointHistory(42L, 2L, 1_000L, TransactionType.USE, 55L));
+        store.append(new PointHistory(43L, 3L, 1_000L, TransactionType.CHARGE, 10L));
+        List<PointHistory> rows = snapshot.toList();
+
+        // then
+        assertEquals(LongStream.rangeClosed(1, 40).boxed().collect(Collectors.toSet()), rows.stream().map(PointHistory::id).collect(Collectors.toSet()));
+        assertEquals(40, rows.size());
+        assertEquals(store.selectAllByUserId(1L).subList(0, 20), rows.stream().filter(row -> row.userId() == 1L).toList());
+    }
+
+    @Test
+    void query_잘못된_조회조건_실패() {
+        assertThrows(IllegalArgumentException.class, () -> PointHistoryQuery.of(null, 300L, 100L, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> PointHistoryQuery.of(null, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> PointHistoryQuery.of(null, null, null, "abc", 10));
+    }
+}
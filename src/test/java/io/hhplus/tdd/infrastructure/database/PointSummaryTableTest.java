@@ -0,0 +1,119 @@
+package io.hhplus.tdd.infrastructure.database;
+
+import io.hhplus.tdd.domain.point.dto.PointSummary;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.hhplus.tdd.infrastructure.time.KSTTimeProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointSummaryTable 테스트
+ * PointHistoryTable 의 이력 저장 경로마다 사용자 요약이 함께 누적되는지 검증
+ * 테스트 항목:
+ * 1. 누적 충전/사용 금액, 일별/월별 합계, 마지막 이력 시각이 이력과 일치하는지 확인
+ * 2. 일/월 구분이 한국 시간 기준인지 확인 (UTC 로는 같은 날인 자정 전후 이력)
+ * 3. insertRow / insertAll / restore 경로도 요약에 반영되고, 이미 있는 행의 restore 는 중복 반영되지 않는지 확인
+ * 4. 이력이 없는 사용자는 빈 요약을 반환하는지 확인
+ */
+class PointSummaryTableTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long USER_ID = 1L;
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore(),
+            PointMetrics.noop(), new PointSummaryTable(new KSTTimeProvider()));
+
+    @Test
+    void selectSummaryByUserId_누적_일별_월별_합계() {
+        // given
+        pointHistoryTable.insert(USER_ID, 1_000L, TransactionType.CHARGE, millisOf(2025, 2, 28, 10));
+        pointHistoryTable.insert(USER_ID, 2_000L, TransactionType.CHARGE, millisOf(2025, 3, 1, 10));
+        pointHistoryTable.insert(USER_ID, 500L, TransactionType.USE, millisOf(2025, 3, 1, 11));
+        pointHistoryTable.insert(USER_ID, 300L, TransactionType.USE, millisOf(2025, 3, 5, 9));
+        pointHistoryTable.insert(2L, 9_000L, TransactionType.CHARGE, millisOf(2025, 3, 1, 10));
+
+        // when
+        PointSummary summary = pointHistoryTable.selectSummaryByUserId(USER_ID);
+
+        // then
+        assertEquals(USER_ID, summary.userId());
+        assertEquals(3_000L, summary.totalCharged());
+        assertEquals(800L, summary.totalUsed());
+        assertEquals(millisOf(2025, 3, 5, 9), summary.lastActivityMillis());
+        assertEquals(List.of(
+                new PointSummary.PeriodTotal("2025-02-28", 1_000L, 0L),
+                new PointSummary.PeriodTotal("2025-03-01", 2_000L, 500L),
+                new PointSummary.PeriodTotal("2025-03-05", 0L, 300L)
+        ), summary.daily());
+        assertEquals(List.of(
+                new PointSummary.PeriodTotal("2025-02", 1_000L, 0L),
+                new PointSummary.PeriodTotal("2025-03", 2_000L, 800L)
+        ), summary.monthly());
+    }
+
+    @Test
+    void selectSummaryByUserId_한국시간_기준_날짜구분() {
+        // given - 2025-03-01 08:59 KST (UTC 2/28 23:59) 와 09:00 KST (UTC 3/1 00:00) 는 KST 로 같은 날,
+        //         2025-03-01 23:59 KST 와 2025-03-02 00:00 KST 는 UTC 로는 같은 날이지만 KST 로는 다른 날
+        pointHistoryTable.insert(USER_ID, 100L, TransactionType.CHARGE, millisOf(2025, 3, 1, 8, 59));
+        pointHistoryTable.insert(USER_ID, 200L, TransactionType.CHARGE, millisOf(2025, 3, 1, 9, 0));
+        pointHistoryTable.insert(USER_ID, 300L, TransactionType.CHARGE, millisOf(2025, 3, 1, 23, 59));
+        pointHistoryTable.insert(USER_ID, 400L, TransactionType.CHARGE, millisOf(2025, 3, 2, 0, 0));
+
+        // when
+        PointSummary summary = pointHistoryTable.selectSummaryByUserId(USER_ID);
+
+        // then
+        assertEquals(List.of(
+                new PointSummary.PeriodTotal("2025-03-01", 600L, 0L),
+                new PointSummary.PeriodTotal("2025-03-02", 400L, 0L)
+        ), summary.daily());
+    }
+
+    @Test
+    void selectSummaryByUserId_모든_저장경로_반영_복구중복_제외() {
+        // given
+        long day = millisOf(2025, 3, 1, 10);
+        pointHistoryTable.insertRow(USER_ID, 1_000L, TransactionType.CHARGE, day);
+        pointHistoryTable.insertAll(List.of(
+                new PendingPointHistory(USER_ID, 2_000L, TransactionType.CHARGE, day),
+                new PendingPointHistory(USER_ID, 700L, TransactionType.USE, day)
+        ));
+        PointHistory restored = new PointHistory(100L, USER_ID, 300L, TransactionType.USE, day);
+
+        // when - 같은 행을 두 번 복구
+        pointHistoryTable.restore(restored);
+        pointHistoryTable.restore(restored);
+
+        // then
+        PointSummary summary = pointHistoryTable.selectSummaryByUserId(USER_ID);
+        assertEquals(3_000L, summary.totalCharged());
+        assertEquals(1_000L, summary.totalUsed());
+        assertEquals(List.of(new PointSummary.PeriodTotal("2025-03-01", 3_000L, 1_000L)), summary.daily());
+    }
+
+    @Test
+    void selectSummaryByUserId_이력없는사용자_빈요약() {
+        // when
+        PointSummary summary = pointHistoryTable.selectSummaryByUserId(USER_ID);
+
+        // then
+        assertEquals(PointSummary.empty(USER_ID), summary);
+    }
+
+    private static long millisOf(int year, int month, int day, int hour) {
+        return millisOf(year, month, day, hour, 0);
+    }
+
+    private static long millisOf(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.infrastructure.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointTaskExecutor 테스트
+ * 스레드 수와 대기 큐 크기가 제한되어 과부하 시 작업을 거절하는지 검증
+ */
+class PointTaskExecutorTest {
+
+    private final PointTaskExecutor executor = new PointTaskExecutor(new PointExecutorProperties(1, 1, 1, Duration.ofSeconds(60), false));
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    /**
+     * [과부하 검증] 작업 스레드와 대기 큐가 모두 찬 상태에서 들어온 작업은 쌓이지 않고 거절되는지 검증
+     */
+    @Test
+    void execute_스레드와_큐_포화시_거절() throws InterruptedException {
+        // given - 스레드 1개는 작업 실행 중, 대기 큐 1칸은 사용 중
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        running.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> {
+        });
+
+        // when & then
+        assertEquals(1, executor.activeCount());
+        assertEquals(1, executor.queuedCount());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+
+    @Test
+    void 생성_잘못된설정_실패() {
+        assertThrows(IllegalArgumentException.class, () -> new PointExecutorProperties(0, 1, 1, Duration.ofSeconds(60), false));
+        assertThrows(IllegalArgumentException.class, () -> new PointExecutorProperties(4, 2, 1, Duration.ofSeconds(60), false));
+        assertThrows(IllegalArgumentException.class, () -> new PointExecutorProperties(1, 1, 0, Duration.ofSeconds(60), false));
+    }
+
+//  ================================================================
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
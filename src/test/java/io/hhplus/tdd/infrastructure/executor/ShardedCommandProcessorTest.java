@@ -0,0 +1,204 @@
+package io.hhplus.tdd.infrastructure.executor;
+
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShardedCommandProcessor 테스트
+ * 테스트 항목:
+ * 1. 명령이 userId % shards 샤드의 스레드에서 실행되는지 확인
+ * 2. 같은 사용자의 명령이 넣은 순서대로, 동시에 실행되지 않고 처리되는지 확인 (락 없는 컬렉션으로 검증)
+ * 3. 명령에서 발생한 예외가 execute 호출자에게 그대로 전달되는지 확인
+ * 4. 링 버퍼가 가득 차면 즉시 거절되는지 확인
+ * 5. 종료와 겹친 제출도 모두 처리/실패로 완료되거나 거절되는지 확인
+ */
+class ShardedCommandProcessorTest {
+
+    private ShardedCommandProcessor processor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (processor != null) {
+            processor.stop();
+        }
+    }
+
+    @Test
+    void execute_사용자샤드_스레드에서_실행() {
+        // given
+        processor = start(4, 1024);
+
+        // when & then
+        for (long userId = 1; userId <= 8; userId++) {
+            String threadName = processor.execute(userId, () -> Thread.currentThread().getName());
+            assertEquals("point-shard-" + userId % 4, threadName);
+        }
+    }
+
+    @Test
+    void submit_같은사용자_명령_순서대로_처리() throws InterruptedException {
+        // given - 한 샤드에 여러 생산자가 동시에 명령을 넣음 (사용자별 목록은 동기화하지 않음)
+        processor = start(2, 1024);
+        int producers = 4;
+        int commandsPerProducer = 5_000;
+        List<List<Integer>> applied = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            applied.add(new ArrayList<>());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when - 생산자 p 는 사용자 p * 2 (모두 0번 샤드)에 0..n-1 을 순서대로 넣음
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                try {
+                    CompletableFuture<?> last = null;
+                    for (int i = 0; i < commandsPerProducer; i++) {
+                        int value = i;
+                        while (true) {
+                            try {
+                                last = processor.submit(producer * 2L, () -> applied.get(producer).add(value));
+                                break;
+                            } catch (RejectedExecutionException e) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                    }
+                    last.join();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        for (List<Integer> values : applied) {
+            assertEquals(commandsPerProducer, values.size());
+            for (int i = 0; i < commandsPerProducer; i++) {
+                assertEquals(i, values.get(i));
+            }
+        }
+        assertEquals((long) producers * commandsPerProducer, processor.processedCount());
+    }
+
+    @Test
+    void execute_명령예외_그대로_전달() {
+        // given
+        processor = start(2, 16);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> processor.execute(1L, () -> {
+                    throw new IllegalArgumentException("잔액이 부족합니다.");
+                }));
+
+        // then - 예외 이후에도 같은 샤드가 계속 처리
+        assertEquals("잔액이 부족합니다.", exception.getMessage());
+        assertEquals(3, processor.execute(1L, () -> 3));
+    }
+
+    @Test
+    void submit_링버퍼_가득차면_거절() throws InterruptedException {
+        // given - 샤드 스레드를 대기시켜 두고 링 버퍼(크기 2)를 채움
+        processor = start(1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = processor.submit(1L, () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> first = processor.submit(1L, () -> 1);
+        CompletableFuture<Integer> second = processor.submit(1L, () -> 2);
+
+        // when & then
+        assertThrows(RejectedExecutionException.class, () -> processor.submit(1L, () -> 3));
+        release.countDown();
+        assertTrue(blocking.join());
+        assertEquals(1, first.join());
+        assertEquals(2, second.join());
+    }
+
+    /**
+     * [동시성 검증] 생산자들이 제출하는 도중 종료해도, 받은 Future 는 모두 결과 또는 종료 예외로 완료되고
+     * 종료 이후의 제출은 거절되는지 검증 (완료되지 않는 Future 가 있으면 execute 호출자가 무기한 대기)
+     */
+    @Test
+    void submit_종료와_동시제출_모든Future_완료() throws Exception {
+        // given
+        processor = start(2, 1024);
+        int producers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch ready = new CountDownLatch(producers);
+        Set<CompletableFuture<Integer>> futures = ConcurrentHashMap.newKeySet();
+
+        // when - 모든 생산자가 제출을 시작한 뒤 종료
+        for (int p = 0; p < producers; p++) {
+            long userId = p;
+            executor.submit(() -> {
+                ready.countDown();
+                while (true) {
+                    try {
+                        futures.add(processor.submit(userId, () -> 1));
+                    } catch (RejectedExecutionException e) {
+                        if (e.getMessage().contains("종료")) {
+                            return;
+                        }
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        ready.await();
+        processor.stop();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                assertEquals(1, future.get(10, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+        assertThrows(RejectedExecutionException.class, () -> processor.submit(1L, () -> 1));
+    }
+
+//  ================================================================
+
+    private static ShardedCommandProcessor start(int shards, int capacity) {
+        ShardedCommandProcessor processor = new ShardedCommandProcessor(new ConcurrencyProperties(
+                ConcurrencyProperties.Mode.SHARDED, 10, Duration.ofMillis(1), Duration.ofMillis(50), shards, capacity));
+        processor.start();
+        return processor;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
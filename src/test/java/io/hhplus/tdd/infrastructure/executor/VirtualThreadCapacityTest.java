@@ -0,0 +1,97 @@
+package io.hhplus.tdd.infrastructure.executor;
+
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.cache.UserPointCache;
+import io.hhplus.tdd.infrastructure.cache.UserPointCacheProperties;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.point.service.PointServiceFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 동시 요청 처리량 비교 (플랫폼 스레드 풀 vs 가상 스레드)
+ * 2,000개의 충전 요청을 동시에 비동기 API 로 보냈을 때 전체 처리 시간을 비교
+ * - 플랫폼 스레드 풀은 Tomcat 기본 최대 스레드 수와 같은 200개로 제한
+ * - 테이블 지연은 고정 20ms (요청당 조회/저장/이력 저장 3회) 로 두어 실행마다 같은 조건에서 비교
+ * - 가상 스레드 측정은 Java 21 에서만 실행 (`./gradlew perfTest -PvirtualThreads`)
+ */
+@Tag("perf")
+class VirtualThreadCapacityTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final Duration TABLE_LATENCY = Duration.ofMillis(20);
+
+    @Test
+    void 플랫폼스레드풀_가상스레드_동시요청_처리량_비교() throws InterruptedException {
+        Result platform = run(false);
+        System.out.printf("[플랫폼 스레드 %d개] %d건, %d ms, %.1f req/s%n",
+                PLATFORM_THREADS, REQUESTS, platform.elapsedMillis(), platform.requestsPerSecond());
+
+        assumeTrue(Runtime.version().feature() >= 21, "가상 스레드 측정은 Java 21 이상 필요 (-PvirtualThreads)");
+
+        Result virtual = run(true);
+        System.out.printf("[가상 스레드]       %d건, %d ms, %.1f req/s%n",
+                REQUESTS, virtual.elapsedMillis(), virtual.requestsPerSecond());
+
+        assertEquals(REQUESTS, platform.completed());
+        assertEquals(REQUESTS, virtual.completed());
+        assertTrue(virtual.elapsedMillis() < platform.elapsedMillis(),
+                "지연 대부분이 sleep 이므로 가상 스레드가 더 많은 요청을 동시에 처리해야 함");
+    }
+
+//  ================================================================
+
+    private Result run(boolean virtualThreads) throws InterruptedException {
+        PointTaskExecutor executor = new PointTaskExecutor(new PointExecutorProperties(
+                PLATFORM_THREADS, PLATFORM_THREADS, REQUESTS, Duration.ofSeconds(60), virtualThreads));
+        PointServiceFixtures.Fixture fixture = fixture(executor);
+        PointService pointService = fixture.pointService();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(pointService.chargeAsync(i + 1, 1_000L));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        fixture.close();
+        executor.shutdown();
+        long completed = futures.stream().filter(future -> future.join().point() == 1_000L).count();
+        return new Result(completed, elapsedNanos);
+    }
+
+    private PointServiceFixtures.Fixture fixture(PointTaskExecutor executor) {
+        LatencyModel latency = LatencyModel.fixed(TABLE_LATENCY);
+        UserPointTable userPointTable = new UserPointTable(latency, new ConcurrentMapUserPointStore());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(latency, new InMemoryPointHistoryStore());
+        return PointServiceFixtures.builder(userPointTable, pointHistoryTable)
+                .userPointCache(new UserPointCache(new UserPointCacheProperties(true, REQUESTS)))
+                .pointTaskExecutor(executor)
+                .build();
+    }
+
+    private record Result(long completed, long elapsedNanos) {
+        long elapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        double requestsPerSecond() {
+            return completed / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
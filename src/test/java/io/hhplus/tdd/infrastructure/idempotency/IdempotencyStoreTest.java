@@ -0,0 +1,140 @@
+package io.hhplus.tdd.infrastructure.idempotency;
+
+import io.hhplus.tdd.common.error.ApiErrorMessages;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdempotencyStore 테스트
+ * 같은 멱등 키의 충전/사용 요청이 한 번만 처리되는지 검증
+ * 테스트 항목:
+ * 1. 완료된 키의 재요청은 처리 없이 보관된 결과를 반환하는지 확인
+ * 2. 처리 중인 키의 중복 요청은 첫 요청의 결과를 기다리는지 확인
+ * 3. 실패한 처리는 보관되지 않아 재시도가 새로 처리되는지 확인
+ * 4. 같은 키로 다른 금액/유형을 요청하면 거절되고, 키는 사용자별로 구분되는지 확인
+ * 5. 완료된 키가 최대 보관 수를 넘어도 처리 중인 키는 제거되지 않는지 확인
+ */
+class IdempotencyStoreTest {
+
+    private static final long USER_ID = 1L;
+    private static final String KEY = "6f1c2a9e-charge-1";
+
+    private final IdempotencyStore idempotencyStore = new IdempotencyStore(new IdempotencyProperties(true, 100, Duration.ofHours(1)));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void execute_완료된_키_재요청_보관된결과_반환() {
+        // given
+        UserPoint first = idempotencyStore.execute(KEY, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)).join();
+
+        // when
+        UserPoint retried = idempotencyStore.execute(KEY, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)).join();
+
+        // then
+        assertEquals(first, retried);
+        assertEquals(1, executions.get(), "같은 키는 한 번만 처리되어야 함");
+        assertEquals(new IdempotencyStore.IdempotencySnapshot(1, 1, 1), idempotencyStore.snapshot());
+        // 키가 없으면 매번 처리
+        idempotencyStore.execute(null, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)).join();
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void execute_처리중인_키_중복요청_첫요청결과_대기() {
+        // given - 첫 요청이 아직 완료되지 않은 상태
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        CompletableFuture<UserPoint> first = idempotencyStore.execute(KEY, USER_ID, TransactionType.USE, 500L, () -> {
+            executions.incrementAndGet();
+            return inFlight;
+        });
+
+        // when
+        CompletableFuture<UserPoint> duplicate = idempotencyStore.execute(KEY, USER_ID, TransactionType.USE, 500L, () -> charge(500L));
+
+        // then
+        assertFalse(duplicate.isDone(), "첫 요청이 끝날 때까지 기다려야 함");
+        UserPoint result = new UserPoint(USER_ID, 500L, 1L);
+        inFlight.complete(result);
+        assertEquals(result, first.join());
+        assertEquals(result, duplicate.join());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_실패한_처리_보관안함_재시도_새로처리() {
+        // given
+        CompletableFuture<UserPoint> failed = idempotencyStore.execute(KEY, USER_ID, TransactionType.USE, 500L, () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalArgumentException("잔액 부족"));
+        });
+        assertTrue(failed.isCompletedExceptionally());
+
+        // when
+        UserPoint retried = idempotencyStore.execute(KEY, USER_ID, TransactionType.USE, 500L, () -> charge(500L)).join();
+
+        // then
+        assertEquals(500L, retried.point());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void execute_같은키_다른요청_거절_사용자별_구분() {
+        // given
+        idempotencyStore.execute(KEY, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)).join();
+
+        // when & then
+        IdempotencyKeyReusedException differentAmount = assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyStore.execute(KEY, USER_ID, TransactionType.CHARGE, 2_000L, () -> charge(2_000L)));
+        assertEquals(ApiErrorMessages.IDEMPOTENCY_KEY_REUSED, differentAmount.getMessage());
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyStore.execute(KEY, USER_ID, TransactionType.USE, 1_000L, () -> charge(1_000L)));
+        IllegalArgumentException blank = assertThrows(IllegalArgumentException.class,
+                () -> idempotencyStore.execute(" ", USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)));
+        assertEquals(ApiErrorMessages.IDEMPOTENCY_KEY_INVALID, blank.getMessage());
+        // 다른 사용자의 같은 키는 별도 요청
+        idempotencyStore.execute(KEY, 2L, TransactionType.CHARGE, 2_000L, () -> charge(2_000L)).join();
+        assertEquals(2, executions.get());
+    }
+
+    /**
+     * [제거 검증] 처리 중인 키는 크기 제한 캐시가 아닌 별도 맵에 있으므로, 완료된 키가 최대 보관 수(1개)를 넘게 쌓여도
+     * 밀려나지 않아 중복 요청이 다시 처리되지 않는지 검증
+     */
+    @Test
+    void execute_최대보관수_초과해도_처리중인_키_유지() {
+        // given
+        IdempotencyStore smallStore = new IdempotencyStore(new IdempotencyProperties(true, 1, Duration.ofHours(1)));
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        smallStore.execute(KEY, USER_ID, TransactionType.CHARGE, 1_000L, () -> {
+            executions.incrementAndGet();
+            return inFlight;
+        });
+
+        // when - 다른 키 100개가 완료되어 캐시가 여러 번 가득 참
+        for (int i = 0; i < 100; i++) {
+            smallStore.execute("other-" + i, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)).join();
+        }
+        CompletableFuture<UserPoint> duplicate = smallStore.execute(KEY, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L));
+
+        // then - 처리 중인 키의 중복 요청은 새로 처리되지 않고 첫 요청의 결과를 기다림
+        assertFalse(duplicate.isDone());
+        UserPoint result = new UserPoint(USER_ID, 1_000L, 1L);
+        inFlight.complete(result);
+        assertEquals(result, duplicate.join());
+        assertEquals(101, executions.get());
+        assertEquals(result, smallStore.execute(KEY, USER_ID, TransactionType.CHARGE, 1_000L, () -> charge(1_000L)).join());
+        assertEquals(101, executions.get(), "완료 후에는 캐시에서 반환");
+    }
+
+    private CompletableFuture<UserPoint> charge(long amount) {
+        executions.incrementAndGet();
+        return CompletableFuture.completedFuture(new UserPoint(USER_ID, amount, System.currentTimeMillis()));
+    }
+}
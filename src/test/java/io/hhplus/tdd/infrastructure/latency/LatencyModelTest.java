@@ -0,0 +1,164 @@
+package io.hhplus.tdd.infrastructure.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyModel 테스트
+ * 지연 모델별 분포와 시드 재현성 검증
+ * 테스트 항목:
+ * 1. 같은 시드는 같은 순서의 지연 시간을 생성하는지 확인
+ * 2. 균등 분포 / 로그 정규 분포 / 백분위 모델의 지연 시간 범위 확인
+ * 3. 잘못된 설정 값 검증
+ * 4. 시드 없는 모델(스레드별 난수)을 여러 스레드에서 호출해도 범위 안의 지연을 생성하는지 확인
+ * 5. 대기 중 인터럽트되면 대기를 멈추고 인터럽트 상태를 유지하는지 확인
+ */
+class LatencyModelTest {
+
+    private static final long SEED = 42L;
+    private static final int SAMPLES = 10_000;
+
+    /**
+     * [재현성 검증] 같은 시드로 만든 모델은 같은 지연 시간 순서를 생성하는지 검증
+     */
+    @Test
+    void uniform_같은시드_같은지연_재현() {
+        LatencyModel first = LatencyModel.uniform(SEED);
+        LatencyModel second = LatencyModel.uniform(SEED);
+
+        long[] a = sample(first, 300);
+        long[] b = sample(second, 300);
+
+        assertArrayEquals(a, b);
+    }
+
+    @Test
+    void uniform_기준지연_미만_범위() {
+        long[] delays = sample(LatencyModel.uniform(SEED), 300);
+
+        long max = TimeUnit.MILLISECONDS.toNanos(300);
+        assertTrue(Arrays.stream(delays).allMatch(d -> d >= 0 && d < max));
+    }
+
+    @Test
+    void zero_fixed_연산과_무관한_지연() {
+        assertEquals(0L, LatencyModel.zero().nextDelayNanos(300));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), LatencyModel.fixed(Duration.ofMillis(5)).nextDelayNanos(300));
+    }
+
+    /**
+     * [분포 검증] 로그 정규 분포의 중앙값이 설정값 근처이고 최대 지연을 넘지 않는지 검증
+     */
+    @Test
+    void logNormal_중앙값_근처_최대지연_제한() {
+        LatencyModel model = LatencyModel.logNormal(SEED, Duration.ofMillis(20), 1.0, Duration.ofMillis(100));
+
+        long[] delays = sample(model, 300);
+        Arrays.sort(delays);
+
+        double medianMillis = delays[SAMPLES / 2] / 1_000_000.0;
+        assertEquals(20.0, medianMillis, 2.0);
+        assertTrue(delays[SAMPLES - 1] <= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    /**
+     * [분포 검증] 실측 백분위 지점을 그대로 재현하는지 검증 (p50 5ms, p99 120ms)
+     */
+    @Test
+    void percentile_실측백분위_재현() {
+        LatencyModel model = LatencyModel.percentile(SEED, List.of(
+                new LatencyProperties.PercentilePoint(99, Duration.ofMillis(120)),
+                new LatencyProperties.PercentilePoint(0, Duration.ofMillis(1)),
+                new LatencyProperties.PercentilePoint(50, Duration.ofMillis(5))
+        ));
+
+        long[] delays = sample(model, 300);
+
+        assertEquals(0.50, ratioBelow(delays, Duration.ofMillis(5)), 0.02);
+        assertEquals(0.99, ratioBelow(delays, Duration.ofMillis(120)), 0.01);
+        assertTrue(Arrays.stream(delays).allMatch(d -> d >= TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    @Test
+    void 생성_잘못된설정_실패() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyModel.fixed(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> LatencyModel.logNormal(SEED, Duration.ofMillis(20), -1.0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> LatencyModel.percentile(SEED, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> LatencyModel.percentile(SEED, List.of(
+                new LatencyProperties.PercentilePoint(50, Duration.ofMillis(10)),
+                new LatencyProperties.PercentilePoint(99, Duration.ofMillis(5))
+        )));
+    }
+
+    @Test
+    void 시드없음_여러스레드_동시호출_범위안_지연() throws Exception {
+        // given
+        List<LatencyModel> models = List.of(
+                LatencyModel.uniform(),
+                LatencyModel.logNormal(Duration.ofMillis(20), 1.0, Duration.ofMillis(100)),
+                LatencyModel.percentile(List.of(
+                        new LatencyProperties.PercentilePoint(0, Duration.ofMillis(1)),
+                        new LatencyProperties.PercentilePoint(100, Duration.ofMillis(5))
+                ))
+        );
+        long max = TimeUnit.MILLISECONDS.toNanos(300);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (LatencyModel model : models) {
+                // when
+                List<Future<long[]>> futures = IntStream.range(0, 4)
+                        .mapToObj(i -> executor.submit(() -> sample(model, 300)))
+                        .toList();
+
+                // then
+                for (Future<long[]> future : futures) {
+                    assertTrue(Arrays.stream(future.get()).allMatch(d -> d >= 0 && d < max));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * [인터럽트 검증] 실행기 종료(shutdownNow) 시 지연 중인 작업 스레드가 인터럽트를 확인할 수 있도록
+     * pause 가 인터럽트 상태를 지우지 않고 복원하는지 검증
+     */
+    @Test
+    void pause_인터럽트_상태_유지() {
+        // given
+        LatencyModel model = LatencyModel.fixed(Duration.ofSeconds(10));
+        Thread.currentThread().interrupt();
+
+        // when
+        long startNanos = System.nanoTime();
+        model.pause(300);
+
+        // then - Thread.interrupted() 는 상태를 지우므로 다음 테스트에 영향 없음
+        assertTrue(Thread.interrupted(), "인터럽트 상태가 복원되어야 함");
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(5));
+    }
+
+//  ================================================================
+
+    private static long[] sample(LatencyModel model, long baselineMillis) {
+        return LongStream.range(0, SAMPLES).map(i -> model.nextDelayNanos(baselineMillis)).toArray();
+    }
+
+    // 지연 시간이 limit 미만인 표본 비율
+    private static double ratioBelow(long[] delays, Duration limit) {
+        return (double) Arrays.stream(delays).filter(d -> d < limit.toNanos()).count() / delays.length;
+    }
+}
@@ -0,0 +1,153 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserLockManager 테스트
+ * 사용자 단위 락이 동시 요청을 올바르게 직렬화하는지 검증
+ * 테스트 항목:
+ * 1. 같은 사용자에 대한 동시 갱신이 유실되지 않는지 확인
+ * 2. 서로 다른 사용자는 서로를 기다리지 않고 병렬로 처리되는지 확인
+ * 3. 락 대기 지표가 기록되는지 확인
+ */
+class UserLockManagerTest {
+
+    private static final long USER_ID = 1L;
+
+    /**
+     * [동시성 검증] 같은 사용자에 대해 "조회 → 계산 → 저장" 구간을 동시에 실행해도
+     * 갱신 유실(lost update) 없이 모든 요청이 반영되는지 검증
+     */
+    @Test
+    void executeWithLock_같은사용자_동시요청_갱신유실_없음() throws InterruptedException {
+        // given
+        UserLockManager lockManager = new UserLockManager();
+        int threads = 32;
+        long[] balance = {0L};
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    lockManager.executeWithLock(USER_ID, () -> {
+                        long current = balance[0];
+                        Thread.yield(); // 조회와 저장 사이에 다른 스레드가 끼어들 여지를 줌
+                        balance[0] = current + 100;
+                        return null;
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(threads * 100L, balance[0], "모든 충전이 유실 없이 반영되어야 함");
+        assertEquals(threads, lockManager.snapshot().acquisitions());
+    }
+
+    /**
+     * [동시성 검증] 서로 다른 사용자의 요청은 한 사용자의 락 보유 여부와 무관하게 바로 처리되는지 검증
+     * - 전역 락으로 모든 사용자가 직렬화되지 않음을 확인
+     */
+    @Test
+    void executeWithLock_다른사용자_병렬처리_성공() throws InterruptedException {
+        // given
+        UserLockManager lockManager = new UserLockManager();
+        long otherUserId = findUserOnDifferentStripe(lockManager);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> lockManager.executeWithLock(USER_ID, () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        holder.start();
+        holding.await(5, TimeUnit.SECONDS);
+
+        // when
+        List<Long> processed = new ArrayList<>();
+        Thread other = new Thread(() -> lockManager.executeWithLock(otherUserId, () -> processed.add(otherUserId)));
+        other.start();
+        other.join(TimeUnit.SECONDS.toMillis(5));
+
+        // then
+        assertEquals(List.of(otherUserId), processed, "다른 사용자의 요청은 대기 없이 처리되어야 함");
+        release.countDown();
+        holder.join();
+    }
+
+    /**
+     * [지표 검증] 다른 스레드가 락을 보유한 동안 진입한 요청은 경합으로 기록되고 대기 시간이 누적되는지 검증
+     */
+    @Test
+    void snapshot_경합발생시_대기시간_기록() throws InterruptedException {
+        // given
+        UserLockManager lockManager = new UserLockManager();
+        CountDownLatch holding = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> lockManager.executeWithLock(USER_ID, () -> {
+            holding.countDown();
+            sleep(100);
+            return null;
+        }));
+        holder.start();
+        holding.await(5, TimeUnit.SECONDS);
+
+        // when
+        lockManager.executeWithLock(USER_ID, () -> null);
+        holder.join();
+
+        // then
+        UserLockManager.LockWaitSnapshot snapshot = lockManager.snapshot();
+        assertEquals(2, snapshot.acquisitions());
+        assertEquals(1, snapshot.contendedAcquisitions());
+        assertTrue(snapshot.maxWaitNanos() > 0);
+        assertTrue(lockManager.stripeWaitNanos(USER_ID) > 0);
+    }
+
+    @Test
+    void 생성_스트라이프개수_2의제곱수아님_실패() {
+        assertThrows(IllegalArgumentException.class, () -> new UserLockManager(100));
+    }
+
+//  ================================================================
+
+    private long findUserOnDifferentStripe(UserLockManager lockManager) {
+        long candidate = USER_ID + 1;
+        while (lockManager.stripeOf(candidate) == lockManager.stripeOf(USER_ID)) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.hhplus.tdd.infrastructure.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserRequestCoalescer 테스트
+ * 사용자 락을 기다리는 동안 쌓인 요청이 한 번에 결합되어 처리되고, 각 호출자가 자신의 결과를 돌려받는지 검증
+ * 사용자 락을 테스트 스레드가 먼저 잡아 두고, 요청 스레드가 모두 대기열에 들어가 락을 기다릴 때 락을 풀어 결합 상황을 만듦
+ * 테스트 항목:
+ * 1. 락 대기 중 쌓인 요청이 Combiner 한 번으로 처리되고, 호출자마다 자신의 결과를 받는지 확인
+ * 2. 요청별 실패 결과는 해당 호출자에게만 예외로 전달되는지 확인
+ * 3. Combiner 가 예외를 던지면 묶음의 모든 호출자가 같은 예외로 실패하는지 확인
+ * 4. 한 번에 결합하는 요청 수가 maxBatchSize 를 넘지 않는지 확인
+ */
+class UserRequestCoalescerTest {
+
+    private static final long USER_ID = 1L;
+
+    private final UserLockManager userLockManager = new UserLockManager();
+
+    @Test
+    void execute_락대기중_쌓인요청_한번에_처리() throws InterruptedException {
+        // given
+        UserRequestCoalescer coalescer = new UserRequestCoalescer(new CoalescingProperties(true, 256), userLockManager);
+        AtomicInteger combines = new AtomicInteger();
+        UserRequestCoalescer.Combiner<Integer, Integer> combiner = (userId, requests) -> {
+            combines.incrementAndGet();
+            return requests.stream().map(request -> UserRequestCoalescer.Outcome.success(request * 10)).toList();
+        };
+        Map<Integer, Integer> results = new ConcurrentHashMap<>();
+
+        // when
+        runWhileLocked(8, request -> results.put(request, coalescer.execute(USER_ID, request, combiner)));
+
+        // then
+        assertEquals(1, combines.get());
+        assertEquals(8, results.size());
+        results.forEach((request, result) -> assertEquals(request * 10, result));
+        assertEquals(new UserRequestCoalescer.CoalescingSnapshot(1, 8, 8), coalescer.snapshot());
+    }
+
+    @Test
+    void execute_요청별_실패는_해당_호출자에게만_전달() throws InterruptedException {
+        // given - 홀수 요청만 실패
+        UserRequestCoalescer coalescer = new UserRequestCoalescer(new CoalescingProperties(true, 256), userLockManager);
+        UserRequestCoalescer.Combiner<Integer, Integer> combiner = (userId, requests) -> requests.stream()
+                .map(request -> request % 2 == 0
+                        ? UserRequestCoalescer.Outcome.success(request)
+                        : UserRequestCoalescer.Outcome.<Integer>failure(new IllegalArgumentException("실패 " + request)))
+                .toList();
+        Map<Integer, Object> results = new ConcurrentHashMap<>();
+
+        // when
+        runWhileLocked(6, request -> {
+            try {
+                results.put(request, coalescer.execute(USER_ID, request, combiner));
+            } catch (IllegalArgumentException e) {
+                results.put(request, e.getMessage());
+            }
+        });
+
+        // then
+        for (int request = 0; request < 6; request++) {
+            assertEquals(request % 2 == 0 ? request : "실패 " + request, results.get(request));
+        }
+    }
+
+    @Test
+    void execute_Combiner예외_묶음전체_실패() throws InterruptedException {
+        // given
+        UserRequestCoalescer coalescer = new UserRequestCoalescer(new CoalescingProperties(true, 256), userLockManager);
+        IllegalStateException failure = new IllegalStateException("저장 실패");
+        UserRequestCoalescer.Combiner<Integer, Integer> combiner = (userId, requests) -> {
+            throw failure;
+        };
+        List<Throwable> errors = new ArrayList<>();
+
+        // when
+        runWhileLocked(4, request -> {
+            try {
+                coalescer.execute(USER_ID, request, combiner);
+            } catch (IllegalStateException e) {
+                synchronized (errors) {
+                    errors.add(e);
+                }
+            }
+        });
+
+        // then
+        assertEquals(4, errors.size());
+        errors.forEach(error -> assertSame(failure, error));
+    }
+
+    @Test
+    void execute_최대배치크기_초과하지_않음() throws InterruptedException {
+        // given
+        UserRequestCoalescer coalescer = new UserRequestCoalescer(new CoalescingProperties(true, 2), userLockManager);
+        UserRequestCoalescer.Combiner<Integer, Integer> combiner = (userId, requests) ->
+                requests.stream().map(UserRequestCoalescer.Outcome::success).toList();
+        Map<Integer, Integer> results = new ConcurrentHashMap<>();
+
+        // when
+        runWhileLocked(5, request -> results.put(request, coalescer.execute(USER_ID, request, combiner)));
+
+        // then
+        UserRequestCoalescer.CoalescingSnapshot snapshot = coalescer.snapshot();
+        assertEquals(5, results.size());
+        assertEquals(5, snapshot.requests());
+        assertEquals(2, snapshot.maxBatchSize());
+        assertTrue(snapshot.batches() >= 3);
+    }
+
+//  ================================================================
+
+    // 사용자 락을 잡은 상태에서 요청 스레드를 시작하고, 모두 락을 기다리게 된 뒤 락을 풀고 종료를 기다림
+    private void runWhileLocked(int requests, RequestTask task) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        userLockManager.lock(USER_ID);
+        try {
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                Thread thread = new Thread(() -> task.run(request));
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                while (thread.getState() != Thread.State.WAITING) {
+                    Thread.sleep(1);
+                }
+            }
+        } finally {
+            userLockManager.unlock(USER_ID);
+        }
+        for (Thread thread : threads) {
+            thread.join(5_000);
+            assertFalse(thread.isAlive());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RequestTask {
+        void run(int request);
+    }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.infrastructure.metrics;
+
+import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointMetrics 테스트
+ * SimpleMeterRegistry 에 기록된 값으로 지표 이름/태그/횟수를 검증
+ * 테스트 항목:
+ * 1. 거절 사유 태그가 ServiceErrorMessages / DomainErrorMessages 의 상수 이름으로 기록되는지 확인
+ * 2. 상수에 없는 메시지는 UNKNOWN 사유로 기록되는지 확인
+ * 3. 서비스 처리 시간이 연산 태그별 타이머에 기록되는지 확인
+ * 4. 테이블 호출이 테이블/연산 태그별 타이머에 기록되는지 확인
+ */
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(registry);
+
+    @Test
+    void recordRejection_에러메시지_상수이름으로_기록() {
+        // when
+        pointMetrics.recordRejection(PointMetrics.Operation.USE, DomainErrorMessages.INSUFFICIENT_BALANCE);
+        pointMetrics.recordRejection(PointMetrics.Operation.USE, DomainErrorMessages.INSUFFICIENT_BALANCE);
+        pointMetrics.recordRejection(PointMetrics.Operation.CHARGE, ServiceErrorMessages.DAILY_CHARGE_LIMIT);
+
+        // then
+        assertEquals(2.0, registry.get(PointMetrics.REJECTIONS)
+                .tag("operation", "use").tag("reason", "INSUFFICIENT_BALANCE").counter().count());
+        assertEquals(1.0, registry.get(PointMetrics.REJECTIONS)
+                .tag("operation", "charge").tag("reason", "DAILY_CHARGE_LIMIT").counter().count());
+    }
+
+    @Test
+    void recordRejection_알수없는메시지_UNKNOWN() {
+        // when
+        pointMetrics.recordRejection(PointMetrics.Operation.POINT, "알 수 없는 오류");
+        pointMetrics.recordRejection(PointMetrics.Operation.POINT, null);
+
+        // then
+        assertEquals(2.0, registry.get(PointMetrics.REJECTIONS)
+                .tag("operation", "point").tag("reason", PointMetrics.UNKNOWN_REASON).counter().count());
+    }
+
+    @Test
+    void recordLatency_연산별_타이머에_기록() {
+        // when
+        pointMetrics.recordLatency(PointMetrics.Operation.CHARGE, System.nanoTime());
+        pointMetrics.recordLatency(PointMetrics.Operation.CHARGE, System.nanoTime());
+        pointMetrics.recordLatency(PointMetrics.Operation.HISTORY, System.nanoTime());
+
+        // then
+        assertEquals(2, registry.get(PointMetrics.SERVICE_LATENCY).tag("operation", "charge").timer().count());
+        assertEquals(1, registry.get(PointMetrics.SERVICE_LATENCY).tag("operation", "history").timer().count());
+        assertEquals(0, registry.get(PointMetrics.SERVICE_LATENCY).tag("operation", "use").timer().count());
+    }
+
+    @Test
+    void tableTimer_테이블호출_기록() {
+        // given
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore(), pointMetrics);
+
+        // when
+        userPointTable.insertOrUpdate(1L, 1_000L);
+        userPointTable.selectById(1L);
+        userPointTable.selectPoint(1L);
+
+        // then
+        assertEquals(2, registry.get(PointMetrics.TABLE_LATENCY)
+                .tag("table", "user_point").tag("operation", "select").timer().count());
+        assertEquals(1, registry.get(PointMetrics.TABLE_LATENCY)
+                .tag("table", "user_point").tag("operation", "update").timer().count());
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.infrastructure.ratelimit;
+
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserRateLimiter 테스트
+ * 시각을 직접 지정하는 시계로 토큰 버킷의 허용/거절/충전 시점을 검증
+ * 테스트 항목:
+ * 1. 버킷 크기만큼 연속 허용 후 거절되고, 간격만큼 시간이 지나면 다시 허용되는지 확인
+ * 2. API별 버킷과 사용자 전체 버킷이 함께 적용되고, 사용자 간 버킷이 분리되는지 확인
+ * 3. 여러 스레드가 동시에 요청해도 버킷 크기를 넘게 허용하지 않는지 확인 (CAS)
+ * 4. 버킷이 가득 차기 전에 제거되는 설정은 거절되는지 확인
+ */
+class UserRateLimiterTest {
+
+    private static final long USER_ID = 1L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now = 1_000 * SECOND;
+
+    @Test
+    void tryAcquire_버킷크기만큼_허용후_거절_시간경과시_재허용() {
+        // given - API 버킷 5개 (초당 10개 → 간격 100ms), 사용자 전체 버킷은 넉넉하게
+        UserRateLimiter rateLimiter = new UserRateLimiter(properties(100, 100, 5, 10), () -> now);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(USER_ID, TransactionType.CHARGE));
+        }
+
+        // when
+        long waitNanos = rateLimiter.tryAcquire(USER_ID, TransactionType.CHARGE);
+
+        // then
+        assertEquals(SECOND / 10, waitNanos, "다음 토큰까지 남은 시간을 반환해야 함");
+        now += SECOND / 10;
+        assertEquals(0, rateLimiter.tryAcquire(USER_ID, TransactionType.CHARGE));
+        assertTrue(rateLimiter.tryAcquire(USER_ID, TransactionType.CHARGE) > 0);
+        assertEquals(new UserRateLimiter.RateLimitSnapshot(6, 2), rateLimiter.snapshot(TransactionType.CHARGE));
+    }
+
+    @Test
+    void tryAcquire_API별_버킷과_사용자전체_버킷_함께적용() {
+        // given - API 버킷 3개, 사용자 전체 버킷 4개
+        UserRateLimiter rateLimiter = new UserRateLimiter(properties(4, 10, 3, 10), () -> now);
+
+        // when - 충전 3건 허용 후 충전 버킷 소진
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(USER_ID, TransactionType.CHARGE));
+        }
+        assertTrue(rateLimiter.tryAcquire(USER_ID, TransactionType.CHARGE) > 0);
+
+        // then - 사용은 자기 버킷이 남아 있어도 사용자 전체 버킷(4개)을 넘을 수 없음
+        assertEquals(0, rateLimiter.tryAcquire(USER_ID, TransactionType.USE));
+        assertTrue(rateLimiter.tryAcquire(USER_ID, TransactionType.USE) > 0);
+        // 전체 버킷에서 거절된 요청은 사용 버킷 토큰을 되돌려, 전체 버킷이 차면 바로 허용
+        now += SECOND / 10;
+        assertEquals(0, rateLimiter.tryAcquire(USER_ID, TransactionType.USE));
+        // 다른 사용자는 별도 버킷
+        assertEquals(0, rateLimiter.tryAcquire(2L, TransactionType.CHARGE));
+        assertEquals(2, rateLimiter.trackedUsers());
+    }
+
+    /**
+     * [동시성 검증] 여러 스레드가 같은 사용자로 동시에 요청해도 허용 건수가 버킷 크기를 넘지 않는지 검증
+     */
+    @Test
+    void tryAcquire_동시요청_버킷크기_초과허용_없음() throws InterruptedException {
+        // given - 시간이 흐르지 않는 시계, API 버킷 100개
+        UserRateLimiter rateLimiter = new UserRateLimiter(properties(1_000, 1, 100, 1), () -> now);
+        int threads = 16;
+        int requestsPerThread = 50;
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        if (rateLimiter.tryAcquire(USER_ID, TransactionType.USE) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(100, allowed.get());
+        assertEquals(new UserRateLimiter.RateLimitSnapshot(100, threads * requestsPerThread - 100), rateLimiter.snapshot(TransactionType.USE));
+    }
+
+    @Test
+    void properties_버킷이_가득차기전_제거되는_설정_실패() {
+        // 버킷 100개를 초당 1개씩 채우면 100초가 걸리므로 제거 시간 1분은 짧음
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimitProperties(true, 100, 1, 10, 10, 1_000, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RateLimitProperties(true, 0, 1, 10, 10, 1_000, Duration.ofMinutes(1)));
+    }
+
+    private static RateLimitProperties properties(long userCapacity, long userPerSecond, long endpointCapacity, long endpointPerSecond) {
+        return new RateLimitProperties(true, userCapacity, userPerSecond, endpointCapacity, endpointPerSecond, 1_000, Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.infrastructure.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CachedKSTTimeProvider 테스트
+ * 시각을 직접 지정하는 시계로 하루 구간의 캐시/갱신 시점을 검증
+ * 테스트 항목:
+ * 1. 오늘/내일 시작 시각이 KSTTimeProvider 와 같은지 확인
+ * 2. 자정을 넘기면 다음 날 구간으로 갱신되는지 확인
+ * 3. 시계가 이전 날짜로 돌아가면 해당 날짜 구간으로 갱신되는지 확인
+ * 4. dayIndex 가 캐시 구간 안/밖의 시각 모두 한국 시간 기준 날짜 번호를 반환하는지 확인
+ */
+class CachedKSTTimeProviderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long ONE_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    @Test
+    void getStartOfTodayMillis_KSTTimeProvider와_같은구간_반환() {
+        // given
+        CachedKSTTimeProvider timeProvider = new CachedKSTTimeProvider();
+        KSTTimeProvider kstTimeProvider = new KSTTimeProvider();
+
+        // when
+        long startOfToday = timeProvider.getStartOfTodayMillis();
+        long startOfTomorrow = timeProvider.getStartOfTomorrowMillis();
+
+        // then
+        assertEquals(kstTimeProvider.getStartOfTodayMillis(), startOfToday);
+        assertEquals(kstTimeProvider.getStartOfTomorrowMillis(), startOfTomorrow);
+    }
+
+    @Test
+    void getStartOfTodayMillis_자정이후_다음날구간으로_갱신() {
+        // given - 2025-03-01 23:59:59.999 (KST)
+        MutableClock clock = new MutableClock(millisOf(LocalDateTime.of(2025, 3, 1, 23, 59, 59, 999_000_000)));
+        CachedKSTTimeProvider timeProvider = new CachedKSTTimeProvider(clock);
+        long startOfMarch1 = millisOf(LocalDateTime.of(2025, 3, 1, 0, 0));
+        assertEquals(startOfMarch1, timeProvider.getStartOfTodayMillis());
+
+        // when - 1ms 뒤 (2025-03-02 00:00:00.000)
+        clock.millis += 1;
+
+        // then
+        assertEquals(startOfMarch1 + ONE_DAY_MILLIS, timeProvider.getStartOfTodayMillis());
+        assertEquals(startOfMarch1 + 2 * ONE_DAY_MILLIS, timeProvider.getStartOfTomorrowMillis());
+    }
+
+    @Test
+    void getStartOfTodayMillis_시계가_되돌아가면_이전날구간으로_갱신() {
+        // given
+        long startOfMarch2 = millisOf(LocalDateTime.of(2025, 3, 2, 0, 0));
+        MutableClock clock = new MutableClock(startOfMarch2);
+        CachedKSTTimeProvider timeProvider = new CachedKSTTimeProvider(clock);
+        assertEquals(startOfMarch2, timeProvider.getStartOfTodayMillis());
+
+        // when
+        clock.millis -= 1;
+
+        // then
+        assertEquals(startOfMarch2 - ONE_DAY_MILLIS, timeProvider.getStartOfTodayMillis());
+        assertEquals(startOfMarch2, timeProvider.getStartOfTomorrowMillis());
+    }
+
+    @Test
+    void dayIndex_한국시간_기준_날짜번호_반환() {
+        // given
+        long noon = millisOf(LocalDateTime.of(2025, 3, 1, 12, 0));
+        CachedKSTTimeProvider timeProvider = new CachedKSTTimeProvider(new MutableClock(noon));
+        long march1 = LocalDate.of(2025, 3, 1).toEpochDay();
+
+        // when & then - 캐시 구간 안 (자정 ~ 23:59:59.999)
+        assertEquals(march1, timeProvider.dayIndex(millisOf(LocalDateTime.of(2025, 3, 1, 0, 0))));
+        assertEquals(march1, timeProvider.dayIndex(noon));
+        // 캐시 구간 밖 (UTC 로는 같은 날이지만 KST 로는 다른 날인 시각 포함)
+        assertEquals(march1 - 1, timeProvider.dayIndex(millisOf(LocalDateTime.of(2025, 2, 28, 23, 59))));
+        assertEquals(march1 + 1, timeProvider.dayIndex(millisOf(LocalDateTime.of(2025, 3, 2, 8, 59))));
+        assertEquals(new KSTTimeProvider().dayIndex(noon), timeProvider.dayIndex(noon));
+    }
+
+    private static long millisOf(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 테스트에서 시각을 직접 바꿀 수 있는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package io.hhplus.tdd.infrastructure.wal;
+
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.DailyPointAccumulator;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PendingPointHistory;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.time.ITimeProvider;
+import io.hhplus.tdd.infrastructure.time.KSTTimeProvider;
+import io.hhplus.tdd.point.service.PointServiceFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WriteAheadLog 테스트
+ * 기록한 변경이 재시작(새 인스턴스) 후 테이블에 복구되는지 검증
+ * 테스트 항목:
+ * 1. 기록한 잔액/이력이 재시작 후 복구되고, 이후 발급되는 이력 ID가 이어지는지 확인
+ * 2. 기록 도중 잘린 마지막 레코드는 버리고 그 이전까지만 복구되는지 확인
+ * 3. 스냅샷 이후에는 이전 세그먼트가 삭제되고 스냅샷 + 이후 레코드로 복구되는지 확인
+ * 4. 동시 기록 시 여러 레코드가 한 번의 fsync 로 묶이는지 확인
+ * 5. 기록 도중 작성한 스냅샷도 잔액과 이력이 서로 맞는 일관된 상태인지 확인
+ * 6. PointService 에서 레코드 기록이 실패하면 잔액/이력/캐시/일일 누적 금액이 바뀌지 않는지 확인 (먼저 기록 후 반영)
+ */
+class WriteAheadLogTest {
+
+    private static final long USER_ID = 1L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_재시작후_잔액_이력_복구() throws Exception {
+        // given
+        Node before = start();
+        before.charge(USER_ID, 1_000L);
+        before.charge(USER_ID, 2_000L);
+        before.charge(2L, 500L);
+        before.stop();
+
+        // when
+        Node after = start();
+
+        // then
+        assertEquals(3_000L, after.userPointTable.selectById(USER_ID).point());
+        assertEquals(500L, after.userPointTable.selectById(2L).point());
+        assertEquals(List.of(1L, 2L), after.pointHistoryTable.selectAllByUserId(USER_ID).stream().map(PointHistory::id).toList());
+        assertEquals(4L, after.pointHistoryTable.insert(USER_ID, 100L, TransactionType.USE, 4L).id(), "이력 ID는 복구된 ID 다음부터 발급되어야 함");
+        after.stop();
+    }
+
+    /**
+     * [복구 검증] 마지막 레코드가 기록 도중 잘린 경우(torn write) 체크섬 검증으로 해당 레코드만 버리는지 검증
+     */
+    @Test
+    void recover_잘린_마지막레코드_버리고_복구() throws Exception {
+        // given
+        Node before = start();
+        before.charge(USER_ID, 1_000L);
+        before.charge(USER_ID, 2_000L);
+        before.stop();
+        Path segment = files("wal-").get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        // when
+        Node after = start();
+
+        // then
+        assertEquals(1_000L, after.userPointTable.selectById(USER_ID).point());
+        assertEquals(1, after.pointHistoryTable.selectAllByUserId(USER_ID).size());
+        after.stop();
+    }
+
+    /**
+     * [스냅샷 검증] 스냅샷 이후에는 이전 세그먼트가 삭제되어 재적용할 로그가 줄어들고,
+     * 스냅샷 + 이후 레코드로 전체 상태가 복구되는지 검증
+     */
+    @Test
+    void snapshot_이전세그먼트_삭제_스냅샷과_이후레코드로_복구() throws Exception {
+        // given
+        Node before = start();
+        before.charge(USER_ID, 1_000L);
+        before.charge(USER_ID, 2_000L);
+        before.wal.snapshot();
+        before.charge(USER_ID, 4_000L);
+        before.stop();
+        assertEquals(1, files("snapshot-").size());
+        assertEquals(1, files("wal-").size(), "스냅샷 이전 세그먼트는 삭제되어야 함");
+
+        // when
+        Node after = start();
+
+        // then
+        assertEquals(2L, after.wal.lastSnapshotLsn());
+        assertEquals(7_000L, after.userPointTable.selectById(USER_ID).point());
+        assertEquals(3, after.pointHistoryTable.selectAllByUserId(USER_ID).size());
+        after.stop();
+    }
+
+    /**
+     * [성능 검증] 여러 스레드가 동시에 기록하면 fsync 횟수가 레코드 수보다 적은지 검증 (그룹 fsync)
+     */
+    @Test
+    void append_동시기록_그룹fsync() throws Exception {
+        // given
+        Node node = start();
+        int threads = 32;
+        int appendsPerThread = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < appendsPerThread; j++) {
+                        node.charge(userId, 1_000L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertEquals(threads * appendsPerThread, node.wal.appendedCount());
+        assertTrue(node.wal.syncCount() < node.wal.appendedCount());
+        node.stop();
+    }
+
+    /**
+     * [스냅샷 검증] 여러 스레드가 충전하는 동안 반복해서 작성한 스냅샷만 적재해도
+     * 사용자마다 잔액이 이력 금액의 합과 같은지 검증 (기록 전의 변경이 스냅샷에 섞이지 않음)
+     */
+    @Test
+    void snapshot_동시기록중_일관된_상태() throws Exception {
+        // given
+        Node node = start();
+        int threads = 8;
+        int chargesPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when - 사용자별로 한 스레드가 충전 (사용자별 직렬화)
+        for (int i = 0; i < threads; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < chargesPerThread; j++) {
+                        node.charge(userId, 10L);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        int snapshots = 0;
+        while (latch.getCount() > 0) {
+            node.wal.snapshot();
+            snapshots++;
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        node.stop();
+
+        // then - 마지막 스냅샷만 새 테이블에 적재
+        List<Path> snapshotFiles = files("snapshot-");
+        assertEquals(1, snapshotFiles.size());
+        assertTrue(snapshots > 0);
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        WalSnapshot.load(snapshotFiles.get(0), userPointTable, pointHistoryTable);
+        for (long userId = 1; userId <= threads; userId++) {
+            long historyTotal = pointHistoryTable.selectAllByUserId(userId).stream().mapToLong(PointHistory::amount).sum();
+            assertEquals(historyTotal, userPointTable.selectById(userId).point(), "스냅샷의 잔액과 이력이 일치해야 함: " + userId);
+        }
+    }
+
+    /**
+     * [기록 실패] append 가 실패(디스크 쓰기/fsync 오류)하면 메모리에는 아무것도 반영되지 않아,
+     * 실패 응답을 받은 클라이언트가 재시도해도 한 번만 반영되는지 검증
+     */
+    @Test
+    void charge_기록실패_잔액_이력_캐시_변경없음() throws Exception {
+        // given
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        FailingWriteAheadLog wal = new FailingWriteAheadLog(userPointTable, pointHistoryTable,
+                new WalProperties(true, directory.toString(), Duration.ZERO, Duration.ofHours(1)));
+        wal.start();
+        ITimeProvider timeProvider = new KSTTimeProvider();
+        DailyPointAccumulator dailyPointAccumulator = new DailyPointAccumulator();
+        PointServiceFixtures.Fixture fixture = PointServiceFixtures.builder(userPointTable, pointHistoryTable)
+                .timeProvider(timeProvider)
+                .dailyPointAccumulator(dailyPointAccumulator)
+                .writeAheadLog(wal)
+                .build();
+        PointService pointService = fixture.pointService();
+        pointService.charge(USER_ID, 1_000L);
+
+        // when - 단건/일괄/할당 없는 경로 모두 기록 실패
+        wal.failing = true;
+        assertThrows(UncheckedIOException.class, () -> pointService.charge(USER_ID, 2_000L));
+        assertThrows(UncheckedIOException.class, () -> pointService.chargeAll(List.of(new PointOperation(USER_ID, 2_000L))));
+        assertThrows(UncheckedIOException.class, () -> pointService.useFast(USER_ID, 500L));
+
+        // then - 메모리(테이블/캐시/이력)는 실패 전 상태
+        assertEquals(1_000L, pointService.point(USER_ID).point());
+        assertEquals(1_000L, userPointTable.selectById(USER_ID).point());
+        assertEquals(1, pointHistoryTable.selectAllByUserId(USER_ID).size());
+
+        // when - 기록이 다시 가능해진 뒤 재시도
+        wal.failing = false;
+        pointService.charge(USER_ID, 2_000L);
+
+        // then - 재시도는 한 번만 반영되고, 일일 누적 금액도 성공한 충전만 포함
+        assertEquals(3_000L, pointService.point(USER_ID).point());
+        assertEquals(2, pointHistoryTable.selectAllByUserId(USER_ID).size());
+        assertEquals(3_000L, dailyPointAccumulator.loadedTodayTotal(USER_ID, TransactionType.CHARGE, timeProvider.getStartOfTodayMillis()));
+        fixture.close();
+        wal.stop();
+
+        // 재시작 후에도 같은 상태로 복구
+        Node after = start();
+        assertEquals(3_000L, after.userPointTable.selectById(USER_ID).point());
+        assertEquals(2, after.pointHistoryTable.selectAllByUserId(USER_ID).size());
+        after.stop();
+    }
+
+//  ================================================================
+
+    // 기록 실패 주입용 WAL (failing 동안 append 가 디스크 오류로 실패)
+    private static final class FailingWriteAheadLog extends WriteAheadLog {
+
+        private volatile boolean failing;
+
+        FailingWriteAheadLog(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, WalProperties properties) {
+            super(userPointTable, pointHistoryTable, properties);
+        }
+
+        @Override
+        public void append(UserPoint userPoint, List<PointHistory> histories) {
+            if (failing) {
+                throw new UncheckedIOException("WAL 기록에 실패했습니다.", new IOException("디스크 오류"));
+            }
+            super.append(userPoint, histories);
+        }
+    }
+
+    private Node start() throws IOException {
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        WriteAheadLog wal = new WriteAheadLog(userPointTable, pointHistoryTable,
+                new WalProperties(true, directory.toString(), Duration.ZERO, Duration.ofHours(1)));
+        wal.start();
+        return new Node(userPointTable, pointHistoryTable, wal);
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    // 테이블 + WAL 묶음 (PointService 와 같은 순서로 기록 후 테이블 반영, 사용자별 직렬화는 호출하는 쪽에서 보장)
+    private record Node(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, WriteAheadLog wal) {
+
+        void charge(long userId, long amount) {
+            long now = System.currentTimeMillis();
+            UserPoint updated = new UserPoint(userId, userPointTable.selectById(userId).point() + amount, now);
+            List<PointHistory> histories = pointHistoryTable.assignIds(
+                    List.of(new PendingPointHistory(userId, amount, TransactionType.CHARGE, now)));
+            wal.beginMutation();
+            try {
+                wal.append(updated, histories);
+                userPointTable.update(updated);
+                pointHistoryTable.insertAssigned(histories);
+            } finally {
+                wal.endMutation();
+            }
+        }
+
+        void stop() throws Exception {
+            wal.stop();
+        }
+    }
+}
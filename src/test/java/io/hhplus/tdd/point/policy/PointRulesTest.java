@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.policy;
+
+import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.domain.point.policy.PointRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointRules 단위 테스트
+ * 작성 이유:
+ * - 할당 없는 경로(chargeFast/useFast)는 VO 대신 PointRules 를 long 값에 직접 적용하므로,
+ *   VO 경로와 같은 결과/같은 예외 메시지/같은 검증 순서를 보장하는지 확인이 필요
+ * 테스트 항목:
+ * 1. 정상 충전/사용 시 계산된 잔액 확인
+ * 2. 금액 검증이 잔액/한도 검증보다 먼저 수행되는지 확인 (VO 생성 순서와 동일)
+ * 3. 일일 한도/최대 잔액/잔액 부족 위반 시 기존 메시지로 실패하는지 확인
+ */
+class PointRulesTest {
+
+    @Test
+    void charge_정상_잔액계산_성공() {
+        assertEquals(15_000L, PointRules.charge(10_000L, 5_000L, 0L));
+    }
+
+    @Test
+    void use_정상_잔액계산_성공() {
+        assertEquals(5_000L, PointRules.use(10_000L, 5_000L, 0L));
+    }
+
+    @Test
+    void charge_최소금액_미만이면_한도보다_먼저_실패() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PointRules.charge(0L, PointPolicy.MIN_CHARGE_AMOUNT - 1, PointPolicy.DAILY_CHARGE_LIMIT));
+
+        assertEquals(DomainErrorMessages.MIN_CHARGE, exception.getMessage());
+    }
+
+    @Test
+    void charge_하루한도_초과_실패() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PointRules.charge(0L, PointPolicy.MIN_CHARGE_AMOUNT, PointPolicy.DAILY_CHARGE_LIMIT));
+
+        assertEquals(ServiceErrorMessages.DAILY_CHARGE_LIMIT, exception.getMessage());
+    }
+
+    @Test
+    void charge_최대잔액_초과_실패() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PointRules.charge(PointPolicy.MAX_POINT_BALANCE, PointPolicy.MIN_CHARGE_AMOUNT, 0L));
+
+        assertEquals(DomainErrorMessages.MAX_CHARGE, exception.getMessage());
+    }
+
+    @Test
+    void use_잔액부족_실패() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PointRules.use(500L, 1_000L, 0L));
+
+        assertEquals(DomainErrorMessages.INSUFFICIENT_BALANCE, exception.getMessage());
+    }
+}
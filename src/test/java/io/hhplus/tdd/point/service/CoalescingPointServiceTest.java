@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.lock.CoalescingProperties;
+import io.hhplus.tdd.infrastructure.lock.UserLockManager;
+import io.hhplus.tdd.infrastructure.lock.UserRequestCoalescer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 핫 계정 요청 결합(point.coalescing.enabled=true) 테스트
+ * 같은 사용자에 몰린 동시 요청이 결합되어 적은 수의 잔액 저장으로 반영되면서도, 요청마다 단건 API 와 같은 결과를 받는지 실제 테이블로 검증
+ * - 테이블 지연은 고정 5ms 로 두어 한 요청을 처리하는 동안 다른 요청이 대기열에 쌓이도록 함
+ * 테스트 항목:
+ * 1. 동시 사용 요청이 모두 반영되고, 호출자마다 자신의 요청 적용 직후 잔액을 받는지 확인 (결합 횟수 < 요청 수)
+ * 2. 동시 사용 요청의 합이 일일 사용 한도를 넘지 않고, 초과분만 일일 한도 예외로 실패하는지 확인
+ * 3. 잔액이 부족해진 이후의 요청만 잔액 부족 예외로 실패하는지 확인
+ */
+class CoalescingPointServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private UserRequestCoalescer coalescer;
+    private PointServiceFixtures.Fixture fixture;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable(LatencyModel.fixed(Duration.ofMillis(5)), new ConcurrentMapUserPointStore());
+        pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        UserLockManager userLockManager = new UserLockManager();
+        coalescer = new UserRequestCoalescer(new CoalescingProperties(true, 256), userLockManager);
+        fixture = PointServiceFixtures.builder(userPointTable, pointHistoryTable)
+                .userLockManager(userLockManager)
+                .userRequestCoalescer(coalescer)
+                .build();
+        pointService = fixture.pointService();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fixture.close();
+    }
+
+    @Test
+    void use_동시요청_결합_개별결과() throws InterruptedException {
+        // given
+        int threads = 16;
+        long initial = 1_000_000L;
+        long amount = 1_000L;
+        userPointTable.insertOrUpdate(USER_ID, initial);
+        Set<Long> balances = ConcurrentHashMap.newKeySet();
+
+        // when
+        runConcurrently(threads, () -> balances.add(pointService.use(USER_ID, amount).point()));
+
+        // then - 요청마다 서로 다른 "적용 직후 잔액"을 받음
+        Set<Long> expectedBalances = LongStream.rangeClosed(1, threads)
+                .map(applied -> initial - applied * amount)
+                .boxed()
+                .collect(Collectors.toSet());
+        UserRequestCoalescer.CoalescingSnapshot snapshot = coalescer.snapshot();
+        assertEquals(expectedBalances, balances);
+        assertEquals(initial - threads * amount, pointService.point(USER_ID).point());
+        assertEquals(threads, pointHistoryTable.selectAllByUserId(USER_ID).size());
+        assertEquals(threads, snapshot.requests());
+        assertTrue(snapshot.batches() < threads, "잔액 저장 중 쌓인 요청은 함께 처리되어야 함");
+    }
+
+    @Test
+    void use_동시요청_일일한도_초과분만_실패() throws InterruptedException {
+        // given
+        userPointTable.insertOrUpdate(USER_ID, 20_000_000L);
+        long amount = 1_000_000L;
+
+        // when - 16건 x 1,000,000 요청 (일일 사용 한도 10,000,000)
+        AtomicInteger succeeded = new AtomicInteger();
+        List<String> errors = new CopyOnWriteArrayList<>();
+        runConcurrently(16, () -> {
+            try {
+                pointService.use(USER_ID, amount);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
+        });
+
+        // then
+        assertEquals(10, succeeded.get());
+        assertEquals(6, errors.size());
+        errors.forEach(message -> assertEquals(ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY, message));
+        assertEquals(10_000_000L, pointService.point(USER_ID).point());
+        assertEquals(10, pointHistoryTable.selectAllByUserId(USER_ID).size());
+    }
+
+    @Test
+    void use_잔액부족_이후요청만_실패() throws InterruptedException {
+        // given
+        userPointTable.insertOrUpdate(USER_ID, 5_000L);
+
+        // when - 10건 x 1,000 요청 (잔액 5,000)
+        AtomicInteger succeeded = new AtomicInteger();
+        List<String> errors = new CopyOnWriteArrayList<>();
+        runConcurrently(10, () -> {
+            try {
+                pointService.use(USER_ID, 1_000L);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
+        });
+
+        // then
+        assertEquals(5, succeeded.get());
+        assertEquals(5, errors.size());
+        errors.forEach(message -> assertEquals(DomainErrorMessages.INSUFFICIENT_BALANCE, message));
+        assertEquals(0L, pointService.point(USER_ID).point());
+    }
+
+//  ================================================================
+
+    private static void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.domain.point.model.PointHistory;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.service.DailyPointAccumulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DailyPointAccumulator 테스트
+ * 일일 누적 금액이 이력 재조회 없이 유지되고, 날짜가 바뀌면 새로 집계되며 지난 날짜 항목은 제거되는지 검증
+ */
+class DailyPointAccumulatorTest {
+
+    private static final long USER_ID = 1L;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final long TODAY = 1_000_000_000L;
+
+    private final DailyPointAccumulator accumulator = new DailyPointAccumulator();
+
+    /**
+     * [기능 검증] 최초 조회 시 오늘 범위의 이력만 타입별로 집계되는지 검증
+     */
+    @Test
+    void todayTotal_오늘이력만_타입별_집계_성공() {
+        List<PointHistory> histories = List.of(
+                new PointHistory(1, USER_ID, 5_000L, TransactionType.CHARGE, TODAY - 1), // 어제
+                new PointHistory(2, USER_ID, 1_000L, TransactionType.CHARGE, TODAY),
+                new PointHistory(3, USER_ID, 300L, TransactionType.USE, TODAY + 10),
+                new PointHistory(4, USER_ID, 2_000L, TransactionType.CHARGE, TODAY + DAY) // 내일
+        );
+
+        assertEquals(1_000L, accumulator.todayTotal(USER_ID, TransactionType.CHARGE, TODAY, TODAY + DAY, () -> histories));
+        assertEquals(300L, accumulator.todayTotal(USER_ID, TransactionType.USE, TODAY, TODAY + DAY, () -> histories));
+    }
+
+    /**
+     * [성능 검증] 최초 1회만 이력을 조회하고 이후에는 add()로 반영된 누적 금액을 사용하는지 검증
+     */
+    @Test
+    void todayTotal_최초1회만_이력조회_이후_누적반영() {
+        AtomicInteger loads = new AtomicInteger();
+
+        accumulator.todayTotal(USER_ID, TransactionType.CHARGE, TODAY, TODAY + DAY, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        accumulator.add(USER_ID, TransactionType.CHARGE, 1_000L, TODAY);
+        accumulator.add(USER_ID, TransactionType.USE, 500L, TODAY);
+
+        long charged = accumulator.todayTotal(USER_ID, TransactionType.CHARGE, TODAY, TODAY + DAY, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(1_000L, charged);
+        assertEquals(1, loads.get(), "이력 조회는 최초 1회만 수행되어야 함");
+    }
+
+    /**
+     * [정책 검증] 하루 기준 시각이 바뀌면 전날 누적 금액이 초기화되는지 검증
+     */
+    @Test
+    void todayTotal_날짜변경시_누적금액_초기화() {
+        accumulator.todayTotal(USER_ID, TransactionType.CHARGE, TODAY, TODAY + DAY, List::of);
+        accumulator.add(USER_ID, TransactionType.CHARGE, 3_000_000L, TODAY);
+
+        long tomorrowTotal = accumulator.todayTotal(USER_ID, TransactionType.CHARGE, TODAY + DAY, TODAY + 2 * DAY, List::of);
+
+        assertEquals(0L, tomorrowTotal);
+    }
+
+    /**
+     * [메모리 검증] 날짜가 바뀐 뒤 처음 초기화할 때 요청이 없는 사용자의 지난 날짜 항목까지 제거되는지 검증
+     */
+    @Test
+    void todayTotal_날짜변경시_지난날짜_항목_제거() {
+        // given - 오늘 100명 집계
+        for (long userId = 1; userId <= 100; userId++) {
+            accumulator.todayTotal(userId, TransactionType.CHARGE, TODAY, TODAY + DAY, List::of);
+        }
+        accumulator.add(2L, TransactionType.CHARGE, 1_000L, TODAY);
+        assertEquals(100, accumulator.size());
+
+        // when - 다음 날 한 사용자만 요청
+        accumulator.todayTotal(USER_ID, TransactionType.CHARGE, TODAY + DAY, TODAY + 2 * DAY, List::of);
+
+        // then
+        assertEquals(1, accumulator.size());
+        assertEquals(DailyPointAccumulator.NOT_LOADED, accumulator.loadedTodayTotal(2L, TransactionType.CHARGE, TODAY));
+        assertEquals(0L, accumulator.loadedTodayTotal(USER_ID, TransactionType.CHARGE, TODAY + DAY));
+    }
+}
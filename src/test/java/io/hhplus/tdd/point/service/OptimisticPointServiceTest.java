@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.domain.point.model.TransactionType;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.DailyPointAccumulator;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import io.hhplus.tdd.infrastructure.lock.OptimisticConflictException;
+import io.hhplus.tdd.infrastructure.lock.OptimisticRetryPolicy;
+import io.hhplus.tdd.infrastructure.time.KSTTimeProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 낙관적 동시성 제어(point.concurrency.mode=OPTIMISTIC) 테스트
+ * 사용자 락 없이 compareAndSet 으로 저장하는 경로가 동시 요청에서도 갱신을 잃지 않는지 실제 테이블로 검증
+ * - 테이블 지연은 고정 1ms 로 두어 조회와 저장 사이에 다른 요청이 끼어들 수 있도록 함
+ * 테스트 항목:
+ * 1. 같은 사용자에 대한 동시 충전이 모두 반영되는지 확인 (유실 없음, 충돌 후 재시도 지표)
+ * 2. 동시 사용 요청의 합이 일일 사용 한도를 넘지 않는지 확인 (한도 예약)
+ * 3. 최대 시도 횟수를 모두 충돌하면 409 용 예외로 실패하고 예약한 누적 금액이 되돌려지는지 확인
+ */
+class OptimisticPointServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    private final ConcurrencyProperties properties = new ConcurrencyProperties(
+            ConcurrencyProperties.Mode.OPTIMISTIC, 1_000, Duration.ofMillis(1), Duration.ofMillis(10), 0, 1024);
+
+    private PointServiceFixtures.Fixture fixture;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    @Test
+    void charge_동시요청_유실없음() throws InterruptedException {
+        // given
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.fixed(Duration.ofMillis(1)), new ConcurrentMapUserPointStore());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        OptimisticRetryPolicy retryPolicy = new OptimisticRetryPolicy(properties);
+        PointService pointService = pointService(userPointTable, pointHistoryTable, retryPolicy);
+        int threads = 8;
+        int chargesPerThread = 25;
+        long amount = 1_000L;
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < chargesPerThread; i++) {
+                try {
+                    pointService.charge(USER_ID, amount);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        int requests = threads * chargesPerThread;
+        OptimisticRetryPolicy.RetrySnapshot snapshot = retryPolicy.snapshot();
+        assertEquals(0, failures.get());
+        assertEquals(requests * amount, pointService.point(USER_ID).point());
+        assertEquals(requests, pointHistoryTable.selectAllByUserId(USER_ID).size());
+        assertEquals(requests, snapshot.attempts() - snapshot.conflicts());
+        assertTrue(snapshot.conflicts() > 0, "같은 사용자에 대한 동시 요청이므로 충돌 후 재시도가 발생해야 함");
+        assertEquals(snapshot.conflicts(), snapshot.retries());
+    }
+
+    @Test
+    void use_동시요청_일일한도_초과없음() throws InterruptedException {
+        // given
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.fixed(Duration.ofMillis(1)), new ConcurrentMapUserPointStore());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        PointService pointService = pointService(userPointTable, pointHistoryTable, new OptimisticRetryPolicy(properties));
+        userPointTable.insertOrUpdate(USER_ID, 20_000_000L);
+        long amount = 1_000_000L;
+
+        // when - 16건 x 1,000,000 요청 (일일 사용 한도 10,000,000)
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger limited = new AtomicInteger();
+        runConcurrently(16, () -> {
+            try {
+                pointService.use(USER_ID, amount);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                assertEquals(ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY, e.getMessage());
+                limited.incrementAndGet();
+            }
+        });
+
+        // then
+        assertEquals(10, succeeded.get());
+        assertEquals(6, limited.get());
+        assertEquals(10_000_000L, pointService.point(USER_ID).point());
+    }
+
+    @Test
+    void charge_최대시도_모두충돌_실패() {
+        // given - 저장이 항상 충돌하는 테이블
+        UserPointTable userPointTable = new UserPointTable(LatencyModel.zero(), new ConcurrentMapUserPointStore()) {
+            @Override
+            public UserPoint compareAndSet(long id, long expectedVersion, long amount) {
+                return null;
+            }
+        };
+        PointHistoryTable pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        DailyPointAccumulator accumulator = new DailyPointAccumulator();
+        OptimisticRetryPolicy retryPolicy = new OptimisticRetryPolicy(new ConcurrencyProperties(
+                ConcurrencyProperties.Mode.OPTIMISTIC, 3, Duration.ZERO, Duration.ZERO, 0, 1024));
+        PointService pointService = pointService(userPointTable, pointHistoryTable, accumulator, retryPolicy);
+        KSTTimeProvider timeProvider = new KSTTimeProvider();
+
+        // when
+        OptimisticConflictException exception = assertThrows(OptimisticConflictException.class,
+                () -> pointService.charge(USER_ID, 1_000L));
+
+        // then
+        assertEquals(ServiceErrorMessages.CONCURRENT_UPDATE_CONFLICT, exception.getMessage());
+        assertEquals(new OptimisticRetryPolicy.RetrySnapshot(3, 3, 2, 1), retryPolicy.snapshot());
+        assertEquals(0L, accumulator.loadedTodayTotal(USER_ID, TransactionType.CHARGE, timeProvider.getStartOfTodayMillis()));
+        assertTrue(pointHistoryTable.selectAllByUserId(USER_ID).isEmpty());
+    }
+
+//  ================================================================
+
+    private static void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                      OptimisticRetryPolicy retryPolicy) {
+        return pointService(userPointTable, pointHistoryTable, new DailyPointAccumulator(), retryPolicy);
+    }
+
+    private PointService pointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                      DailyPointAccumulator accumulator, OptimisticRetryPolicy retryPolicy) {
+        fixture = PointServiceFixtures.builder(userPointTable, pointHistoryTable)
+                .dailyPointAccumulator(accumulator)
+                .optimisticRetryPolicy(retryPolicy)
+                .build();
+        return fixture.pointService();
+    }
+}
@@ -0,0 +1,187 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.domain.point.service.DailyPointAccumulator;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.cache.UserPointCache;
+import io.hhplus.tdd.infrastructure.cache.UserPointCacheProperties;
+import io.hhplus.tdd.infrastructure.database.GroupCommitPointHistoryWriter;
+import io.hhplus.tdd.infrastructure.database.GroupCommitProperties;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.executor.PointExecutorProperties;
+import io.hhplus.tdd.infrastructure.executor.PointTaskExecutor;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.lock.CoalescingProperties;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import io.hhplus.tdd.infrastructure.lock.OptimisticRetryPolicy;
+import io.hhplus.tdd.infrastructure.lock.UserLockManager;
+import io.hhplus.tdd.infrastructure.lock.UserRequestCoalescer;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.hhplus.tdd.infrastructure.time.ITimeProvider;
+import io.hhplus.tdd.infrastructure.time.KSTTimeProvider;
+import io.hhplus.tdd.infrastructure.wal.WalProperties;
+import io.hhplus.tdd.infrastructure.wal.WriteAheadLog;
+
+import java.time.Duration;
+
+/**
+ * 실제 테이블로 검증하는 PointService 테스트 공용 구성
+ * 기본값은 비관적 락, 잔액 캐시 사용, 그룹 커밋/WAL/요청 결합 미사용이며
+ * 각 테스트는 검증하려는 협력 객체만 바꿔서 서비스를 만듦
+ * - 구성이 직접 만든 실행기/샤드 처리기/그룹 커밋 작성기는 Fixture.close() 로 종료 (@AfterEach 또는 try-with-resources)
+ * <pre>
+ * try (PointServiceFixtures.Fixture fixture = PointServiceFixtures.builder(userPointTable, pointHistoryTable)
+ *         .optimisticRetryPolicy(retryPolicy)
+ *         .build()) {
+ *     PointService pointService = fixture.pointService();
+ * }
+ * </pre>
+ */
+public final class PointServiceFixtures {
+
+    private PointServiceFixtures() {
+        throw new AssertionError("인스턴스 생성 불가");
+    }
+
+    public static Builder builder(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        return new Builder(userPointTable, pointHistoryTable);
+    }
+
+    // 기본 동시성 설정 (PESSIMISTIC)
+    public static ConcurrencyProperties concurrencyProperties(ConcurrencyProperties.Mode mode, int shards) {
+        return new ConcurrencyProperties(mode, 10, Duration.ofMillis(1), Duration.ofMillis(50), shards, 1024);
+    }
+
+    /**
+     * 구성된 PointService 와, 구성이 직접 만든 협력 객체의 종료 핸들
+     * - 호출자가 지정한 실행기/샤드 처리기/WAL 은 종료하지 않음 (호출자가 관리)
+     */
+    public static final class Fixture implements AutoCloseable {
+
+        private final PointService pointService;
+        private final PointTaskExecutor ownedPointTaskExecutor;
+        private final ShardedCommandProcessor ownedShardedCommandProcessor;
+        private final GroupCommitPointHistoryWriter groupCommitPointHistoryWriter;
+
+        private Fixture(PointService pointService, PointTaskExecutor ownedPointTaskExecutor,
+                        ShardedCommandProcessor ownedShardedCommandProcessor,
+                        GroupCommitPointHistoryWriter groupCommitPointHistoryWriter) {
+            this.pointService = pointService;
+            this.ownedPointTaskExecutor = ownedPointTaskExecutor;
+            this.ownedShardedCommandProcessor = ownedShardedCommandProcessor;
+            this.groupCommitPointHistoryWriter = groupCommitPointHistoryWriter;
+        }
+
+        public PointService pointService() {
+            return pointService;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            if (ownedShardedCommandProcessor != null) {
+                ownedShardedCommandProcessor.stop();
+            }
+            groupCommitPointHistoryWriter.stop();
+            if (ownedPointTaskExecutor != null) {
+                ownedPointTaskExecutor.shutdown();
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final UserPointTable userPointTable;
+        private final PointHistoryTable pointHistoryTable;
+        private ITimeProvider timeProvider = new KSTTimeProvider();
+        private UserLockManager userLockManager = new UserLockManager();
+        private DailyPointAccumulator dailyPointAccumulator = new DailyPointAccumulator();
+        private UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 100));
+        private PointTaskExecutor pointTaskExecutor;
+        private OptimisticRetryPolicy optimisticRetryPolicy;
+        private ShardedCommandProcessor shardedCommandProcessor;
+        private UserRequestCoalescer userRequestCoalescer;
+        private WriteAheadLog writeAheadLog;
+
+        private Builder(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+            this.userPointTable = userPointTable;
+            this.pointHistoryTable = pointHistoryTable;
+        }
+
+        public Builder timeProvider(ITimeProvider timeProvider) {
+            this.timeProvider = timeProvider;
+            return this;
+        }
+
+        // 요청 결합기를 직접 지정하는 경우 같은 락 관리자를 함께 지정
+        public Builder userLockManager(UserLockManager userLockManager) {
+            this.userLockManager = userLockManager;
+            return this;
+        }
+
+        public Builder dailyPointAccumulator(DailyPointAccumulator dailyPointAccumulator) {
+            this.dailyPointAccumulator = dailyPointAccumulator;
+            return this;
+        }
+
+        public Builder userPointCache(UserPointCache userPointCache) {
+            this.userPointCache = userPointCache;
+            return this;
+        }
+
+        // 실행기의 종료는 호출자가 관리 (Fixture.close() 에서 종료하지 않음)
+        public Builder pointTaskExecutor(PointTaskExecutor pointTaskExecutor) {
+            this.pointTaskExecutor = pointTaskExecutor;
+            return this;
+        }
+
+        public Builder optimisticRetryPolicy(OptimisticRetryPolicy optimisticRetryPolicy) {
+            this.optimisticRetryPolicy = optimisticRetryPolicy;
+            return this;
+        }
+
+        // 샤드 처리기의 시작/종료는 호출자가 관리 (Fixture.close() 에서 종료하지 않음)
+        public Builder shardedCommandProcessor(ShardedCommandProcessor shardedCommandProcessor) {
+            this.shardedCommandProcessor = shardedCommandProcessor;
+            return this;
+        }
+
+        public Builder userRequestCoalescer(UserRequestCoalescer userRequestCoalescer) {
+            this.userRequestCoalescer = userRequestCoalescer;
+            return this;
+        }
+
+        // WAL 의 시작/종료는 호출자가 관리
+        public Builder writeAheadLog(WriteAheadLog writeAheadLog) {
+            this.writeAheadLog = writeAheadLog;
+            return this;
+        }
+
+        public Fixture build() {
+            ConcurrencyProperties concurrency = concurrencyProperties(ConcurrencyProperties.Mode.PESSIMISTIC, 0);
+            PointTaskExecutor ownedPointTaskExecutor = pointTaskExecutor != null ? null
+                    : new PointTaskExecutor(new PointExecutorProperties(1, 1, 1, Duration.ofSeconds(60), false));
+            ShardedCommandProcessor ownedShardedCommandProcessor = shardedCommandProcessor != null ? null
+                    : new ShardedCommandProcessor(concurrency);
+            GroupCommitPointHistoryWriter groupCommitPointHistoryWriter =
+                    new GroupCommitPointHistoryWriter(pointHistoryTable, new GroupCommitProperties(false, 256, Duration.ofMillis(5)));
+            PointService pointService = new PointService(
+                    userPointTable,
+                    pointHistoryTable,
+                    timeProvider,
+                    userLockManager,
+                    dailyPointAccumulator,
+                    groupCommitPointHistoryWriter,
+                    userPointCache,
+                    pointTaskExecutor != null ? pointTaskExecutor : ownedPointTaskExecutor,
+                    writeAheadLog != null ? writeAheadLog
+                            : new WriteAheadLog(userPointTable, pointHistoryTable, new WalProperties(false, "data/wal", Duration.ZERO, Duration.ofMinutes(5))),
+                    optimisticRetryPolicy != null ? optimisticRetryPolicy : new OptimisticRetryPolicy(concurrency),
+                    shardedCommandProcessor != null ? shardedCommandProcessor : ownedShardedCommandProcessor,
+                    userRequestCoalescer != null ? userRequestCoalescer
+                            : new UserRequestCoalescer(new CoalescingProperties(false, 256), userLockManager),
+                    PointMetrics.noop()
+            );
+            return new Fixture(pointService, ownedPointTaskExecutor, ownedShardedCommandProcessor, groupCommitPointHistoryWriter);
+        }
+    }
+}
@@ -1,26 +1,54 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.domain.point.dto.PointOperation;
+import io.hhplus.tdd.domain.point.dto.PointOperationResult;
+import io.hhplus.tdd.domain.point.dto.PointSummary;
+import io.hhplus.tdd.domain.point.service.DailyPointAccumulator;
 import io.hhplus.tdd.domain.point.service.PointService;
 import io.hhplus.tdd.infrastructure.time.ITimeProvider;
 import io.hhplus.tdd.domain.point.model.PointHistory;
 import io.hhplus.tdd.domain.point.model.TransactionType;
 import io.hhplus.tdd.domain.point.model.UserPoint;
 import io.hhplus.tdd.domain.point.policy.PointPolicy;
+import io.hhplus.tdd.infrastructure.cache.UserPointCache;
+import io.hhplus.tdd.infrastructure.cache.UserPointCacheProperties;
+import io.hhplus.tdd.infrastructure.database.GroupCommitPointHistoryWriter;
 import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
 import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.executor.PointExecutorProperties;
+import io.hhplus.tdd.infrastructure.executor.PointTaskExecutor;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.lock.CoalescingProperties;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import io.hhplus.tdd.infrastructure.lock.OptimisticRetryPolicy;
+import io.hhplus.tdd.infrastructure.lock.UserLockManager;
+import io.hhplus.tdd.infrastructure.lock.UserRequestCoalescer;
+import io.hhplus.tdd.infrastructure.metrics.PointMetrics;
+import io.hhplus.tdd.infrastructure.wal.WriteAheadLog;
 import io.hhplus.tdd.domain.point.error.DomainErrorMessages;
 import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.common.error.ApiErrorMessages;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -38,6 +66,11 @@ import static org.mockito.Mockito.when;
  * 2. use(): 포인트 사용 (정상 / 최소 / 최대 / 잔액 부족 / 일일 한도 초과)
  * 3. point(): 사용자 포인트 조회 (존재 / 0원 / 존재하지 않음)
  * 4. history(): 포인트 이력 조회 (존재 / 없음 / 존재하지 않음)
+ * 5. chargeAsync() / useAsync() / pointAsync(): 비동기 실행기에서의 처리 결과 및 예외 전달
+ * 6. chargeAll() / useAll(): 사용자별 일괄 처리 (잔액 저장 1회 / 항목별 실패 / 일일 한도 / 잘못된 사용자 ID)
+ * 7. chargeFast() / useFast(): 할당 없는 경로의 결과 및 정책 검증 (정상 / 잔액 부족 / 일일 한도 누적)
+ * 8. summary(): 이력 요약 조회 (존재 / 존재하지 않음)
+ * 9. exportHistory(): 이력 내보내기 (타입 필터 / 잘못된 범위)
  */
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +90,48 @@ class PointServiceTest {
     @Mock
     private ITimeProvider timeProvider;
 
+    // 그룹 커밋 비활성(isEnabled() == false) 상태로 두어 pointHistoryTable.insert 경로를 검증
+    @Mock
+    private GroupCommitPointHistoryWriter historyWriter;
+
+    // WAL 비활성(isEnabled() == false) 상태로 두어 메모리 테이블만 사용
+    @Mock
+    private WriteAheadLog writeAheadLog;
+
+    // 락은 실제 동작을 그대로 사용 (단위 테스트에서는 단일 스레드이므로 대기 없이 통과)
+    @Spy
+    private UserLockManager userLockManager = new UserLockManager();
+
+    // 일일 누적 금액 집계기도 실제 동작을 사용 (최초 조회 시 pointHistoryTable mock 으로부터 초기화)
+    @Spy
+    private DailyPointAccumulator dailyPointAccumulator = new DailyPointAccumulator();
+
+    // 잔액 캐시도 실제 동작을 사용 (테스트마다 새로 생성되므로 최초 조회는 항상 userPointTable mock 으로 위임)
+    @Spy
+    private UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(true, 100));
+
+    // 기본 설정(비관적 락)으로 두어 사용자 락 경로를 검증
+    @Spy
+    private OptimisticRetryPolicy optimisticRetryPolicy = new OptimisticRetryPolicy(
+            new ConcurrencyProperties(ConcurrencyProperties.Mode.PESSIMISTIC, 10, Duration.ofMillis(1), Duration.ofMillis(50), 0, 1024));
+
+    // 비관적 락 모드이므로 샤드 처리기는 시작하지 않음 (isEnabled() == false)
+    @Spy
+    private ShardedCommandProcessor shardedCommandProcessor = new ShardedCommandProcessor(
+            new ConcurrencyProperties(ConcurrencyProperties.Mode.PESSIMISTIC, 10, Duration.ofMillis(1), Duration.ofMillis(50), 0, 1024));
+
+    // 요청 결합은 사용하지 않음 (단건 요청마다 사용자 락 경로로 처리)
+    @Spy
+    private UserRequestCoalescer userRequestCoalescer = new UserRequestCoalescer(new CoalescingProperties(false, 256), new UserLockManager());
+
+    // 비동기 API 는 실제 스레드 풀에서 실행
+    @Spy
+    private PointTaskExecutor pointTaskExecutor = new PointTaskExecutor(new PointExecutorProperties(2, 2, 16, Duration.ofSeconds(60), false));
+
+    // 지표는 어디에도 내보내지 않는 레지스트리에 기록
+    @Spy
+    private PointMetrics pointMetrics = PointMetrics.noop();
+
 // ================== charge ==================
     // 성공 케이스
     // [정상 케이스] 사용자가 유효하고, 하루 충전 한도 내에서 포인트 충전이 정상적으로 처리되는지 검증
@@ -179,6 +254,30 @@ class PointServiceTest {
         );
         assertEquals(ServiceErrorMessages.DAILY_CHARGE_LIMIT, exception.getMessage());
     }
+    // [정책 위반 테스트] 이력을 다시 조회하지 않고도 앞선 충전 금액이 일일 한도에 누적 반영되는지 검증
+    @Test
+    void charge_연속충전_누적금액으로_하루한도_초과_실패() {
+        long amount = PointPolicy.MAX_CHARGE_AMOUNT;
+        long now = System.currentTimeMillis();
+
+        when(userPointTable.selectById(USER_ID))
+                .thenReturn(new UserPoint(USER_ID, 0L, now));
+        when(userPointTable.insertOrUpdate(eq(USER_ID), anyLong()))
+                .thenReturn(new UserPoint(USER_ID, amount, now));
+        when(pointHistoryTable.selectAllByUserId(USER_ID)).thenReturn(List.of());
+
+        // 하루 한도(3,000,000)까지 충전
+        for (int i = 0; i < 3; i++) {
+            pointService.charge(USER_ID, amount);
+        }
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                pointService.charge(USER_ID, amount)
+        );
+        assertEquals(ServiceErrorMessages.DAILY_CHARGE_LIMIT, exception.getMessage());
+        // 이력 전체 조회는 최초 1회만 수행되어야 함
+        verify(pointHistoryTable, times(1)).selectAllByUserId(USER_ID);
+    }
 // ================== charge 끝 ==================
 
 // ================== use =================
@@ -435,4 +534,259 @@ class PointServiceTest {
         assertEquals(ServiceErrorMessages.USER_NOT_FOUND, exception.getMessage());
     }
 
+//  ========== history 끝 =======================
+
+//  ========== summary =======================
+    // [정상 케이스] 사용자의 이력 요약을 전체 이력 조회 없이 반환하는지 검증
+    @Test
+    void summary_이력요약_조회_성공() {
+        long now = System.currentTimeMillis();
+        when(userPointTable.selectById(USER_ID))
+                .thenReturn(new UserPoint(USER_ID, 500L, now));
+        PointSummary summary = new PointSummary(USER_ID, 1000L, 500L, now,
+                List.of(new PointSummary.PeriodTotal("2025-03-01", 1000L, 500L)),
+                List.of(new PointSummary.PeriodTotal("2025-03", 1000L, 500L)));
+        when(pointHistoryTable.selectSummaryByUserId(USER_ID)).thenReturn(summary);
+
+        PointSummary result = pointService.summary(USER_ID);
+
+        assertEquals(summary, result);
+        verify(pointHistoryTable, never()).selectAllByUserId(USER_ID);
+    }
+
+    // [에러 케이스] 존재하지 않는 사용자의 이력 요약 조회 시 예외가 발생하는지 검증
+    @Test
+    void summary_존재하지_않는_사용자_조회_실패() {
+        when(userPointTable.selectById(USER_ID)).thenReturn(null);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> pointService.summary(USER_ID)
+        );
+        assertEquals(ServiceErrorMessages.USER_NOT_FOUND, exception.getMessage());
+    }
+
+//  ========== summary 끝 =======================
+
+//  ========== export =======================
+    // [정상 케이스] 저장 구조의 이력 스트림에서 요청한 타입의 이력만 내보내는지 검증
+    @Test
+    void exportHistory_타입필터_이력_내보내기_성공() {
+        long now = System.currentTimeMillis();
+        when(userPointTable.selectById(USER_ID))
+                .thenReturn(new UserPoint(USER_ID, 500L, now));
+        PointHistory charge = new PointHistory(1L, USER_ID, 1000L, TransactionType.CHARGE, now);
+        PointHistory use = new PointHistory(2L, USER_ID, 500L, TransactionType.USE, now);
+        when(pointHistoryTable.streamByUserId(USER_ID, 0L, Long.MAX_VALUE)).thenReturn(Stream.of(charge, use));
+
+        List<PointHistory> result;
+        try (Stream<PointHistory> histories = pointService.exportHistory(USER_ID, TransactionType.USE, 0L, Long.MAX_VALUE)) {
+            result = histories.toList();
+        }
+
+        assertEquals(List.of(use), result);
+        verify(pointHistoryTable, never()).selectAllByUserId(USER_ID);
+    }
+
+    // [에러 케이스] 시작 시각이 종료 시각보다 늦으면 이력을 읽기 전에 예외가 발생하는지 검증
+    @Test
+    void exportHistory_잘못된_조회범위_실패() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> pointService.exportHistory(USER_ID, null, 300L, 100L)
+        );
+        assertEquals(ApiErrorMessages.HISTORY_RANGE_INVALID, exception.getMessage());
+        verify(pointHistoryTable, never()).streamByUserId(anyLong(), anyLong(), anyLong());
+    }
+
+//  ========== export 끝 =======================
+
+//  ========== async =======================
+    // [정상 케이스] 비동기 충전이 요청 스레드가 아닌 실행기 스레드에서 처리되고 결과를 Future 로 반환하는지 검증
+    @Test
+    void chargeAsync_실행기스레드에서_충전_성공() {
+        long existing = 1_000L;
+        long amount = 500L;
+        long now = System.currentTimeMillis();
+        String[] executedOn = new String[1];
+
+        when(userPointTable.selectById(USER_ID))
+                .thenReturn(new UserPoint(USER_ID, existing, now));
+        when(userPointTable.insertOrUpdate(USER_ID, existing + amount))
+                .thenAnswer(invocation -> {
+                    executedOn[0] = Thread.currentThread().getName();
+                    return new UserPoint(USER_ID, existing + amount, now);
+                });
+
+        CompletableFuture<UserPoint> future = pointService.chargeAsync(USER_ID, amount);
+
+        assertEquals(existing + amount, future.join().point());
+        assertTrue(executedOn[0].startsWith("point-async-"), "충전은 비동기 실행기 스레드에서 수행되어야 함");
+    }
+    // [에러 케이스] 비동기 사용 중 발생한 정책 위반 예외가 Future 의 예외로 전달되는지 검증
+    @Test
+    void useAsync_잔액부족_예외를_Future로_전달() {
+        when(userPointTable.selectById(USER_ID))
+                .thenReturn(new UserPoint(USER_ID, 500L, System.currentTimeMillis()));
+
+        CompletableFuture<UserPoint> future = pointService.useAsync(USER_ID, 1_000L);
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(DomainErrorMessages.INSUFFICIENT_BALANCE, exception.getCause().getMessage());
+    }
+    // [정상 케이스] 비동기 조회가 동기 조회와 같은 결과를 반환하는지 검증
+    @Test
+    void pointAsync_포인트_조회_성공() {
+        when(userPointTable.selectById(USER_ID))
+                .thenReturn(new UserPoint(USER_ID, 1_000L, System.currentTimeMillis()));
+
+        assertEquals(1_000L, pointService.pointAsync(USER_ID).join().point());
+    }
+
+//  ========== async 끝 =======================
+
+//  ========== bulk =======================
+    // [성능 검증] 같은 사용자의 여러 항목이 요청 순서대로 적용되고, 잔액 저장과 이력 저장은 사용자당 1회만 수행되는지 검증
+    @Test
+    void chargeAll_사용자별_잔액저장_1회_요청순서_결과_성공() {
+        long now = System.currentTimeMillis();
+        List<PointOperation> operations = List.of(
+                new PointOperation(USER_ID, 1_000L),
+                new PointOperation(2L, 2_000L),
+                new PointOperation(USER_ID, 3_000L)
+        );
+
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 10_000L, now));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, 0L, now));
+        when(userPointTable.insertOrUpdate(USER_ID, 14_000L)).thenReturn(new UserPoint(USER_ID, 14_000L, now));
+        when(userPointTable.insertOrUpdate(2L, 2_000L)).thenReturn(new UserPoint(2L, 2_000L, now));
+
+        List<PointOperationResult> results = pointService.chargeAll(operations);
+
+        assertTrue(results.stream().allMatch(PointOperationResult::success));
+        assertEquals(List.of(11_000L, 2_000L, 14_000L), results.stream().map(PointOperationResult::balance).toList());
+        verify(userPointTable, times(1)).insertOrUpdate(eq(USER_ID), anyLong());
+        verify(pointHistoryTable, times(2)).insertAll(anyList());
+        verify(userLockManager, times(1)).executeWithLock(eq(USER_ID), any());
+    }
+    // [에러 케이스] 잔액 부족/최소 금액 미만 항목만 실패 처리되고 나머지 항목은 반영되는지 검증
+    @Test
+    void useAll_실패항목만_제외하고_반영_성공() {
+        long now = System.currentTimeMillis();
+        List<PointOperation> operations = List.of(
+                new PointOperation(USER_ID, 600L),
+                new PointOperation(USER_ID, 600L),                        // 잔액 부족 (잔액 400)
+                new PointOperation(USER_ID, PointPolicy.MIN_USE_AMOUNT - 1), // 최소 사용 금액 미만
+                new PointOperation(USER_ID, 300L)
+        );
+
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 1_000L, now));
+        when(userPointTable.insertOrUpdate(USER_ID, 100L)).thenReturn(new UserPoint(USER_ID, 100L, now));
+
+        List<PointOperationResult> results = pointService.useAll(operations);
+
+        assertEquals(List.of(true, false, false, true), results.stream().map(PointOperationResult::success).toList());
+        assertEquals(DomainErrorMessages.INSUFFICIENT_BALANCE, results.get(1).errorMessage());
+        assertEquals(100L, results.get(3).balance());
+        verify(userPointTable, times(1)).insertOrUpdate(USER_ID, 100L);
+    }
+    // [정책 위반 테스트] 일괄 충전 항목의 누적 금액이 하루 충전 한도를 넘는 순간부터 실패하는지 검증
+    @Test
+    void chargeAll_누적금액_하루한도_초과_항목_실패() {
+        long now = System.currentTimeMillis();
+        List<PointOperation> operations = List.of(
+                new PointOperation(USER_ID, PointPolicy.MAX_CHARGE_AMOUNT),
+                new PointOperation(USER_ID, PointPolicy.MAX_CHARGE_AMOUNT),
+                new PointOperation(USER_ID, PointPolicy.MAX_CHARGE_AMOUNT),
+                new PointOperation(USER_ID, PointPolicy.MIN_CHARGE_AMOUNT)
+        );
+        long expected = PointPolicy.DAILY_CHARGE_LIMIT;
+
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 0L, now));
+        when(userPointTable.insertOrUpdate(USER_ID, expected)).thenReturn(new UserPoint(USER_ID, expected, now));
+
+        List<PointOperationResult> results = pointService.chargeAll(operations);
+
+        assertEquals(List.of(true, true, true, false), results.stream().map(PointOperationResult::success).toList());
+        assertEquals(ServiceErrorMessages.DAILY_CHARGE_LIMIT, results.get(3).errorMessage());
+    }
+    // [에러 케이스] 사용자 ID 가 양수가 아닌 항목은 사용자 락/테이블을 거치지 않고 해당 항목만 실패하는지 검증
+    @Test
+    void chargeAll_잘못된사용자ID_항목만_실패() {
+        long now = System.currentTimeMillis();
+        List<PointOperation> operations = List.of(
+                new PointOperation(0L, 1_000L),
+                new PointOperation(USER_ID, 1_000L),
+                new PointOperation(-1L, 1_000L)
+        );
+
+        when(userPointTable.selectById(USER_ID)).thenReturn(new UserPoint(USER_ID, 0L, now));
+        when(userPointTable.insertOrUpdate(USER_ID, 1_000L)).thenReturn(new UserPoint(USER_ID, 1_000L, now));
+
+        List<PointOperationResult> results = pointService.chargeAll(operations);
+
+        assertEquals(List.of(false, true, false), results.stream().map(PointOperationResult::success).toList());
+        assertEquals(ApiErrorMessages.USER_ID_NEGATIVE, results.get(0).errorMessage());
+        assertEquals(ApiErrorMessages.USER_ID_NEGATIVE, results.get(2).errorMessage());
+        assertEquals(1_000L, results.get(1).balance());
+        verify(userLockManager, times(1)).executeWithLock(anyLong(), any());
+        verify(userPointTable, never()).selectById(0L);
+        verify(userPointTable, never()).selectById(-1L);
+    }
+
+//  ========== fast =======================
+    // [정상 케이스] 할당 없는 충전이 잔액을 long 값으로 갱신하고, 캐시 사용 시 기존 이력 저장 경로를 타는지 검증
+    @Test
+    void chargeFast_정상포인트_충전_성공() {
+        // given
+        long existing = 1_000_000L;
+        long amount = 500_000L;
+        when(userPointTable.selectPoint(USER_ID)).thenReturn(existing);
+        when(pointHistoryTable.selectAllByUserId(USER_ID)).thenReturn(List.of());
+
+        // when
+        long result = pointService.chargeFast(USER_ID, amount);
+
+        // then
+        assertEquals(existing + amount, result);
+        verify(userPointTable).updatePoint(USER_ID, existing + amount);
+        verify(pointHistoryTable).insert(eq(USER_ID), eq(amount), eq(TransactionType.CHARGE), anyLong());
+        assertEquals(existing + amount, userPointCache.get(USER_ID, id -> null).point());
+    }
+    // [에러 케이스] 할당 없는 사용에서도 잔액 부족 시 같은 메시지로 실패하고 잔액은 갱신되지 않는지 검증
+    @Test
+    void useFast_잔액부족_실패() {
+        // given
+        when(userPointTable.selectPoint(USER_ID)).thenReturn(500L);
+        when(pointHistoryTable.selectAllByUserId(USER_ID)).thenReturn(List.of());
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pointService.useFast(USER_ID, 1_000L));
+
+        // then
+        assertEquals(DomainErrorMessages.INSUFFICIENT_BALANCE, exception.getMessage());
+        verify(userPointTable, never()).updatePoint(anyLong(), anyLong());
+    }
+    // [정책 위반 테스트] 할당 없는 충전도 일일 누적 금액을 반영하여 하루 한도를 넘으면 실패하는지 검증
+    @Test
+    void chargeFast_누적금액_하루한도_초과_실패() {
+        // given
+        long amount = PointPolicy.MAX_CHARGE_AMOUNT;
+        when(userPointTable.selectPoint(USER_ID)).thenReturn(0L);
+        when(pointHistoryTable.selectAllByUserId(USER_ID)).thenReturn(List.of());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            pointService.chargeFast(USER_ID, amount);
+        }
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pointService.chargeFast(USER_ID, amount));
+
+        // then
+        assertEquals(ServiceErrorMessages.DAILY_CHARGE_LIMIT, exception.getMessage());
+        verify(pointHistoryTable, times(1)).selectAllByUserId(USER_ID);
+    }
+
 }
@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.domain.point.error.ServiceErrorMessages;
+import io.hhplus.tdd.domain.point.model.UserPoint;
+import io.hhplus.tdd.domain.point.service.PointService;
+import io.hhplus.tdd.infrastructure.database.ConcurrentMapUserPointStore;
+import io.hhplus.tdd.infrastructure.database.InMemoryPointHistoryStore;
+import io.hhplus.tdd.infrastructure.database.PointHistoryTable;
+import io.hhplus.tdd.infrastructure.database.UserPointTable;
+import io.hhplus.tdd.infrastructure.executor.ShardedCommandProcessor;
+import io.hhplus.tdd.infrastructure.latency.LatencyModel;
+import io.hhplus.tdd.infrastructure.lock.ConcurrencyProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 샤드 단일 작성자 처리(point.concurrency.mode=SHARDED) 테스트
+ * 사용자 락 없이 샤드 스레드에서 직렬화하는 경로가 동시 요청에서도 갱신을 잃지 않는지 실제 테이블로 검증
+ * - 테이블 지연은 고정 1ms 로 두어, 직렬화되지 않으면 조회와 저장 사이에 다른 요청이 끼어들도록 함
+ * 테스트 항목:
+ * 1. 여러 사용자에 대한 동기/비동기 동시 충전이 모두 반영되는지 확인 (유실 없음)
+ * 2. 동시 사용 요청의 합이 일일 사용 한도를 넘지 않고, 초과분은 검증 예외로 실패하는지 확인
+ */
+class ShardedPointServiceTest {
+
+    private static final int SHARDS = 2;
+
+    private final ShardedCommandProcessor processor = new ShardedCommandProcessor(
+            PointServiceFixtures.concurrencyProperties(ConcurrencyProperties.Mode.SHARDED, SHARDS));
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private PointServiceFixtures.Fixture fixture;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        processor.start();
+        userPointTable = new UserPointTable(LatencyModel.fixed(Duration.ofMillis(1)), new ConcurrentMapUserPointStore());
+        pointHistoryTable = new PointHistoryTable(LatencyModel.zero(), new InMemoryPointHistoryStore());
+        fixture = PointServiceFixtures.builder(userPointTable, pointHistoryTable)
+                .shardedCommandProcessor(processor)
+                .build();
+        pointService = fixture.pointService();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fixture.close();
+        processor.stop();
+    }
+
+    @Test
+    void charge_동시요청_유실없음() throws InterruptedException {
+        // given - 사용자 4명 (샤드마다 2명)
+        long[] userIds = {1L, 2L, 3L, 4L};
+        int threads = 8;
+        int chargesPerThread = 10;
+        long amount = 1_000L;
+
+        // when - 스레드마다 모든 사용자에게 동기 충전과 비동기 충전을 번갈아 요청
+        AtomicInteger failures = new AtomicInteger();
+        runConcurrently(threads, () -> {
+            List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+            for (int i = 0; i < chargesPerThread; i++) {
+                for (long userId : userIds) {
+                    try {
+                        if (i % 2 == 0) {
+                            pointService.charge(userId, amount);
+                        } else {
+                            futures.add(pointService.chargeAsync(userId, amount));
+                        }
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }
+            futures.forEach(CompletableFuture::join);
+        });
+
+        // then
+        int requestsPerUser = threads * chargesPerThread;
+        assertEquals(0, failures.get());
+        for (long userId : userIds) {
+            assertEquals(requestsPerUser * amount, pointService.point(userId).point());
+            assertEquals(requestsPerUser, pointHistoryTable.selectAllByUserId(userId).size());
+        }
+        assertEquals((long) requestsPerUser * userIds.length, processor.processedCount());
+    }
+
+    @Test
+    void use_동시요청_일일한도_초과없음() throws InterruptedException {
+        // given
+        long userId = 1L;
+        userPointTable.insertOrUpdate(userId, 20_000_000L);
+        long amount = 1_000_000L;
+
+        // when - 16건 x 1,000,000 요청 (일일 사용 한도 10,000,000), 절반은 비동기
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger limited = new AtomicInteger();
+        AtomicInteger requests = new AtomicInteger();
+        runConcurrently(16, () -> {
+            try {
+                if (requests.getAndIncrement() % 2 == 0) {
+                    pointService.use(userId, amount);
+                } else {
+                    pointService.useAsync(userId, amount).join();
+                }
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException | CompletionException e) {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                assertEquals(ServiceErrorMessages.MAX_USE_AMOUNT_PER_DAY, cause.getMessage());
+                limited.incrementAndGet();
+            }
+        });
+
+        // then
+        assertEquals(10, succeeded.get());
+        assertEquals(6, limited.get());
+        assertEquals(10_000_000L, pointService.point(userId).point());
+    }
+
+//  ================================================================
+
+    private static void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.utils;
+
+import io.hhplus.tdd.common.utils.ConcurrentLongMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConcurrentLongMap 테스트
+ * long 키 전용 개방 주소법 맵이 Map 과 같은 저장/조회/삭제 결과를 내는지 검증
+ * 테스트 항목:
+ * 1. 저장/덮어쓰기/삭제 후 조회 결과 확인
+ * 2. 삭제로 생긴 빈 슬롯 뒤의 충돌 엔트리가 계속 조회되는지 확인 (backward shift)
+ * 3. 세그먼트 확장 후에도 모든 엔트리가 유지되는지 확인
+ * 4. 여러 스레드가 같은 키로 computeIfAbsent 해도 값이 하나만 만들어지는지 확인
+ * 5. removeIf 가 조건에 맞는 값만 모두 삭제하고 나머지(당겨진 충돌 엔트리 포함)는 계속 조회되는지 확인
+ */
+class ConcurrentLongMapTest {
+
+    @Test
+    void put_get_remove_저장_덮어쓰기_삭제() {
+        // given
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4);
+
+        // when
+        assertNull(map.put(1L, "a"));
+        assertEquals("a", map.put(1L, "b"));
+        map.put(-7L, "c");
+
+        // then
+        assertEquals("b", map.get(1L));
+        assertEquals("c", map.get(-7L));
+        assertNull(map.get(2L));
+        assertEquals("b", map.remove(1L));
+        assertNull(map.get(1L));
+        assertNull(map.remove(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void remove_중간삭제후_나머지키_조회_성공() {
+        // given - 세그먼트 1개에 키를 채워 충돌 체인을 만듦
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(1);
+        for (long key = 0; key < 12; key++) {
+            map.put(key, key * 10);
+        }
+
+        // when
+        for (long key = 0; key < 12; key += 3) {
+            map.remove(key);
+        }
+
+        // then
+        for (long key = 0; key < 12; key++) {
+            if (key % 3 == 0) {
+                assertNull(map.get(key));
+            } else {
+                assertEquals(key * 10, map.get(key));
+            }
+        }
+        assertEquals(8, map.size());
+    }
+
+    @Test
+    void removeIf_조건일치_전체삭제_나머지_조회() {
+        // given - 세그먼트 1개에 확장/충돌이 생기도록 채움
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(1);
+        for (long key = 0; key < 1_000; key++) {
+            map.put(key, key);
+        }
+
+        // when
+        int removed = map.removeIf(value -> value % 3 == 0);
+
+        // then
+        assertEquals(334, removed);
+        assertEquals(666, map.size());
+        for (long key = 0; key < 1_000; key++) {
+            if (key % 3 == 0) {
+                assertNull(map.get(key));
+            } else {
+                assertEquals(key, map.get(key));
+            }
+        }
+    }
+
+    @Test
+    void put_확장후_전체_엔트리_유지() {
+        // given
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(2);
+        int count = 10_000;
+
+        // when
+        for (long key = 1; key <= count; key++) {
+            map.put(key, key);
+        }
+
+        // then
+        assertEquals(count, map.size());
+        for (long key = 1; key <= count; key++) {
+            assertEquals(key, map.get(key));
+        }
+        AtomicInteger visited = new AtomicInteger();
+        map.forEachValue(value -> visited.incrementAndGet());
+        assertEquals(count, visited.get());
+    }
+
+    @Test
+    void computeIfAbsent_동시호출_값_하나만_생성() throws InterruptedException {
+        // given
+        ConcurrentLongMap<Object> map = new ConcurrentLongMap<>();
+        int threads = 8;
+        int keys = 1_000;
+        AtomicInteger created = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (long key = 0; key < keys; key++) {
+                        map.computeIfAbsent(key, k -> {
+                            created.incrementAndGet();
+                            return new Object();
+                        });
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertEquals(keys, created.get());
+        assertEquals(keys, map.size());
+    }
+}